@@ -0,0 +1,94 @@
+package net.runelite.client.eventbus;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks posting events to the {@link EventBus} and registering objects with it, with many subscribers of the
+ * posted event and of other events. Run with {@code -prof gc} to check that posting doesn't allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBusBenchmark
+{
+	@Param({"1", "10", "100"})
+	private int subscribers;
+
+	private EventBus eventBus;
+	private final TickEvent event = new TickEvent();
+	private final Listener listener = new Listener();
+
+	@Setup
+	public void setUp()
+	{
+		eventBus = new EventBus();
+		for (int i = 0; i < subscribers; i++)
+		{
+			eventBus.register(new Listener());
+			eventBus.register(new OtherListener());
+		}
+	}
+
+	/**
+	 * Posts an event to every subscriber, as the client does with every event each tick.
+	 */
+	@Benchmark
+	public void post()
+	{
+		eventBus.post(event);
+	}
+
+	/**
+	 * Registers and unregisters an object, as plugins do when they start and stop.
+	 */
+	@Benchmark
+	public void registerUnregister()
+	{
+		eventBus.register(listener);
+		eventBus.unregister(listener);
+	}
+
+	public static class TickEvent
+	{
+	}
+
+	public static class OtherEvent
+	{
+	}
+
+	public static class Listener
+	{
+		private int ticks;
+
+		@Subscribe
+		public void onTickEvent(TickEvent event)
+		{
+			ticks++;
+		}
+	}
+
+	public static class OtherListener
+	{
+		private int events;
+
+		@Subscribe
+		public void onOtherEvent(OtherEvent event)
+		{
+			events++;
+		}
+	}
+}
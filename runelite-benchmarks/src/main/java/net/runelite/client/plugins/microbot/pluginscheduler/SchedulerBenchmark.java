@@ -0,0 +1,66 @@
+package net.runelite.client.plugins.microbot.pluginscheduler;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.plugins.microbot.pluginscheduler.simulation.SchedulerSimulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the plugin scheduler's event delivery and decisions with many schedule entries, using
+ * {@link SchedulerSimulation}. Run with {@code -prof gc} to see the allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchedulerBenchmark
+{
+	@Param({"100", "1000", "5000"})
+	private int entries;
+
+	private SchedulerSimulation simulation;
+
+	@Setup(Level.Iteration)
+	public void setUp()
+	{
+		simulation = new SchedulerSimulation(entries, 1, ZonedDateTime.now());
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown()
+	{
+		simulation.close();
+	}
+
+	/**
+	 * One game tick: the tick and XP events delivered to every condition manager.
+	 */
+	@Benchmark
+	public void tick()
+	{
+		simulation.tick();
+	}
+
+	/**
+	 * One round of the scheduler loop's start and stop decisions.
+	 */
+	@Benchmark
+	public void decide()
+	{
+		simulation.decide();
+	}
+}
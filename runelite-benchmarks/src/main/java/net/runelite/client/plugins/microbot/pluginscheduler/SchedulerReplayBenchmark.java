@@ -0,0 +1,55 @@
+package net.runelite.client.plugins.microbot.pluginscheduler;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.plugins.microbot.pluginscheduler.simulation.SchedulerSimulation;
+import net.runelite.client.plugins.microbot.pluginscheduler.simulation.SimulationReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays an hour of plugin schedule with many schedule entries, from a fresh set of entries each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchedulerReplayBenchmark
+{
+	@Param({"100", "1000", "5000"})
+	private int entries;
+
+	private SchedulerSimulation simulation;
+
+	@Setup(Level.Invocation)
+	public void setUp()
+	{
+		simulation = new SchedulerSimulation(entries, 1, ZonedDateTime.now());
+	}
+
+	@TearDown(Level.Invocation)
+	public void tearDown()
+	{
+		simulation.close();
+	}
+
+	@Benchmark
+	public SimulationReport replayHour()
+	{
+		return simulation.run(Duration.ofHours(1));
+	}
+}
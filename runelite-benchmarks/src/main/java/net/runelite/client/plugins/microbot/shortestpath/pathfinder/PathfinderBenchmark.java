@@ -0,0 +1,115 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.ShortestPathConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks tile searches of the shortest-path {@link Pathfinder} over the bundled collision map. There is no client,
+ * so the searches only walk, as if logged out. Run with {@code -prof gc} to see the allocation per search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathfinderBenchmark
+{
+	/**
+	 * Start and target tiles, as {@code x,y,plane>x,y,plane}: Lumbridge to Draynor, Varrock and Falador.
+	 */
+	@Param({"3222,3218,0>3093,3244,0", "3222,3218,0>3213,3424,0", "3222,3218,0>2965,3380,0"})
+	private String route;
+
+	@Param({"false", "true"})
+	private boolean bidirectional;
+
+	@Param({"false", "true"})
+	private boolean hierarchical;
+
+	private PathfinderConfig config;
+	private WorldPoint start;
+	private WorldPoint target;
+
+	@Setup
+	public void setUp()
+	{
+		config = new PathfinderConfig(SplitFlagMap.fromResources(), new HashMap<>(), Collections.emptyList(),
+			client(), config(bidirectional, hierarchical));
+		config.refresh();
+
+		final String[] points = route.split(">");
+		start = parse(points[0]);
+		target = parse(points[1]);
+	}
+
+	@Benchmark
+	public List<WorldPoint> search()
+	{
+		final Pathfinder pathfinder = new Pathfinder(config, start, target);
+		pathfinder.run();
+		return pathfinder.getPath();
+	}
+
+	private static WorldPoint parse(String point)
+	{
+		final String[] coords = point.split(",");
+		return new WorldPoint(Integer.parseInt(coords[0]), Integer.parseInt(coords[1]), Integer.parseInt(coords[2]));
+	}
+
+	/**
+	 * A client which is never logged in, so the config doesn't read any player state.
+	 */
+	private static Client client()
+	{
+		return (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class},
+			(proxy, method, args) -> method.getName().equals("getGameState") ? GameState.LOGIN_SCREEN : null);
+	}
+
+	/**
+	 * The default config, with the search options of the benchmark.
+	 */
+	private static ShortestPathConfig config(boolean bidirectional, boolean hierarchical)
+	{
+		return (ShortestPathConfig) Proxy.newProxyInstance(ShortestPathConfig.class.getClassLoader(),
+			new Class<?>[]{ShortestPathConfig.class}, (proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "useBidirectionalSearch":
+						return bidirectional;
+					case "useHierarchicalPathfinding":
+						return hierarchical;
+				}
+
+				if (!method.isDefault())
+				{
+					return null;
+				}
+
+				return MethodHandles.privateLookupIn(ShortestPathConfig.class, MethodHandles.lookup())
+					.unreflectSpecial(method, ShortestPathConfig.class)
+					.bindTo(proxy)
+					.invokeWithArguments(args == null ? new Object[0] : args);
+			});
+	}
+}
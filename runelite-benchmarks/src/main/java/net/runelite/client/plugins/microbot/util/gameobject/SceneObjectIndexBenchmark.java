@@ -0,0 +1,190 @@
+package net.runelite.client.plugins.microbot.util.gameobject;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import net.runelite.api.Client;
+import net.runelite.api.Constants;
+import net.runelite.api.GameObject;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Perspective;
+import net.runelite.api.Point;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.client.plugins.microbot.Microbot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SceneObjectIndex} radius and nearest object queries against the scan over every scene object that
+ * Rs2GameObject did before the index. The objects are proxies spread over an extended scene, 1 to 3 tiles in size.
+ * The scan is given the objects as a ready list, so it doesn't pay for walking the scene tiles as the old snapshot did
+ * and its times are a lower bound.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SceneObjectIndexBenchmark
+{
+	private static final int IDS = 500;
+
+	@Param({"1000", "10000"})
+	private int objects;
+
+	/**
+	 * Query radius in tiles.
+	 */
+	@Param({"10", "30"})
+	private int radius;
+
+	private final List<TileObject> scene = new ArrayList<>();
+	private LocalPoint anchor;
+	private int distance;
+	private int searchedId;
+
+	@Setup
+	public void setUp()
+	{
+		Microbot.setClient(client());
+		SceneObjectIndex.clear();
+		scene.clear();
+
+		final Random random = new Random(42);
+		final int sceneSize = Constants.EXTENDED_SCENE_SIZE;
+		for (int i = 0; i < objects; i++)
+		{
+			final int size = 1 + random.nextInt(3);
+			final int x = random.nextInt(sceneSize - size);
+			final int y = random.nextInt(sceneSize - size);
+			final GameObject object = gameObject(random.nextInt(IDS), x, y, size);
+
+			final GameObjectSpawned event = new GameObjectSpawned();
+			event.setTile(tile(x, y));
+			event.setGameObject(object);
+			SceneObjectIndex.onGameObjectSpawned(event);
+			scene.add(object);
+		}
+
+		anchor = LocalPoint.fromScene(sceneSize / 2, sceneSize / 2);
+		distance = radius * Perspective.LOCAL_TILE_SIZE;
+		searchedId = random.nextInt(IDS);
+	}
+
+	@Benchmark
+	public List<TileObject> scanWithin()
+	{
+		return within(scene, o -> true);
+	}
+
+	@Benchmark
+	public List<TileObject> indexWithin()
+	{
+		return within(SceneObjectIndex.getWithin(0, anchor, distance), o -> true);
+	}
+
+	@Benchmark
+	public TileObject scanNearest()
+	{
+		// The old single object lookups sorted every match and took the first
+		return within(scene, o -> o.getId() == searchedId).stream().findFirst().orElse(null);
+	}
+
+	@Benchmark
+	public TileObject indexNearest()
+	{
+		final List<TileObject> nearest = SceneObjectIndex.getNearest(0, anchor, 1,
+			o -> o.getId() == searchedId && isWithin(o));
+		return nearest.isEmpty() ? null : nearest.get(0);
+	}
+
+	private List<TileObject> within(List<TileObject> candidates, Predicate<TileObject> predicate)
+	{
+		return candidates.stream()
+			.filter(this::isWithin)
+			.filter(predicate)
+			.sorted(Comparator.comparingInt(o -> o.getLocalLocation().distanceTo(anchor)))
+			.collect(Collectors.toList());
+	}
+
+	// Matches the radius filter of Rs2GameObject
+	private boolean isWithin(TileObject object)
+	{
+		return object.getLocalLocation().distanceTo(anchor) <= distance;
+	}
+
+	private static GameObject gameObject(int id, int x, int y, int size)
+	{
+		final Point min = new Point(x, y);
+		// Centre of the covered tiles, like the client reports for objects larger than a tile
+		final LocalPoint location = new LocalPoint(
+			(x << Perspective.LOCAL_COORD_BITS) + size * Perspective.LOCAL_HALF_TILE_SIZE,
+			(y << Perspective.LOCAL_COORD_BITS) + size * Perspective.LOCAL_HALF_TILE_SIZE);
+		return (GameObject) Proxy.newProxyInstance(GameObject.class.getClassLoader(), new Class<?>[]{GameObject.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "getId":
+						return id;
+					case "getPlane":
+						return 0;
+					case "getLocalLocation":
+						return location;
+					case "getSceneMinLocation":
+						return min;
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					case "equals":
+						return proxy == args[0];
+					default:
+						return null;
+				}
+			});
+	}
+
+	private static Tile tile(int x, int y)
+	{
+		final Point location = new Point(x, y);
+		return (Tile) Proxy.newProxyInstance(Tile.class.getClassLoader(), new Class<?>[]{Tile.class},
+			(proxy, method, args) -> method.getName().equals("getSceneLocation") ? location : null);
+	}
+
+	/**
+	 * A client which only knows object names, which the index reads when an id first spawns.
+	 */
+	private static Client client()
+	{
+		return (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class<?>[]{Client.class},
+			(proxy, method, args) ->
+			{
+				if (!method.getName().equals("getObjectDefinition"))
+				{
+					return null;
+				}
+
+				final String name = "Object " + args[0];
+				return Proxy.newProxyInstance(ObjectComposition.class.getClassLoader(), new Class<?>[]{ObjectComposition.class},
+					(composition, compositionMethod, compositionArgs) ->
+						compositionMethod.getName().equals("getName") ? name : null);
+			});
+	}
+}
@@ -24,14 +24,18 @@
  */
 package net.runelite.client.callback;
 
+import com.google.common.base.Preconditions;
 import com.google.inject.Inject;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
+import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.plugins.microbot.Microbot;
 
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.function.BooleanSupplier;
@@ -49,6 +53,9 @@ public class ClientThread
 	@Inject
 	private Client client;
 
+	@Inject
+	private RuneLiteConfig runeLiteConfig;
+
 	public void invoke(Runnable r)
 	{
 		invoke(() ->
@@ -120,6 +127,28 @@ public class ClientThread
 		}
 	}
 
+	/**
+	 * Run a method on the client thread without waiting for it.
+	 * @param method
+	 * @return a future completed with the result, or exceptionally with what the method threw
+	 */
+	public <T> CompletableFuture<T> submit(Callable<T> method)
+	{
+		final Batch batch = batch();
+		final CompletableFuture<T> result = batch.add(method);
+		batch.submit();
+		return result;
+	}
+
+	/**
+	 * Start a batch of methods which run on the client thread back to back in a single invoke, so reads which are needed
+	 * together wait for one client thread drain instead of one each.
+	 */
+	public Batch batch()
+	{
+		return new Batch();
+	}
+
 	/**
 	 * Run a method on the client thread, returning the result.
 	 * @param method
@@ -178,20 +207,28 @@ public class ClientThread
 
 	void invoke()
 	{
-		invokeList(invokes);
+		// Invokes left over once the budget is used up run on the next frame. At least one invoke runs every frame.
+		invokeList(invokes, TimeUnit.MILLISECONDS.toNanos(runeLiteConfig.invokeBudget()));
 	}
 
 	void invokeTickEnd()
 	{
-		invokeList(invokesAtTickEnd);
+		invokeList(invokesAtTickEnd, 0);
 	}
 
-	private void invokeList(ConcurrentLinkedQueue<BooleanSupplier> invokes)
+	private void invokeList(ConcurrentLinkedQueue<BooleanSupplier> invokes, long budgetNanos)
 	{
 		assert client.isClientThread();
+		final long start = System.nanoTime();
 		Iterator<BooleanSupplier> ir = invokes.iterator();
 		while (ir.hasNext())
 		{
+			if (budgetNanos > 0 && System.nanoTime() - start > budgetNanos)
+			{
+				log.trace("Invoke budget exceeded, deferring remaining tasks");
+				break;
+			}
+
 			BooleanSupplier r = ir.next();
 			boolean remove = true;
 			try
@@ -216,4 +253,51 @@ public class ClientThread
 			}
 		}
 	}
+
+	public class Batch
+	{
+		private final List<Runnable> tasks = new ArrayList<>();
+		private boolean submitted;
+
+		private Batch()
+		{
+		}
+
+		/**
+		 * Add a method to the batch.
+		 * @return a future completed with the result once the batch has run, or exceptionally with what the method threw
+		 */
+		public <T> CompletableFuture<T> add(Callable<T> method)
+		{
+			Preconditions.checkState(!submitted, "batch has already been submitted");
+			final CompletableFuture<T> result = new CompletableFuture<>();
+			tasks.add(() ->
+			{
+				try
+				{
+					result.complete(method.call());
+				}
+				catch (Exception e)
+				{
+					result.completeExceptionally(e);
+				}
+			});
+			return result;
+		}
+
+		/**
+		 * Queue the batch to run on the client thread, or run it now if called from the client thread.
+		 */
+		public void submit()
+		{
+			Preconditions.checkState(!submitted, "batch has already been submitted");
+			submitted = true;
+			if (tasks.isEmpty())
+			{
+				return;
+			}
+
+			invoke(() -> tasks.forEach(Runnable::run));
+		}
+	}
 }
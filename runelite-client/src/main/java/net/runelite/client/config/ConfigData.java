@@ -24,6 +24,12 @@
  */
 package net.runelite.client.config;
 
+import com.google.common.annotations.VisibleForTesting;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -36,24 +42,62 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 class ConfigData
 {
+	private static final int MAX_JOURNAL_STRING = 16 * 1024 * 1024;
+	private static final String JOURNAL_SUFFIX = ".journal";
+	private static final long PID = ProcessHandle.current().pid();
+	private static final AtomicInteger JOURNAL_IDS = new AtomicInteger();
+	// Journals of the config data in this process, told apart from those of an exited process with the same id
+	private static final Set<String> OPEN_JOURNALS = ConcurrentHashMap.newKeySet();
+
+	private static final byte RECORD_UNSET = 0;
+	private static final byte RECORD_SET = 1;
+	// Every change written before it has been saved to the config file
+	private static final byte RECORD_SAVED = 2;
+
 	private final File configPath;
+	// Changes are appended here until they are saved to the config file, so they can be replayed after a crash.
+	// Every config data has its own journal, since several clients can share a config file.
+	private final File journalPath;
+	private final Object journalLock = new Object();
 
 	private final ConcurrentHashMap<String, String> properties;
 	private Map<String, String> patchChanges = new HashMap<>();
+	// The changes in patchChanges, the changes being saved, and the latest saved change to each key
+	private Map<String, JournalRecord> unsavedRecords = new HashMap<>();
+	private Map<String, JournalRecord> savingRecords = new HashMap<>();
+	private final Map<String, JournalRecord> savedRecords = new HashMap<>();
+	// Changes not written to the journal yet
+	private Map<String, JournalRecord> journalChanges = new HashMap<>();
+	// Journals of exited clients replayed into this one, deleted once their changes are saved
+	private final List<File> replayedJournals = new ArrayList<>();
 
 	ConfigData(File configPath)
+	{
+		this(configPath, PID);
+	}
+
+	/**
+	 * @param pid id of the process the journal of this config data belongs to
+	 */
+	@VisibleForTesting
+	ConfigData(File configPath, long pid)
 	{
 		this.configPath = configPath;
 
@@ -73,6 +117,149 @@ class ConfigData
 
 		properties = new ConcurrentHashMap<>(props.size());
 		props.forEach((k, v) -> properties.put((String) k, (String) v));
+
+		journalPath = new File(configPath.getParentFile(), configPath.getName() + "." + pid + "." + JOURNAL_IDS.getAndIncrement() + JOURNAL_SUFFIX);
+		replayJournals();
+		OPEN_JOURNALS.add(journalPath.getAbsolutePath());
+	}
+
+	/**
+	 * Replays the changes clients made to the config file and exited without saving. The journals of running clients
+	 * are only read for the changes they made since, which replace the replayed ones. Those clients save their own
+	 * changes.
+	 */
+	private void replayJournals()
+	{
+		final String prefix = configPath.getName() + ".";
+		final File[] journals = configPath.getParentFile().listFiles((dir, name) ->
+			name.startsWith(prefix) && name.endsWith(JOURNAL_SUFFIX));
+		if (journals == null || journals.length == 0)
+		{
+			return;
+		}
+
+		// the same lock as patch, so a journal isn't read while its client is compacting it
+		File lckFile = new File(configPath.getParentFile(), configPath.getName() + ".lck");
+		try (FileOutputStream lockOut = new FileOutputStream(lckFile);
+			FileChannel lckChannel = lockOut.getChannel())
+		{
+			lckChannel.lock();
+
+			// the latest change to each key in any journal, and whether it is an unsaved change of an exited client
+			final Map<String, JournalRecord> latest = new HashMap<>();
+			final Set<JournalRecord> unsaved = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (File journal : journals)
+			{
+				final String[] id = journal.getName().substring(prefix.length(), journal.getName().length() - JOURNAL_SUFFIX.length()).split("\\.");
+				if (id.length != 2)
+				{
+					continue;
+				}
+
+				final boolean exited;
+				try
+				{
+					final long journalPid = Long.parseLong(id[0]);
+					exited = journalPid == PID
+						? !OPEN_JOURNALS.contains(journal.getAbsolutePath())
+						: !ProcessHandle.of(journalPid).map(ProcessHandle::isAlive).orElse(false);
+				}
+				catch (NumberFormatException ex)
+				{
+					continue;
+				}
+
+				readJournal(journal, exited, latest, unsaved);
+				if (exited)
+				{
+					replayedJournals.add(journal);
+				}
+			}
+
+			int replayed = 0;
+			for (Map.Entry<String, JournalRecord> entry : latest.entrySet())
+			{
+				final JournalRecord record = entry.getValue();
+				if (!unsaved.contains(record))
+				{
+					continue;
+				}
+
+				// the changes are saved with the next patch
+				if (record.value == null)
+				{
+					properties.remove(entry.getKey());
+				}
+				else
+				{
+					properties.put(entry.getKey(), record.value);
+				}
+				patchChanges.put(entry.getKey(), record.value);
+				unsavedRecords.put(entry.getKey(), record);
+				replayed++;
+			}
+
+			if (replayed > 0)
+			{
+				log.info("Replayed {} unsaved config changes to {}", replayed, configPath);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to replay config journals of {}", configPath, ex);
+		}
+		lckFile.delete();
+	}
+
+	/**
+	 * Reads the changes in a journal into the latest change to each key.
+	 *
+	 * @param exited whether the client of the journal has exited, so the changes it didn't save are replayed
+	 */
+	private static void readJournal(File journal, boolean exited, Map<String, JournalRecord> latest, Set<JournalRecord> unsaved)
+	{
+		final List<Map.Entry<String, JournalRecord>> records = new ArrayList<>();
+		int saved = 0;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(journal))))
+		{
+			while (true)
+			{
+				final long time = in.readLong();
+				final byte type = in.readByte();
+				if (type == RECORD_SAVED)
+				{
+					saved = records.size();
+					continue;
+				}
+
+				final String key = readString(in);
+				final String value = type == RECORD_SET ? readString(in) : null;
+				records.add(new AbstractMap.SimpleImmutableEntry<>(key, new JournalRecord(value, time)));
+			}
+		}
+		catch (EOFException ignored)
+		{
+			// end of the journal, or a record cut short by a crash while it was written
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to read config journal {}", journal, ex);
+		}
+
+		for (int i = 0; i < records.size(); ++i)
+		{
+			final String key = records.get(i).getKey();
+			final JournalRecord record = records.get(i).getValue();
+			final JournalRecord previous = latest.get(key);
+			if (previous == null || record.time >= previous.time)
+			{
+				latest.put(key, record);
+				if (exited && i >= saved)
+				{
+					unsaved.add(record);
+				}
+			}
+		}
 	}
 
 	String getProperty(String key)
@@ -85,7 +272,7 @@ class ConfigData
 		String old = properties.put(key, value);
 		if (!Objects.equals(old, value))
 		{
-			patchChanges.put(key, value);
+			changed(key, new JournalRecord(value, System.currentTimeMillis()));
 		}
 		return old;
 	}
@@ -95,17 +282,25 @@ class ConfigData
 		String old = properties.remove(key);
 		if (old != null)
 		{
-			patchChanges.put(key, null);
+			changed(key, new JournalRecord(null, System.currentTimeMillis()));
 		}
 		return old;
 	}
 
 	synchronized void putAll(Map<String, String> values)
 	{
-		patchChanges.putAll(values);
+		final long time = System.currentTimeMillis();
+		values.forEach((key, value) -> changed(key, new JournalRecord(value, time)));
 		properties.putAll(values);
 	}
 
+	private void changed(String key, JournalRecord record)
+	{
+		patchChanges.put(key, record.value);
+		unsavedRecords.put(key, record);
+		journalChanges.put(key, record);
+	}
+
 	Set<String> keySet()
 	{
 		return properties.keySet();
@@ -125,9 +320,132 @@ class ConfigData
 
 		Map<String, String> p = patchChanges;
 		patchChanges = new HashMap<>();
+		savingRecords.putAll(unsavedRecords);
+		unsavedRecords = new HashMap<>();
 		return p;
 	}
 
+	/**
+	 * Appends the changes made since the last flush to the journal. Keys changed several times since then are only
+	 * written once, with their latest value.
+	 */
+	void flushJournal()
+	{
+		synchronized (journalLock)
+		{
+			Map<String, JournalRecord> changes;
+			synchronized (this)
+			{
+				if (journalChanges.isEmpty())
+				{
+					return;
+				}
+				changes = journalChanges;
+				journalChanges = new HashMap<>();
+			}
+
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(journalPath, true))))
+			{
+				writeRecords(out, changes);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to write config journal {}", journalPath, ex);
+			}
+		}
+	}
+
+	/**
+	 * Rewrites the journal after a patch was saved: the latest saved change to each key, then a saved marker, then the
+	 * changes which weren't part of the patch. The saved changes are kept so that replaying the journals of exited
+	 * clients doesn't undo them. The replayed journals were part of the first patch, so they are deleted.
+	 */
+	private void compactJournal()
+	{
+		synchronized (journalLock)
+		{
+			replayedJournals.stream()
+				.filter(journal -> !journal.equals(journalPath))
+				.forEach(File::delete);
+			replayedJournals.clear();
+
+			final Map<String, JournalRecord> unsaved;
+			synchronized (this)
+			{
+				savedRecords.putAll(savingRecords);
+				savingRecords = new HashMap<>();
+				unsaved = new HashMap<>(unsavedRecords);
+				// every unsaved change is written below
+				journalChanges = new HashMap<>();
+			}
+
+			final File tempFile = new File(journalPath.getParentFile(), journalPath.getName() + ".tmp");
+			try
+			{
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile))))
+				{
+					writeRecords(out, savedRecords);
+					out.writeLong(System.currentTimeMillis());
+					out.writeByte(RECORD_SAVED);
+					writeRecords(out, unsaved);
+				}
+				Files.move(tempFile.toPath(), journalPath.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (IOException ex)
+			{
+				log.warn("unable to compact config journal {}", journalPath, ex);
+				tempFile.delete();
+			}
+		}
+	}
+
+	private static void writeRecords(DataOutputStream out, Map<String, JournalRecord> records) throws IOException
+	{
+		for (Map.Entry<String, JournalRecord> entry : records.entrySet())
+		{
+			final JournalRecord record = entry.getValue();
+			out.writeLong(record.time);
+			out.writeByte(record.value != null ? RECORD_SET : RECORD_UNSET);
+			writeString(out, entry.getKey());
+			if (record.value != null)
+			{
+				writeString(out, record.value);
+			}
+		}
+	}
+
+	private static final class JournalRecord
+	{
+		// null if the key was unset
+		private final String value;
+		private final long time;
+
+		JournalRecord(String value, long time)
+		{
+			this.value = value;
+			this.time = time;
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException
+	{
+		final int length = in.readInt();
+		if (length < 0 || length > MAX_JOURNAL_STRING)
+		{
+			throw new EOFException("corrupt journal record");
+		}
+		final byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
 	void patch(Map<String, String> patch)
 	{
 		// load + patch + store instead of just flushing the in-memory properties to disk so that
@@ -194,6 +512,8 @@ class ConfigData
 				log.debug("atomic move not supported", ex);
 				Files.move(tempFile.toPath(), configPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
 			}
+
+			compactJournal();
 		}
 		catch (IOException ex)
 		{
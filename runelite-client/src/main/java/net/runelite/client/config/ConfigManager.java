@@ -105,6 +105,9 @@ public class ConfigManager
 	private static final int KEY_SPLITTER_PROFILE = 1;
 	private static final int KEY_SPLITTER_KEY = 2;
 
+	// Journaling more often than this would write to disk every few ticks while scripts update their state
+	private static final int JOURNAL_FLUSH_SECONDS = 30;
+
 	@Nullable
 	@Getter
 	private static String configProfileName;
@@ -151,6 +154,24 @@ public class ConfigManager
 		this.sessionManager = sessionManager;
 
 		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::sendConfig), 30 + (int) (5 * 60 * Math.random()), 5 * 60, TimeUnit.SECONDS);
+		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::flushJournals), JOURNAL_FLUSH_SECONDS, JOURNAL_FLUSH_SECONDS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Journals the changes made since the last flush, so that the changes between saves survive a crash.
+	 */
+	private void flushJournals()
+	{
+		final ConfigData configProfile = this.configProfile;
+		final ConfigData rsProfileConfigProfile = this.rsProfileConfigProfile;
+		if (configProfile != null)
+		{
+			configProfile.flushJournal();
+		}
+		if (rsProfileConfigProfile != null)
+		{
+			rsProfileConfigProfile.flushJournal();
+		}
 	}
 
 	public void switchProfile(ConfigProfile newProfile)
@@ -479,4 +479,16 @@ public interface RuneLiteConfig extends Config
 	{
 		return Keybind.ALT;
 	}
+
+	@ConfigItem(
+		keyName = "invokeBudget",
+		name = "Client thread invoke budget",
+		description = "How long the client thread may spend running queued tasks each frame. Tasks left over run on the next frame. A value of 0 disables the limit.",
+		position = 53
+	)
+	@Units(Units.MILLISECONDS)
+	default int invokeBudget()
+	{
+		return 0;
+	}
 }
@@ -26,8 +26,7 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,12 +34,26 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -53,6 +66,15 @@ import org.slf4j.MarkerFactory;
 public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
+	private static final int ASYNC_QUEUE_CAPACITY = 256;
+	// Events a worker delivers from one queue before letting other queues run
+	private static final int ASYNC_BATCH_SIZE = 32;
+	private static final ExecutorService ASYNC_EXECUTOR = Executors.newFixedThreadPool(2, new ThreadFactoryBuilder()
+		.setNameFormat("event-bus-async-%d")
+		.setDaemon(true)
+		.build());
 
 	@Value
 	public static class Subscriber
@@ -62,6 +84,19 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		/**
+		 * Queue of the subscribing object's async subscribers, or null if this subscriber is invoked synchronously
+		 */
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		@Getter(AccessLevel.NONE)
+		private final AsyncQueue asyncQueue;
+		private final Subscribe.Backpressure backpressure;
+
+		public boolean isAsync()
+		{
+			return asyncQueue != null;
+		}
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -78,8 +113,12 @@ public class EventBus
 
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	/**
+	 * Subscribers of each event class in the order they are invoked. The arrays are never modified; registering and
+	 * unregistering atomically replace the array of each event class they affect, so posting never takes a lock and
+	 * writers only contend when they change the same event class.
+	 */
+	private final ConcurrentHashMap<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -96,13 +135,12 @@ public class EventBus
 	 * @param object subscriber to register
 	 * @throws IllegalArgumentException in case subscriber method name is wrong (correct format is 'on' + EventName
 	 */
-	public synchronized void register(@Nonnull final Object object)
+	public void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		final List<Method> methods = new ArrayList<>();
+		final Set<Class<?>> eventClasses = new HashSet<>();
 
+		// Check every subscribed method before registering any, so a bad method leaves nothing registered
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
 			for (final Method method : clazz.getDeclaredMethods())
@@ -125,7 +163,7 @@ public class EventBus
 
 				for (Class<?> psc = parameterClazz.getSuperclass(); psc != null; psc = psc.getSuperclass())
 				{
-					if (subscribers.containsKey(psc))
+					if (subscribers.containsKey(psc) || eventClasses.contains(psc))
 					{
 						throw new IllegalArgumentException("@Subscribed method \"" + method + "\" cannot subscribe to class which inherits from subscribed class \"" + psc + "\"");
 					}
@@ -134,51 +172,64 @@ public class EventBus
 				final String preferredName = "on" + parameterClazz.getSimpleName();
 				Preconditions.checkArgument(method.getName().equals(preferredName), "Subscribed method " + method + " should be named " + preferredName);
 
-				method.setAccessible(true);
-				Consumer<Object> lambda = null;
-
-				try
-				{
-					final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
-					final MethodType subscription = MethodType.methodType(void.class, parameterClazz);
-					final MethodHandle target = caller.findVirtual(clazz, method.getName(), subscription);
-					final CallSite site = LambdaMetafactory.metafactory(
-						caller,
-						"accept",
-						MethodType.methodType(Consumer.class, clazz),
-						subscription.changeParameterType(0, Object.class),
-						target,
-						subscription);
-
-					final MethodHandle factory = site.getTarget();
-					lambda = (Consumer<Object>) factory.bindTo(object).invokeExact();
-				}
-				catch (Throwable e)
-				{
-					log.warn("Unable to create lambda for method {}", method, e);
-				}
-
-				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
-				log.debug("Registering {} - {}", parameterClazz, subscriber);
+				methods.add(method);
+				eventClasses.add(parameterClazz);
 			}
 		}
 
-		subscribers = builder.build();
-	}
+		if (methods.isEmpty())
+		{
+			return;
+		}
 
-	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
-	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		AsyncQueue asyncQueue = null;
+
+		for (final Method method : methods)
+		{
+			final Class<?> clazz = method.getDeclaringClass();
+			final Subscribe sub = method.getAnnotation(Subscribe.class);
+			final Class<?> parameterClazz = method.getParameterTypes()[0];
+
+			method.setAccessible(true);
+			Consumer<Object> lambda = null;
+
+			try
+			{
+				final MethodHandles.Lookup caller = ReflectUtil.privateLookupIn(clazz);
+				final MethodType subscription = MethodType.methodType(void.class, parameterClazz);
+				final MethodHandle target = caller.findVirtual(clazz, method.getName(), subscription);
+				final CallSite site = LambdaMetafactory.metafactory(
+					caller,
+					"accept",
+					MethodType.methodType(Consumer.class, clazz),
+					subscription.changeParameterType(0, Object.class),
+					target,
+					subscription);
 
-		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
+				final MethodHandle factory = site.getTarget();
+				lambda = (Consumer<Object>) factory.bindTo(object).invokeExact();
+			}
+			catch (Throwable e)
+			{
+				log.warn("Unable to create lambda for method {}", method, e);
+			}
 
-		subscribers = builder.build();
+			if (sub.async() && asyncQueue == null)
+			{
+				asyncQueue = new AsyncQueue();
+			}
 
+			final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda,
+				sub.async() ? asyncQueue : null, sub.backpressure());
+			add(parameterClazz, subscriber);
+			log.debug("Registering {} - {}", parameterClazz, subscriber);
+		}
+	}
+
+	public <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
+	{
+		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn, null, Subscribe.Backpressure.DROP_OLDEST);
+		add(clazz, sub);
 		return sub;
 	}
 
@@ -187,25 +238,76 @@ public class EventBus
 	 *
 	 * @param object object to unsubscribe from
 	 */
-	public synchronized void unregister(@Nonnull final Object object)
+	public void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		removeIf(s -> s.getObject() == object);
 	}
 
-	public synchronized void unregister(Subscriber sub)
+	public void unregister(Subscriber sub)
 	{
 		if (sub == null)
 		{
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		removeIf(s -> s == sub);
+	}
+
+	/**
+	 * Inserts a subscriber into the array of its event class, after all subscribers which sort before or equal to
+	 * it, so subscribers of equal order are invoked in the order they were registered.
+	 */
+	private void add(Class<?> eventClass, Subscriber subscriber)
+	{
+		subscribers.compute(eventClass, (k, current) ->
+		{
+			if (current == null)
+			{
+				return new Subscriber[]{subscriber};
+			}
+
+			int index = current.length;
+			while (index > 0 && SUBSCRIBER_ORDER.compare(current[index - 1], subscriber) > 0)
+			{
+				index--;
+			}
+
+			final Subscriber[] updated = new Subscriber[current.length + 1];
+			System.arraycopy(current, 0, updated, 0, index);
+			updated[index] = subscriber;
+			System.arraycopy(current, index, updated, index + 1, current.length - index);
+			return updated;
+		});
+	}
+
+	private void removeIf(Predicate<Subscriber> filter)
+	{
+		for (Class<?> eventClass : subscribers.keySet())
+		{
+			subscribers.computeIfPresent(eventClass, (k, current) ->
+			{
+				// Only copy the arrays of event classes which have a matching subscriber
+				if (Arrays.stream(current).noneMatch(filter))
+				{
+					return current;
+				}
+
+				for (Subscriber subscriber : current)
+				{
+					if (subscriber.asyncQueue != null && filter.test(subscriber))
+					{
+						// Events still queued for an unregistered object are not delivered
+						subscriber.asyncQueue.close();
+					}
+				}
+
+				final Subscriber[] remaining = Arrays.stream(current)
+					.filter(filter.negate())
+					.toArray(Subscriber[]::new);
+				// Drop empty event classes, which also lets subclasses of them be subscribed to again
+				return remaining.length == 0 ? null : remaining;
+			});
+		}
 	}
 
 	/**
@@ -216,8 +318,20 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] eventSubscribers = subscribers.get(event.getClass());
+		if (eventSubscribers == null)
+		{
+			return;
+		}
+
+		for (final Subscriber subscriber : eventSubscribers)
 		{
+			if (subscriber.asyncQueue != null)
+			{
+				subscriber.asyncQueue.add(subscriber, event);
+				continue;
+			}
+
 			try
 			{
 				subscriber.invoke(event);
@@ -228,4 +342,95 @@ public class EventBus
 			}
 		}
 	}
+
+	@AllArgsConstructor
+	private static class PendingEvent
+	{
+		private final Subscriber subscriber;
+		private Object event;
+	}
+
+	/**
+	 * Bounded queue of events for the async subscribers of one registered object. At most one worker delivers
+	 * from a queue at a time, so the object's async handlers run in posting order and never concurrently.
+	 */
+	private final class AsyncQueue implements Runnable
+	{
+		private final ArrayDeque<PendingEvent> queue = new ArrayDeque<>();
+		private boolean scheduled;
+		private boolean closed;
+
+		synchronized void add(Subscriber subscriber, Object event)
+		{
+			if (closed)
+			{
+				return;
+			}
+
+			if (subscriber.backpressure == Subscribe.Backpressure.COALESCE)
+			{
+				for (PendingEvent pending : queue)
+				{
+					if (pending.subscriber == subscriber)
+					{
+						pending.event = event;
+						return;
+					}
+				}
+			}
+
+			if (queue.size() >= ASYNC_QUEUE_CAPACITY)
+			{
+				if (subscriber.backpressure == Subscribe.Backpressure.DROP_NEWEST)
+				{
+					return;
+				}
+				queue.pollFirst();
+			}
+
+			queue.addLast(new PendingEvent(subscriber, event));
+
+			if (!scheduled)
+			{
+				scheduled = true;
+				ASYNC_EXECUTOR.execute(this);
+			}
+		}
+
+		@Override
+		public void run()
+		{
+			for (int i = 0; i < ASYNC_BATCH_SIZE; i++)
+			{
+				final PendingEvent pending;
+				synchronized (this)
+				{
+					pending = queue.pollFirst();
+					if (pending == null)
+					{
+						scheduled = false;
+						return;
+					}
+				}
+
+				try
+				{
+					pending.subscriber.invoke(pending.event);
+				}
+				catch (Exception e)
+				{
+					exceptionHandler.accept(e);
+				}
+			}
+
+			// Still scheduled; requeue behind the other queues' work
+			ASYNC_EXECUTOR.execute(this);
+		}
+
+		synchronized void close()
+		{
+			closed = true;
+			queue.clear();
+		}
+	}
 }
@@ -43,4 +43,37 @@ public @interface Subscribe
 	 * @return
 	 */
 	float priority() default 0;
+
+	/**
+	 * Whether the subscriber is invoked on an event bus worker thread instead of the thread posting the event.
+	 * Events are queued per subscribing object and delivered in order. Async subscribers must not rely on the
+	 * posting thread, e.g. for client access, and must not modify the event, as other subscribers may already
+	 * have seen it.
+	 * @return
+	 */
+	boolean async() default false;
+
+	/**
+	 * What to do when an async subscriber falls behind and its object's queue is full.
+	 * Ignored for synchronous subscribers.
+	 * @return
+	 */
+	Backpressure backpressure() default Backpressure.DROP_OLDEST;
+
+	enum Backpressure
+	{
+		/**
+		 * Discard the oldest queued event to make room for the new one.
+		 */
+		DROP_OLDEST,
+		/**
+		 * Discard the new event.
+		 */
+		DROP_NEWEST,
+		/**
+		 * Keep only the newest queued event for this subscriber, replacing an older one still in the queue.
+		 * Suited to events which describe the current state, like ticks or stat changes.
+		 */
+		COALESCE,
+	}
 }
@@ -0,0 +1,190 @@
+package net.runelite.client.game;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rendered item images kept on disk across restarts, in a directory per game revision since items can change between
+ * them. Opening a revision deletes the images of every other one. Once the images take up more than the size limit,
+ * the least recently used are deleted.
+ * <p>
+ * Not thread safe. ItemManager only uses it from its image executor.
+ */
+@Slf4j
+class ItemImageDiskCache
+{
+	private final File directory;
+	private final long maxBytes;
+	// Images of the open revision and their sizes, least recently used first
+	private final LinkedHashMap<File, Long> images = new LinkedHashMap<>(16, .75f, true);
+	private long totalBytes;
+	private File revisionDirectory;
+
+	ItemImageDiskCache(File directory, long maxBytes)
+	{
+		this.directory = directory;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Reads the image of an item into img.
+	 *
+	 * @return whether the image was on disk
+	 */
+	boolean read(int revision, int itemId, BufferedImage img)
+	{
+		final File file = file(revision, itemId);
+		if (file == null || images.get(file) == null)
+		{
+			return false;
+		}
+
+		try
+		{
+			final BufferedImage cached = ImageIO.read(file);
+			if (cached == null || cached.getWidth() != img.getWidth() || cached.getHeight() != img.getHeight())
+			{
+				remove(file);
+				return false;
+			}
+			img.setRGB(0, 0, img.getWidth(), img.getHeight(), cached.getRGB(0, 0, img.getWidth(), img.getHeight(), null, 0, img.getWidth()), 0, img.getWidth());
+			// the least recently used order is rebuilt from the modification times when the revision is next opened
+			file.setLastModified(System.currentTimeMillis());
+			return true;
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to read cached item image {}", file, ex);
+			remove(file);
+			return false;
+		}
+	}
+
+	/**
+	 * Writes the image of an item, unless it is already on disk.
+	 */
+	void write(int revision, int itemId, BufferedImage img)
+	{
+		final File file = file(revision, itemId);
+		if (file == null || images.containsKey(file))
+		{
+			return;
+		}
+
+		final File tmp = new File(file.getParentFile(), file.getName() + ".tmp");
+		try
+		{
+			ImageIO.write(img, "png", tmp);
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to cache item image {}", file, ex);
+			tmp.delete();
+			return;
+		}
+
+		final long size = file.length();
+		images.put(file, size);
+		totalBytes += size;
+		evict();
+	}
+
+	long getTotalBytes()
+	{
+		return totalBytes;
+	}
+
+	@Nullable
+	private File file(int revision, int itemId)
+	{
+		final String name = Integer.toString(revision);
+		if (revisionDirectory == null || !revisionDirectory.getName().equals(name))
+		{
+			final File dir = new File(directory, name);
+			if (!dir.mkdirs() && !dir.isDirectory())
+			{
+				log.debug("unable to create item image cache {}", dir);
+				return null;
+			}
+			open(dir);
+		}
+		return new File(revisionDirectory, itemId + ".png");
+	}
+
+	private void open(File dir)
+	{
+		final File[] revisions = directory.listFiles(f -> !f.equals(dir));
+		if (revisions != null)
+		{
+			for (File old : revisions)
+			{
+				final File[] files = old.listFiles();
+				if (files != null)
+				{
+					Arrays.stream(files).forEach(File::delete);
+				}
+				old.delete();
+			}
+		}
+
+		revisionDirectory = dir;
+		images.clear();
+		totalBytes = 0;
+
+		final File[] files = dir.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+		for (File file : files)
+		{
+			if (!file.getName().endsWith(".png"))
+			{
+				// left over from an interrupted write
+				file.delete();
+				continue;
+			}
+
+			final long size = file.length();
+			images.put(file, size);
+			totalBytes += size;
+		}
+		evict();
+	}
+
+	private void evict()
+	{
+		final Iterator<Map.Entry<File, Long>> it = images.entrySet().iterator();
+		while (totalBytes > maxBytes && it.hasNext())
+		{
+			final Map.Entry<File, Long> eldest = it.next();
+			it.remove();
+			totalBytes -= eldest.getValue();
+			eldest.getKey().delete();
+		}
+	}
+
+	private void remove(File file)
+	{
+		final Long size = images.remove(file);
+		if (size != null)
+		{
+			totalBytes -= size;
+		}
+		file.delete();
+	}
+}
@@ -26,20 +26,30 @@ package net.runelite.client.game;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
 import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import java.awt.Color;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Named;
@@ -50,10 +60,12 @@ import net.runelite.api.Client;
 import net.runelite.api.Constants;
 import static net.runelite.api.Constants.CLIENT_DEFAULT_ZOOM;
 import net.runelite.api.GameState;
+import net.runelite.api.Item;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.SpritePixels;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.widgets.ItemQuantityMode;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.util.AsyncBufferedImage;
@@ -79,6 +91,170 @@ public class ItemManager
 		private final Color outlineColor;
 	}
 
+	@Value
+	public static class ImageCacheStats
+	{
+		private final CacheStats images;
+		private final CacheStats outlines;
+		private final long diskHits;
+		private final long diskMisses;
+
+		public double diskHitRate()
+		{
+			final long requests = diskHits + diskMisses;
+			return requests == 0 ? 1.0 : (double) diskHits / requests;
+		}
+	}
+
+	/**
+	 * Immutable index over the names of the loaded prices, so searches don't lowercase and scan every name.
+	 */
+	private static final class SearchIndex
+	{
+		private static final SearchIndex EMPTY = new SearchIndex(new ItemPrice[0]);
+		private static final int[] NO_POSITIONS = new int[0];
+
+		// In load order, which search results keep
+		private final ItemPrice[] items;
+		private final String[] names;
+		// Positions of the items ordered by name, for prefix searches
+		private final int[] byName;
+		private final Map<String, Integer> idsByName = new HashMap<>();
+		// Every trigram of the names in ascending order, so lookups are a binary search without boxing the key
+		private final long[] trigrams;
+		// Ascending positions of the items whose name contains the trigram at the same index
+		private final int[][] postings;
+
+		SearchIndex(ItemPrice[] items)
+		{
+			this.items = items;
+			names = new String[items.length];
+
+			Map<Long, int[]> postingsByTrigram = new HashMap<>();
+			Map<Long, Integer> postingSizes = new HashMap<>();
+			for (int i = 0; i < items.length; ++i)
+			{
+				final String name = items[i].getName().toLowerCase();
+				names[i] = name;
+				idsByName.putIfAbsent(name, items[i].getId());
+
+				for (int j = 0; j + 3 <= name.length(); ++j)
+				{
+					final long trigram = trigram(name, j);
+					int[] posting = postingsByTrigram.get(trigram);
+					int size = postingSizes.getOrDefault(trigram, 0);
+					if (posting == null)
+					{
+						posting = new int[4];
+						postingsByTrigram.put(trigram, posting);
+					}
+					else if (posting[size - 1] == i)
+					{
+						// trigram repeated in this name
+						continue;
+					}
+					else if (size == posting.length)
+					{
+						posting = Arrays.copyOf(posting, size * 2);
+						postingsByTrigram.put(trigram, posting);
+					}
+					posting[size] = i;
+					postingSizes.put(trigram, size + 1);
+				}
+			}
+
+			trigrams = postingsByTrigram.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+			postings = new int[trigrams.length][];
+			for (int i = 0; i < trigrams.length; ++i)
+			{
+				postings[i] = Arrays.copyOf(postingsByTrigram.get(trigrams[i]), postingSizes.get(trigrams[i]));
+			}
+
+			byName = IntStream.range(0, items.length)
+				.boxed()
+				.sorted(Comparator.comparing(i -> names[i]))
+				.mapToInt(Integer::intValue)
+				.toArray();
+		}
+
+		private static long trigram(String s, int index)
+		{
+			return (long) s.charAt(index) << 32 | (long) s.charAt(index + 1) << 16 | s.charAt(index + 2);
+		}
+
+		private int[] positions(long trigram)
+		{
+			final int index = Arrays.binarySearch(trigrams, trigram);
+			return index < 0 ? NO_POSITIONS : postings[index];
+		}
+
+		List<ItemPrice> search(String itemName)
+		{
+			final List<ItemPrice> result = new ArrayList<>();
+			if (itemName.length() < 3)
+			{
+				for (int i = 0; i < names.length; ++i)
+				{
+					if (names[i].contains(itemName))
+					{
+						result.add(items[i]);
+					}
+				}
+				return result;
+			}
+
+			// Every match contains all of the query's trigrams, so only the items with its rarest one are checked
+			int[] candidates = null;
+			for (int i = 0; i + 3 <= itemName.length(); ++i)
+			{
+				final int[] positions = positions(trigram(itemName, i));
+				if (candidates == null || positions.length < candidates.length)
+				{
+					candidates = positions;
+				}
+			}
+
+			for (int position : candidates)
+			{
+				if (names[position].contains(itemName))
+				{
+					result.add(items[position]);
+				}
+			}
+			return result;
+		}
+
+		List<ItemPrice> searchPrefix(String prefix, int limit)
+		{
+			int low = 0;
+			int high = byName.length;
+			while (low < high)
+			{
+				final int mid = (low + high) >>> 1;
+				if (names[byName[mid]].compareTo(prefix) < 0)
+				{
+					low = mid + 1;
+				}
+				else
+				{
+					high = mid;
+				}
+			}
+
+			final List<ItemPrice> result = new ArrayList<>();
+			for (int i = low; i < byName.length && result.size() < limit && names[byName[i]].startsWith(prefix); ++i)
+			{
+				result.add(items[byName[i]]);
+			}
+			return result;
+		}
+
+		int getItemId(String itemName)
+		{
+			return idsByName.getOrDefault(itemName, -1);
+		}
+	}
+
 	private final Client client;
 	private final ClientThread clientThread;
 	private final ItemClient itemClient;
@@ -95,10 +271,25 @@ public class ItemManager
 	private int lowPriceThreshold = 1000;
 
 	private Map<Integer, ItemPrice> itemPrices = Collections.emptyMap();
+	private volatile SearchIndex searchIndex = SearchIndex.EMPTY;
 	private Map<Integer, ItemStats> itemStats = Collections.emptyMap();
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
 
+	private static final File IMAGE_CACHE_DIR = new File(RuneLite.CACHE_DIR, "item-images");
+	// An item image is around 1-2 KiB as a png
+	private static final long MAX_IMAGE_DISK_CACHE_BYTES = 8L * 1024 * 1024;
+	// 4 bytes per pixel, so around 3500 item sized images per cache
+	private static final long MAX_IMAGE_CACHE_WEIGHT = 16L * 1024 * 1024;
+	private final ExecutorService imageExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+		.setNameFormat("item-image-cache")
+		.setDaemon(true)
+		.build());
+	private final LongAdder diskHits = new LongAdder();
+	private final LongAdder diskMisses = new LongAdder();
+	// Only used on the image executor
+	private final ItemImageDiskCache imageDiskCache = new ItemImageDiskCache(IMAGE_CACHE_DIR, MAX_IMAGE_DISK_CACHE_BYTES);
+
 	// Worn items with weight reducing property have a different worn and inventory ItemID
 	private static final ImmutableMap<Integer, Integer> WORN_ITEMS = ImmutableMap.<Integer, Integer>builder().
 		put(ItemID.IKOV_BOOTSOFLIGHTNESSWORN, ItemID.IKOV_BOOTSOFLIGHTNESS).
@@ -208,8 +399,10 @@ public class ItemManager
 		scheduledExecutorService.submit(this::loadStats);
 
 		itemImages = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(MAX_IMAGE_CACHE_WEIGHT)
+			.weigher((ImageKey key, AsyncBufferedImage image) -> imageWeight(image))
 			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
 			.build(new CacheLoader<>()
 			{
 				@Override
@@ -220,8 +413,10 @@ public class ItemManager
 			});
 
 		itemOutlines = CacheBuilder.newBuilder()
-			.maximumSize(128L)
+			.maximumWeight(MAX_IMAGE_CACHE_WEIGHT)
+			.weigher((OutlineKey key, BufferedImage image) -> imageWeight(image))
 			.expireAfterAccess(1, TimeUnit.HOURS)
+			.recordStats()
 			.build(new CacheLoader<>()
 			{
 				@Override
@@ -245,6 +440,7 @@ public class ItemManager
 					map.put(price.getId(), price);
 				}
 				itemPrices = map.build();
+				searchIndex = new SearchIndex(prices);
 			}
 
 			log.debug("Loaded {} prices", itemPrices.size());
@@ -401,18 +597,30 @@ public class ItemManager
 	 */
 	public List<ItemPrice> search(String itemName)
 	{
-		itemName = itemName.toLowerCase();
+		return searchIndex.search(itemName.toLowerCase());
+	}
 
-		List<ItemPrice> result = new ArrayList<>();
-		for (ItemPrice itemPrice : itemPrices.values())
-		{
-			final String name = itemPrice.getName();
-			if (name.toLowerCase().contains(itemName))
-			{
-				result.add(itemPrice);
-			}
-		}
-		return result;
+	/**
+	 * Search for tradeable items whose name starts with a prefix
+	 *
+	 * @param prefix item name prefix
+	 * @param limit maximum number of items to return
+	 * @return the items, ordered by name
+	 */
+	public List<ItemPrice> searchPrefix(String prefix, int limit)
+	{
+		return searchIndex.searchPrefix(prefix.toLowerCase(), limit);
+	}
+
+	/**
+	 * Look up a tradeable item by its exact name, ignoring case
+	 *
+	 * @param itemName item name
+	 * @return the item id, or -1 if no tradeable item has the name
+	 */
+	public int getItemIdByName(String itemName)
+	{
+		return searchIndex.getItemId(itemName.toLowerCase());
 	}
 
 	/**
@@ -448,7 +656,11 @@ public class ItemManager
 	}
 
 	/**
-	 * Loads item sprite from game, makes transparent, and generates image
+	 * Loads item sprite from game, makes transparent, and generates image.
+	 * <p>
+	 * Off the client thread the image is read from the disk cache when it is there, instead of waiting for the
+	 * client thread to render it. Only images which don't depend on the quantity are kept on disk, so there is at most
+	 * one per item.
 	 *
 	 * @param itemId
 	 * @return
@@ -456,6 +668,31 @@ public class ItemManager
 	private AsyncBufferedImage loadImage(int itemId, int quantity, boolean stackable)
 	{
 		AsyncBufferedImage img = new AsyncBufferedImage(clientThread, Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+		final boolean diskCached = quantity == 1 && !stackable;
+		if (client.isClientThread() || !diskCached)
+		{
+			// callers on the client thread expect the image to be filled in before this returns
+			renderImage(img, itemId, quantity, stackable, diskCached);
+			return img;
+		}
+
+		imageExecutor.execute(() ->
+		{
+			if (imageDiskCache.read(client.getRevision(), itemId, img))
+			{
+				diskHits.increment();
+				img.loaded();
+				return;
+			}
+
+			diskMisses.increment();
+			renderImage(img, itemId, quantity, stackable, true);
+		});
+		return img;
+	}
+
+	private void renderImage(AsyncBufferedImage img, int itemId, int quantity, boolean stackable, boolean diskCached)
+	{
 		clientThread.invoke(() ->
 		{
 			if (client.getGameState().ordinal() < GameState.LOGIN_SCREEN.ordinal())
@@ -470,9 +707,44 @@ public class ItemManager
 			}
 			sprite.toBufferedImage(img);
 			img.loaded();
+			if (diskCached)
+			{
+				final int revision = client.getRevision();
+				imageExecutor.execute(() -> imageDiskCache.write(revision, itemId, img));
+			}
 			return true;
 		});
-		return img;
+	}
+
+	private static int imageWeight(BufferedImage image)
+	{
+		return image.getWidth() * image.getHeight() * 4;
+	}
+
+	/**
+	 * Loads the quantity-free images of the items in the background, so panels showing them later don't have to
+	 * wait for them. Stack quantities are ignored, since images with a quantity aren't kept in the disk cache and
+	 * would need a render on the client thread every time a stack changes.
+	 *
+	 * @param items items to load the images of
+	 */
+	public void prefetchImages(Item[] items)
+	{
+		imageExecutor.execute(() ->
+		{
+			for (Item item : items)
+			{
+				if (item.getId() >= 0)
+				{
+					getImage(item.getId());
+				}
+			}
+		});
+	}
+
+	public ImageCacheStats getImageCacheStats()
+	{
+		return new ImageCacheStats(itemImages.stats(), itemOutlines.stats(), diskHits.sum(), diskMisses.sum());
 	}
 
 	/**
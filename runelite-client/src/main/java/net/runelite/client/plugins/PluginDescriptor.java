@@ -116,4 +116,10 @@ public @interface PluginDescriptor
 	boolean loadInSafeMode() default true;
 
 	boolean priority() default false;
+
+	/**
+	 * Whether startup of this plugin is deferred until the first login, for plugins which have nothing to do before
+	 * then. Plugins enabled while the client is running start immediately.
+	 */
+	boolean deferStartup() default false;
 }
@@ -32,10 +32,13 @@ import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
 import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Module;
 import com.google.inject.*;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.GameState;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.client.RuneLite;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigManager;
@@ -57,13 +60,23 @@ import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import javax.swing.*;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.lang.invoke.*;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -75,6 +88,11 @@ public class PluginManager
 	 * Base package where the core plugins are
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	/**
+	 * Index of the core plugins, written by the runelite maven plugin
+	 */
+	private static final String PLUGIN_INDEX = "plugins.index";
+	private static final int LOADER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
 	private final boolean developerMode;
@@ -86,6 +104,10 @@ public class PluginManager
 	private final List<Plugin> plugins = new CopyOnWriteArrayList<>();
 	@Getter
 	private final List<Plugin> activePlugins = new CopyOnWriteArrayList<>();
+	private final List<Plugin> deferredPlugins = new CopyOnWriteArrayList<>();
+	private boolean loggedIn;
+	private final Map<Class<?>, Long> loadNanos = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Long> startNanos = new ConcurrentHashMap<>();
 
     public void addPlugin(Plugin plugin) {
         plugins.add(plugin);
@@ -231,24 +253,16 @@ public class PluginManager
 		int loaded = 0;
 		for (Plugin plugin : scannedPlugins)
 		{
-			try
+			if (!deferStartup(plugin))
 			{
-				SwingUtilities.invokeAndWait(() ->
+				try
 				{
-					try
-					{
-						startPlugin(plugin);
-					}
-					catch (PluginInstantiationException ex)
-					{
-						log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
-						plugins.remove(plugin);
-					}
-				});
-			}
-			catch (InterruptedException | InvocationTargetException e)
-			{
-				throw new RuntimeException(e);
+					SwingUtilities.invokeAndWait(() -> startPluginTimed(plugin));
+				}
+				catch (InterruptedException | InvocationTargetException e)
+				{
+					throw new RuntimeException(e);
+				}
 			}
 
 			loaded++;
@@ -259,21 +273,168 @@ public class PluginManager
 		{
 			ReflectUtil.queueInjectorAnnotationCacheInvalidation(plugin.injector);
 		}
+
+		logStartupTimes();
+	}
+
+	private boolean deferStartup(Plugin plugin)
+	{
+		final PluginDescriptor pluginDescriptor = plugin.getClass().getAnnotation(PluginDescriptor.class);
+		if (pluginDescriptor == null || !pluginDescriptor.deferStartup() || !isPluginEnabled(plugin))
+		{
+			return false;
+		}
+
+		synchronized (deferredPlugins)
+		{
+			if (loggedIn)
+			{
+				return false;
+			}
+			log.debug("Deferring startup of {} until login", plugin.getClass().getSimpleName());
+			deferredPlugins.add(plugin);
+			return true;
+		}
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged gameStateChanged)
+	{
+		if (gameStateChanged.getGameState() != GameState.LOGGED_IN)
+		{
+			return;
+		}
+
+		List<Plugin> deferred;
+		synchronized (deferredPlugins)
+		{
+			if (loggedIn)
+			{
+				return;
+			}
+			loggedIn = true;
+			deferred = new ArrayList<>(deferredPlugins);
+			deferredPlugins.clear();
+		}
+
+		if (!deferred.isEmpty())
+		{
+			SwingUtilities.invokeLater(() ->
+			{
+				deferred.forEach(this::startPluginTimed);
+				logStartupTimes();
+			});
+		}
+	}
+
+	private void startPluginTimed(Plugin plugin)
+	{
+		long start = System.nanoTime();
+		try
+		{
+			startPlugin(plugin);
+		}
+		catch (PluginInstantiationException ex)
+		{
+			log.error("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+			plugins.remove(plugin);
+		}
+		startNanos.put(plugin.getClass(), System.nanoTime() - start);
+	}
+
+	/**
+	 * Logs the total time taken to instantiate and start the plugins, and the time taken by every plugin at debug.
+	 */
+	private void logStartupTimes()
+	{
+		Set<Class<?>> pluginClasses = new HashSet<>(loadNanos.keySet());
+		pluginClasses.addAll(startNanos.keySet());
+
+		List<Class<?>> slowest = new ArrayList<>(pluginClasses);
+		slowest.sort(Comparator.comparingLong((Class<?> c) -> loadNanos.getOrDefault(c, 0L) + startNanos.getOrDefault(c, 0L)).reversed());
+
+		long totalNanos = 0;
+		for (Class<?> clazz : slowest)
+		{
+			long load = loadNanos.getOrDefault(clazz, 0L);
+			long start = startNanos.getOrDefault(clazz, 0L);
+			totalNanos += load + start;
+			log.debug("Plugin {} took {}ms to load and {}ms to start", clazz.getSimpleName(),
+				TimeUnit.NANOSECONDS.toMillis(load), TimeUnit.NANOSECONDS.toMillis(start));
+		}
+
+		log.info("Loaded and started {} plugins in {}ms, {} deferred until login", slowest.size(),
+			TimeUnit.NANOSECONDS.toMillis(totalNanos), deferredPlugins.size());
 	}
 
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+		// IDE builds don't run the runelite maven plugin, so in developer mode the index left by an earlier maven build
+		// may be missing plugins added since
+		List<Class<?>> plugins = developerMode ? null : loadIndexedPlugins();
+		if (plugins == null)
+		{
+			log.debug("No plugin index, scanning the classpath for plugins");
+			ClassPath classPath = ClassPath.from(getClass().getClassLoader());
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+			plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading plugins", loaded, total, false));
 	}
 
+	/**
+	 * Loads the plugin classes listed in the index written at build time, instead of loading every class in the plugin
+	 * package to find the plugins.
+	 *
+	 * @return the plugin classes, or null if there is no index
+	 */
+	private List<Class<?>> loadIndexedPlugins() throws IOException
+	{
+		try (InputStream in = PluginManager.class.getResourceAsStream(PLUGIN_INDEX))
+		{
+			if (in == null)
+			{
+				return null;
+			}
+
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			List<Class<?>> plugins = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null)
+			{
+				// class name, config name, load in safe mode
+				String[] fields = line.split("\t", -1);
+				String className = fields[0];
+
+				if (safeMode && !Boolean.parseBoolean(fields[2]))
+				{
+					log.debug("Disabling {} due to safe mode", className);
+					// also disable the plugin from autostarting later
+					configManager.unsetConfiguration(RuneLiteConfig.GROUP_NAME,
+						(fields[1].isEmpty() ? className.substring(className.lastIndexOf('.') + 1) : fields[1]).toLowerCase());
+					continue;
+				}
+
+				try
+				{
+					plugins.add(getClass().getClassLoader().loadClass(className));
+				}
+				catch (ClassNotFoundException ex)
+				{
+					log.warn("Indexed plugin {} does not exist", className, ex);
+				}
+			}
+
+			log.debug("Loaded {} plugins from the plugin index", plugins.size());
+			return plugins;
+		}
+	}
+
 	public void loadSideLoadPlugins()
 	{
 		if (!developerMode)
@@ -369,30 +530,64 @@ public class PluginManager
 			throw new PluginInstantiationException("Plugin dependency graph contains a cycle!");
 		}
 
-		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
+		List<List<Class<? extends Plugin>>> levels = dependencyLevels(graph);
+		int total = graph.nodes().size();
 
+		// Plugins in the same level don't depend on each other, so each level is instantiated in parallel once the
+		// plugins of the previous levels, which its plugins may depend on, are loaded
+		ExecutorService executor = Executors.newFixedThreadPool(LOADER_THREADS, new ThreadFactoryBuilder()
+			.setNameFormat("plugin-loader-%d")
+			.setDaemon(true)
+			.build());
 		int loaded = 0;
 		List<Plugin> newPlugins = new ArrayList<>();
-		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		try
 		{
-			Plugin plugin;
-			try
+			for (List<Class<? extends Plugin>> level : levels)
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
-				newPlugins.add(plugin);
-				this.plugins.add(plugin);
-			}
-			catch (PluginInstantiationException ex)
-			{
-				log.error("Error instantiating plugin!", ex);
-			}
+				List<Future<Plugin>> futures = new ArrayList<>(level.size());
+				for (Class<? extends Plugin> pluginClazz : level)
+				{
+					futures.add(executor.submit(() ->
+					{
+						long start = System.nanoTime();
+						Plugin plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
+						loadNanos.put(pluginClazz, System.nanoTime() - start);
+						return plugin;
+					}));
+				}
 
-			loaded++;
-			if (onPluginLoaded != null)
-			{
-				onPluginLoaded.accept(loaded, sortedPlugins.size());
+				// Collected in submission order, so the plugins list stays in dependency order
+				for (Future<Plugin> future : futures)
+				{
+					try
+					{
+						Plugin plugin = future.get();
+						newPlugins.add(plugin);
+						this.plugins.add(plugin);
+					}
+					catch (ExecutionException ex)
+					{
+						log.error("Error instantiating plugin!", ex.getCause());
+					}
+
+					loaded++;
+					if (onPluginLoaded != null)
+					{
+						onPluginLoaded.accept(loaded, total);
+					}
+				}
 			}
 		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new PluginInstantiationException(ex);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
 
 		return newPlugins;
 	}
@@ -708,6 +903,33 @@ public class PluginManager
 		return l;
 	}
 
+	/**
+	 * Groups the nodes of the graph into levels, where every node is in a later level than its predecessors. Nodes in
+	 * the same level don't depend on each other.
+	 */
+	@VisibleForTesting
+	static <T> List<List<T>> dependencyLevels(Graph<T> graph)
+	{
+		Map<T, Integer> nodeLevels = new HashMap<>();
+		List<List<T>> levels = new ArrayList<>();
+		for (T node : topologicalSort(graph))
+		{
+			int level = 0;
+			for (T predecessor : graph.predecessors(node))
+			{
+				level = Math.max(level, nodeLevels.get(predecessor) + 1);
+			}
+			nodeLevels.put(node, level);
+
+			if (level == levels.size())
+			{
+				levels.add(new ArrayList<>());
+			}
+			levels.get(level).add(node);
+		}
+		return levels;
+	}
+
 	public List<Plugin> conflictsForPlugin(Plugin plugin)
 	{
 		Set<String> conflicts;
@@ -25,6 +25,7 @@
 package net.runelite.client.plugins.grounditems;
 
 import java.awt.Color;
+import java.awt.Font;
 import java.time.Duration;
 import java.time.Instant;
 import javax.annotation.Nullable;
@@ -68,6 +69,12 @@ public class GroundItem
 	boolean hidden;
 	Color color;
 
+	// cached overlay text, and its width in the font it was last measured with
+	String text;
+	Font textFont;
+	int textWidth;
+	int textBoundsWidth;
+
 	int getHaPrice()
 	{
 		return haPrice * quantity;
@@ -82,5 +89,7 @@ public class GroundItem
 	{
 		highlighted = hidden = false;
 		color = null;
+		text = null;
+		textFont = null;
 	}
 }
@@ -27,6 +27,7 @@ package net.runelite.client.plugins.grounditems;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
@@ -38,10 +39,12 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import javax.inject.Inject;
+import javax.inject.Named;
 import net.runelite.api.Client;
 import net.runelite.api.Perspective;
 import net.runelite.api.Player;
 import net.runelite.api.Point;
+import net.runelite.api.WorldView;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.gameval.ItemID;
@@ -73,6 +76,8 @@ public class GroundItemsOverlay extends Overlay
 	private static final Color PUBLIC_TIMER_COLOR = Color.YELLOW;
 	private static final Color PRIVATE_TIMER_COLOR = Color.GREEN;
 	private static final int TIMER_OVERLAY_DIAMETER = 10;
+	// Weight of the latest frame in the average frame cost shown in developer mode
+	private static final double FRAME_COST_SMOOTHING = 0.05;
 
 	private final Client client;
 	private final GroundItemsPlugin plugin;
@@ -82,15 +87,19 @@ public class GroundItemsOverlay extends Overlay
 	private final TextComponent textComponent = new TextComponent();
 	private final ProgressPieComponent progressPieComponent = new ProgressPieComponent();
 	private final Map<WorldPoint, Integer> offsetMap = new HashMap<>();
+	private final boolean developerMode;
+	private double averageFrameNanos;
 
 	@Inject
-	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config)
+	private GroundItemsOverlay(Client client, GroundItemsPlugin plugin, GroundItemsConfig config,
+		@Named("developerMode") boolean developerMode)
 	{
 		setPosition(OverlayPosition.DYNAMIC);
 		setLayer(OverlayLayer.ABOVE_SCENE);
 		this.client = client;
 		this.plugin = plugin;
 		this.config = config;
+		this.developerMode = developerMode;
 	}
 
 	@Override
@@ -112,13 +121,15 @@ public class GroundItemsOverlay extends Overlay
 			return null;
 		}
 
+		final long frameStart = System.nanoTime();
+		final boolean hotKeyPressed = plugin.isHotKeyPressed();
 		offsetMap.clear();
 		final LocalPoint localLocation = player.getLocalLocation();
 		final Point mousePos = client.getMouseCanvasPosition();
 		Collection<GroundItem> groundItemList = plugin.getCollectedGroundItems().values();
 		GroundItem topGroundItem = null;
 
-		if (plugin.isHotKeyPressed())
+		if (hotKeyPressed)
 		{
 			// Make copy of ground items because we are going to modify them here, and the array list supports our
 			// desired behaviour here
@@ -175,6 +186,10 @@ public class GroundItemsOverlay extends Overlay
 		final boolean outline = config.textOutline();
 		final OwnershipFilterMode ownershipFilterMode = config.ownershipFilterMode();
 		final int accountType = client.getVarbitValue(VarbitID.IRONMAN);
+		final boolean highlightTiles = config.highlightTiles();
+		final boolean showHighlightedOnly = config.showHighlightedOnly();
+		final PriceDisplayMode displayMode = config.priceDisplayMode();
+		int itemsDrawn = 0;
 
 		for (GroundItem item : groundItemList)
 		{
@@ -188,7 +203,7 @@ public class GroundItemsOverlay extends Overlay
 
 			plugin.updateItemColor(item);
 
-			if (!item.highlighted && !plugin.isHotKeyPressed())
+			if (!item.highlighted && !hotKeyPressed)
 			{
 				// Do not display hidden items
 				if (item.hidden)
@@ -197,7 +212,7 @@ public class GroundItemsOverlay extends Overlay
 				}
 
 				// Do not display non-highlighted items
-				if (config.showHighlightedOnly())
+				if (showHighlightedOnly)
 				{
 					continue;
 				}
@@ -205,7 +220,7 @@ public class GroundItemsOverlay extends Overlay
 
 			final Color color = item.color;
 
-			if (config.highlightTiles())
+			if (highlightTiles)
 			{
 				final Polygon poly = Perspective.getCanvasTilePoly(client, groundPoint, item.getHeight());
 
@@ -220,74 +235,45 @@ public class GroundItemsOverlay extends Overlay
 				continue;
 			}
 
-			itemStringBuilder.append(item.getName());
-
-			if (item.getQuantity() > 1)
+			// The text and its width only change with the item or the config, not per frame
+			if (item.text == null)
 			{
-				itemStringBuilder.append(" (")
-					.append(QuantityFormatter.quantityToStackSize(item.getQuantity()))
-					.append(')');
+				item.text = buildItemText(item, displayMode);
 			}
 
-			if (item.getId() != ItemID.COINS)
+			final Font font = graphics.getFont();
+			if (item.textFont != font)
 			{
-				PriceDisplayMode displayMode = config.priceDisplayMode();
-				if (displayMode == PriceDisplayMode.BOTH)
-				{
-					if (item.getGePrice() > 0)
-					{
-						itemStringBuilder.append(" (GE: ")
-							.append(QuantityFormatter.quantityToStackSize(item.getGePrice()))
-							.append(" gp)");
-					}
-
-					if (item.getHaPrice() > 0)
-					{
-						itemStringBuilder.append(" (HA: ")
-							.append(QuantityFormatter.quantityToStackSize(item.getHaPrice()))
-							.append(" gp)");
-					}
-				}
-				else if (displayMode != PriceDisplayMode.OFF)
-				{
-					final int price = displayMode == PriceDisplayMode.GE
-						? item.getGePrice()
-						: item.getHaPrice();
-
-					if (price > 0)
-					{
-						itemStringBuilder
-							.append(" (")
-							.append(QuantityFormatter.quantityToStackSize(price))
-							.append(" gp)");
-					}
-				}
+				item.textFont = font;
+				item.textWidth = fm.stringWidth(item.text);
+				item.textBoundsWidth = (int) fm.getStringBounds(item.text, graphics).getWidth();
 			}
 
-			final String itemString = itemStringBuilder.toString();
-			itemStringBuilder.setLength(0);
-
-			final Point textPoint = Perspective.getCanvasTextLocation(client,
-				graphics,
-				groundPoint,
-				itemString,
-				item.getHeight() + OFFSET_Z);
+			final String itemString = item.text;
+			final WorldView worldView = client.getWorldView(groundPoint.getWorldView());
+			final Point canvasPoint = worldView == null
+				? null
+				: Perspective.localToCanvas(client, groundPoint, worldView.getPlane(), item.getHeight() + OFFSET_Z);
+			// Centered like Perspective.getCanvasTextLocation, without measuring the text again
+			final Point textPoint = canvasPoint == null
+				? null
+				: new Point(canvasPoint.getX() - item.textBoundsWidth / 2, canvasPoint.getY());
 
 			if (textPoint == null)
 			{
 				continue;
 			}
 
-			final int offset = plugin.isHotKeyPressed()
+			final int offset = hotKeyPressed
 				? item.getOffset()
 				: offsetMap.compute(item.getLocation(), (k, v) -> v != null ? v + 1 : 0);
 
 			final int textX = textPoint.getX();
 			final int textY = textPoint.getY() - (STRING_GAP * offset);
 
-			if (plugin.isHotKeyPressed())
+			if (hotKeyPressed)
 			{
-				final int stringWidth = fm.stringWidth(itemString);
+				final int stringWidth = item.textWidth;
 				final int stringHeight = fm.getHeight();
 
 				// Item bounds
@@ -343,7 +329,7 @@ public class GroundItemsOverlay extends Overlay
 
 			// When the hotkey is pressed the hidden/highlight boxes are drawn to the right of the text,
 			// so always draw the pie since it is on the left hand side.
-			if (groundItemTimers == DespawnTimerMode.PIE || plugin.isHotKeyPressed())
+			if (groundItemTimers == DespawnTimerMode.PIE || hotKeyPressed)
 			{
 				drawTimerPieOverlay(graphics, textX, textY, item);
 			}
@@ -370,7 +356,7 @@ public class GroundItemsOverlay extends Overlay
 					textComponent.setText(timerText);
 					textComponent.setColor(timerColor);
 					textComponent.setOutline(outline);
-					textComponent.setPosition(new java.awt.Point(textX + fm.stringWidth(itemString), textY));
+					textComponent.setPosition(new java.awt.Point(textX + item.textWidth, textY));
 					textComponent.render(graphics);
 				}
 			}
@@ -380,11 +366,77 @@ public class GroundItemsOverlay extends Overlay
 			textComponent.setOutline(outline);
 			textComponent.setPosition(new java.awt.Point(textX, textY));
 			textComponent.render(graphics);
+			itemsDrawn++;
+		}
+
+		final long frameNanos = System.nanoTime() - frameStart;
+		averageFrameNanos = averageFrameNanos == 0
+			? frameNanos
+			: averageFrameNanos + (frameNanos - averageFrameNanos) * FRAME_COST_SMOOTHING;
+
+		if (developerMode && hotKeyPressed)
+		{
+			textComponent.setText(String.format("%d/%d items, %.3f ms (avg %.3f ms)",
+				itemsDrawn, groundItemList.size(), frameNanos / 1e6, averageFrameNanos / 1e6));
+			textComponent.setColor(Color.WHITE);
+			textComponent.setOutline(outline);
+			textComponent.setPosition(new java.awt.Point(client.getViewportXOffset() + 5, client.getViewportYOffset() + fm.getHeight() + 5));
+			textComponent.render(graphics);
 		}
 
 		return null;
 	}
 
+	private String buildItemText(GroundItem item, PriceDisplayMode displayMode)
+	{
+		itemStringBuilder.append(item.getName());
+
+		if (item.getQuantity() > 1)
+		{
+			itemStringBuilder.append(" (")
+				.append(QuantityFormatter.quantityToStackSize(item.getQuantity()))
+				.append(')');
+		}
+
+		if (item.getId() != ItemID.COINS)
+		{
+			if (displayMode == PriceDisplayMode.BOTH)
+			{
+				if (item.getGePrice() > 0)
+				{
+					itemStringBuilder.append(" (GE: ")
+						.append(QuantityFormatter.quantityToStackSize(item.getGePrice()))
+						.append(" gp)");
+				}
+
+				if (item.getHaPrice() > 0)
+				{
+					itemStringBuilder.append(" (HA: ")
+						.append(QuantityFormatter.quantityToStackSize(item.getHaPrice()))
+						.append(" gp)");
+				}
+			}
+			else if (displayMode != PriceDisplayMode.OFF)
+			{
+				final int price = displayMode == PriceDisplayMode.GE
+					? item.getGePrice()
+					: item.getHaPrice();
+
+				if (price > 0)
+				{
+					itemStringBuilder
+						.append(" (")
+						.append(QuantityFormatter.quantityToStackSize(price))
+						.append(" gp)");
+				}
+			}
+		}
+
+		final String itemString = itemStringBuilder.toString();
+		itemStringBuilder.setLength(0);
+		return itemString;
+	}
+
 	private Instant calculateDespawnTime(GroundItem groundItem)
 	{
 		Instant spawnTime = groundItem.getSpawnTime();
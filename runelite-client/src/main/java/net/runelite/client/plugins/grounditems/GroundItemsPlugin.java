@@ -384,6 +384,10 @@ public class GroundItemsPlugin extends Plugin
 
 		final MenuEntry[] menuEntries = client.getMenuEntries();
 		final List<MenuEntryWithCount> newEntries = new ArrayList<>(menuEntries.length);
+		// Ground item entries bucketed by the fields which identify them, so a big pile doesn't compare every entry
+		// with every other one. Entries in a bucket are still compared with equals.
+		final Map<Integer, List<MenuEntryWithCount>> groundItemEntries = new HashMap<>();
+		boolean collapsed = false;
 
 		outer:
 		for (int i = menuEntries.length - 1; i >= 0; i--)
@@ -395,19 +399,34 @@ public class GroundItemsPlugin extends Plugin
 				|| menuType == MenuAction.GROUND_ITEM_THIRD_OPTION || menuType == MenuAction.GROUND_ITEM_FOURTH_OPTION
 				|| menuType == MenuAction.GROUND_ITEM_FIFTH_OPTION || menuType == MenuAction.EXAMINE_ITEM_GROUND)
 			{
-				for (MenuEntryWithCount entryWCount : newEntries)
+				final List<MenuEntryWithCount> bucket = groundItemEntries.computeIfAbsent(
+					Objects.hash(menuType, menuEntry.getIdentifier(), menuEntry.getParam0(), menuEntry.getParam1(),
+						menuEntry.getOption(), menuEntry.getTarget()),
+					k -> new ArrayList<>(1));
+				for (MenuEntryWithCount entryWCount : bucket)
 				{
 					if (entryWCount.getEntry().equals(menuEntry))
 					{
 						entryWCount.increment();
+						collapsed = true;
 						continue outer;
 					}
 				}
+
+				final MenuEntryWithCount entryWCount = new MenuEntryWithCount(menuEntry);
+				bucket.add(entryWCount);
+				newEntries.add(entryWCount);
+				continue;
 			}
 
 			newEntries.add(new MenuEntryWithCount(menuEntry));
 		}
 
+		if (!collapsed)
+		{
+			return;
+		}
+
 		Collections.reverse(newEntries);
 
 		client.setMenuEntries(newEntries.stream().map(e ->
@@ -28,19 +28,30 @@ import com.google.common.base.Strings;
 import com.google.common.cache.CacheLoader;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import lombok.Value;
 import net.runelite.client.util.WildcardMatcher;
 
 class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 {
-	private final List<ItemThreshold> itemThresholds;
+	@Value
+	private static class CompiledThreshold
+	{
+		private final Pattern pattern;
+		private final ItemThreshold threshold;
+	}
+
+	// the wildcards are compiled once here rather than for every name the cache loads
+	private final List<CompiledThreshold> itemThresholds;
 
 	WildcardMatchLoader(List<String> configEntries)
 	{
 		this.itemThresholds = configEntries.stream()
 			.map(ItemThreshold::fromConfigEntry)
 			.filter(Objects::nonNull)
+			.map(threshold -> new CompiledThreshold(WildcardMatcher.compile(threshold.getItemName()), threshold))
 			.collect(Collectors.toList());
 	}
 
@@ -54,10 +65,10 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 
 		final String filteredName = key.getName().trim();
 
-		for (final ItemThreshold entry : itemThresholds)
+		for (final CompiledThreshold entry : itemThresholds)
 		{
-			if (WildcardMatcher.matches(entry.getItemName(), filteredName)
-				&& entry.quantityHolds(key.getQuantity()))
+			if (entry.getThreshold().quantityHolds(key.getQuantity())
+				&& entry.getPattern().matcher(filteredName).matches())
 			{
 				return true;
 			}
@@ -36,7 +36,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 	name = "Inventory Grid",
 	description = "Shows a grid over the inventory and a preview of where items will be dragged",
 	tags = {"items", "overlay"},
-	enabledByDefault = false
+	enabledByDefault = false,
+	deferStartup = true
 )
 public class InventoryGridPlugin extends Plugin
 {
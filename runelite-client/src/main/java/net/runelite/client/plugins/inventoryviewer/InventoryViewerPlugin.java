@@ -37,7 +37,8 @@ import net.runelite.client.util.HotkeyListener;
 	name = "Inventory Viewer",
 	description = "Add an overlay showing the contents of your inventory",
 	tags = {"alternate", "items", "overlay", "second"},
-	enabledByDefault = false
+	enabledByDefault = false,
+	deferStartup = true
 )
 public class InventoryViewerPlugin extends Plugin
 {
@@ -35,7 +35,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 	name = "Item Identification",
 	description = "Show identifying text over items with difficult to distinguish sprites",
 	tags = {"abbreviations", "labels", "seeds", "herbs", "saplings", "seedlings"},
-	enabledByDefault = false
+	enabledByDefault = false,
+	deferStartup = true
 )
 public class ItemIdentificationPlugin extends Plugin
 {
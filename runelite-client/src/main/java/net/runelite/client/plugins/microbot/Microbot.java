@@ -200,9 +200,12 @@ public class Microbot {
     @Component
     private static final int REPORT_BUTTON_COMPONENT_ID = 10616833;
 
+    // The JVM arguments don't change, and this is checked on hot paths such as scheduler condition evaluation
+    private static final boolean DEBUG = java.lang.management.ManagementFactory.getRuntimeMXBean().
+            getInputArguments().toString().contains("-agentlib:jdwp");
+
     public static boolean isDebug() {
-        return java.lang.management.ManagementFactory.getRuntimeMXBean().
-                getInputArguments().toString().contains("-agentlib:jdwp");
+        return DEBUG;
     }
 
     public static int getVarbitValue(int varbit) {
@@ -5,11 +5,13 @@ import net.runelite.api.Perspective;
 import net.runelite.api.Point;
 import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.util.WorldSnapshot;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
 import net.runelite.client.ui.overlay.OverlayUtil;
+import net.runelite.client.ui.overlay.components.LineComponent;
 import org.apache.commons.lang3.tuple.Pair;
 
 import javax.annotation.Nullable;
@@ -18,6 +20,8 @@ import java.awt.*;
 
 public class MicrobotOverlay extends OverlayPanel {
     MicrobotPlugin plugin;
+    // Checked once, looking up the jvm arguments every frame is too slow
+    private final boolean debug = Microbot.isDebug();
 
     @Inject
     MicrobotOverlay(MicrobotPlugin plugin) {
@@ -33,6 +37,17 @@ public class MicrobotOverlay extends OverlayPanel {
         for (Pair<WorldPoint, Integer> dangerousTile : Rs2Tile.getDangerousGraphicsObjectTiles()) {
             drawTile(graphics, dangerousTile.getKey(), Color.RED, dangerousTile.getValue().toString());
         }
+
+        if (debug && WorldSnapshot.getMisses() > 0) {
+            panelComponent.getChildren().add(LineComponent.builder()
+                    .left("Snapshot hits/builds")
+                    .right(WorldSnapshot.getHits() + "/" + WorldSnapshot.getMisses())
+                    .build());
+            panelComponent.getChildren().add(LineComponent.builder()
+                    .left("Snapshot build")
+                    .right(String.format("%.2f ms (avg %.2f)", WorldSnapshot.getLastBuildNanos() / 1e6, WorldSnapshot.getAverageBuildNanos() / 1e6))
+                    .build());
+        }
         return super.render(graphics);
     }
 
@@ -23,8 +23,12 @@ import net.runelite.client.plugins.PluginInstantiationException;
 import net.runelite.client.plugins.PluginManager;
 import net.runelite.client.plugins.microbot.qualityoflife.scripts.pouch.PouchOverlay;
 import net.runelite.client.plugins.microbot.qualityoflife.scripts.pouch.PouchScript;
+import net.runelite.client.plugins.microbot.util.ConditionWaiters;
+import net.runelite.client.plugins.microbot.util.WorldSnapshot;
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
 import net.runelite.client.plugins.microbot.util.equipment.Rs2Equipment;
+import net.runelite.client.plugins.microbot.util.gameobject.SceneObjectIndex;
+import net.runelite.client.plugins.microbot.util.grounditem.GroundItemIndex;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Gembag;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2Inventory;
 import net.runelite.client.plugins.microbot.util.item.Rs2ItemManager;
@@ -34,6 +38,7 @@ import net.runelite.client.plugins.microbot.util.overlay.GembagOverlay;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.reflection.Rs2Reflection;
 import net.runelite.client.plugins.microbot.util.shop.Rs2Shop;
+import net.runelite.client.plugins.microbot.util.tile.Rs2Reachability;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -113,6 +118,7 @@ public class MicrobotPlugin extends Plugin {
         Microbot.setClient(client);
         Microbot.setClientThread(clientThread);
         Microbot.setEventBus(eventBus);
+        ConditionWaiters.register(eventBus);
         Microbot.setMouseManager(mouseManager);
         Microbot.setNotifier(notifier);
         Microbot.setWorldService(worldService);
@@ -138,6 +144,12 @@ public class MicrobotPlugin extends Plugin {
         pouchScript.startUp();
         overlayManager.add(pouchOverlay);
         Microbot.setRs2ItemManager(new Rs2ItemManager());
+        clientThread.invoke(() -> {
+            if (client.getGameState() == GameState.LOGGED_IN) {
+                GroundItemIndex.rebuild();
+                SceneObjectIndex.rebuild();
+            }
+        });
 
 
 
@@ -146,6 +158,7 @@ public class MicrobotPlugin extends Plugin {
 
     protected void shutDown() {
         overlayManager.remove(microbotOverlay);
+        ConditionWaiters.unregister();
     }
 
 
@@ -168,11 +181,24 @@ public class MicrobotPlugin extends Plugin {
         }
     }
 
+    @Subscribe
+    public void onGameTick(GameTick gameTick) {
+        WorldSnapshot.invalidate();
+    }
+
     @Subscribe
     public void onGameStateChanged(GameStateChanged gameStateChanged) {
+        WorldSnapshot.invalidate();
         if (gameStateChanged.getGameState() == GameState.LOGGED_IN) {
             Microbot.setLoginTime(Instant.now());
         }
+        if (gameStateChanged.getGameState() == GameState.LOADING) {
+            GroundItemIndex.clear();
+            SceneObjectIndex.clear();
+            Rs2Reachability.invalidate();
+        } else if (gameStateChanged.getGameState() == GameState.LOGIN_SCREEN) {
+            GroundItemIndex.reset();
+        }
         if (gameStateChanged.getGameState() == GameState.HOPPING || gameStateChanged.getGameState() == GameState.LOGIN_SCREEN || gameStateChanged.getGameState() == GameState.CONNECTION_LOST) {
             if (Rs2Bank.bankItems != null) {
                 Rs2Bank.bankItems.clear();
@@ -181,6 +207,62 @@ public class MicrobotPlugin extends Plugin {
         }
     }
 
+    @Subscribe
+    public void onItemSpawned(ItemSpawned event) {
+        GroundItemIndex.onItemSpawned(event);
+    }
+
+    @Subscribe
+    public void onItemDespawned(ItemDespawned event) {
+        GroundItemIndex.onItemDespawned(event);
+    }
+
+    @Subscribe
+    public void onGameObjectSpawned(GameObjectSpawned event) {
+        SceneObjectIndex.onGameObjectSpawned(event);
+        Rs2Reachability.invalidate();
+    }
+
+    @Subscribe
+    public void onGameObjectDespawned(GameObjectDespawned event) {
+        SceneObjectIndex.onGameObjectDespawned(event);
+        Rs2Reachability.invalidate();
+    }
+
+    @Subscribe
+    public void onWallObjectSpawned(WallObjectSpawned event) {
+        SceneObjectIndex.onWallObjectSpawned(event);
+        Rs2Reachability.invalidate();
+    }
+
+    @Subscribe
+    public void onWallObjectDespawned(WallObjectDespawned event) {
+        SceneObjectIndex.onWallObjectDespawned(event);
+        Rs2Reachability.invalidate();
+    }
+
+    @Subscribe
+    public void onGroundObjectSpawned(GroundObjectSpawned event) {
+        SceneObjectIndex.onGroundObjectSpawned(event);
+        Rs2Reachability.invalidate();
+    }
+
+    @Subscribe
+    public void onGroundObjectDespawned(GroundObjectDespawned event) {
+        SceneObjectIndex.onGroundObjectDespawned(event);
+        Rs2Reachability.invalidate();
+    }
+
+    @Subscribe
+    public void onDecorativeObjectSpawned(DecorativeObjectSpawned event) {
+        SceneObjectIndex.onDecorativeObjectSpawned(event);
+    }
+
+    @Subscribe
+    public void onDecorativeObjectDespawned(DecorativeObjectDespawned event) {
+        SceneObjectIndex.onDecorativeObjectDespawned(event);
+    }
+
     @Subscribe
     public void onVarbitChanged(VarbitChanged event) {
         Rs2Player.handlePotionTimers(event);
@@ -242,6 +242,9 @@ public class MInventorySetupsPlugin extends Plugin
 	// Used to defer highlighting to GameTick
 	private boolean shouldTriggerInventoryHighlightOnGameTick;
 
+	// Whether the bank item images were prefetched since the bank was opened
+	private boolean bankImagesPrefetched;
+
 	private final HotkeyListener returnToSetupsHotkeyListener = new HotkeyListener(() -> config.returnToSetupsHotkey())
 	{
 		@Override
@@ -866,6 +869,8 @@ public class MInventorySetupsPlugin extends Plugin
 	{
 		if (event.getGroupId() == InterfaceID.BANK )
 		{
+			bankImagesPrefetched = false;
+
 			if (!config.persistHotKeysOutsideBank())
 			{
 				unregisterHotkeys();
@@ -1886,6 +1891,12 @@ public class MInventorySetupsPlugin extends Plugin
 		{
 			panel.doHighlighting();
 		}
+		else if (event.getContainerId() == InventoryID.BANK.getId() && navButtonIsSelected && !bankImagesPrefetched)
+		{
+			// setups are usually added and edited from bank items, so have their icons ready once per bank opening
+			bankImagesPrefetched = true;
+			itemManager.prefetchImages(container.getItems());
+		}
 	}
 
 	@Subscribe
@@ -3,6 +3,7 @@ package net.runelite.client.plugins.microbot.pluginscheduler.condition;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Optional;
+import java.util.Set;
 
 import net.runelite.api.events.AnimationChanged;
 import net.runelite.api.events.ChatMessage;
@@ -21,6 +22,7 @@ import net.runelite.api.events.NpcDespawned;
 import net.runelite.api.events.NpcSpawned;
 import net.runelite.api.events.StatChanged;
 import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
 
 /**
  * Base interface for script execution conditions.
@@ -58,7 +60,7 @@ public interface Condition {
     default Optional<ZonedDateTime> getCurrentTriggerTime() {
         // If the condition is already satisfied, return a time 1 second in the past
         if (isSatisfied()) {
-            return Optional.of(ZonedDateTime.now(ZoneId.systemDefault()).minusSeconds(1));
+            return Optional.of(SchedulerClock.now().minusSeconds(1));
         }
         // Default implementation for non-time conditions that aren't satisfied
         return Optional.empty();
@@ -81,6 +83,37 @@ public interface Condition {
 
     void reset (boolean randomize);
 
+    /**
+     * Gets the event types this condition handles, so that the {@link ConditionManager} only delivers those. Conditions
+     * which don't declare their events return null and get every event.
+     *
+     * @return the event classes, or null for all events
+     */
+    default Set<Class<?>> getEventTypes() {
+        return null;
+    }
+
+    /**
+     * Gets the keys of the events of a type this condition depends on, so that only those are delivered: the varbit
+     * or varp for {@link VarbitChanged} (see {@link ConditionEventRouter#varbitKey} and
+     * {@link ConditionEventRouter#varpKey}), the {@link net.runelite.api.Skill} for {@link StatChanged} and the
+     * container id for {@link ItemContainerChanged}.
+     *
+     * @return the keys, or null for every event of the type
+     */
+    default Set<Object> getEventKeys(Class<?> eventType) {
+        return null;
+    }
+
+    /**
+     * Whether {@link #isSatisfied()} can only change when one of the declared events is delivered, which lets logical
+     * conditions reuse their result until the next event. Conditions that change over time or when a script calls
+     * them must return false.
+     */
+    default boolean changesOnlyOnEvents() {
+        return getEventTypes() != null;
+    }
+
     default void onGameStateChanged(GameStateChanged gameStateChanged) {
         // This event handler is called whenever the game state changes
         // Useful for conditions that depend on the game state (e.g., logged in, logged out)
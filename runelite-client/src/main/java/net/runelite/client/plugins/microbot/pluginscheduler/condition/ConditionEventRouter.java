@@ -0,0 +1,162 @@
+package net.runelite.client.plugins.microbot.pluginscheduler.condition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.LogicalCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.NotCondition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Routes events straight to the leaf conditions of condition trees which handle them, instead of passing every event
+ * down every tree.
+ * <p>
+ * The routes are built from the event types and keys the leaves declare, see {@link Condition#getEventTypes()} and
+ * {@link Condition#getEventKeys(Class)}. Leaves which don't declare their events get every event. Delivering an event
+ * to a leaf drops the cached results of the logical conditions containing it. A router is a snapshot of the trees it
+ * was built from, so it has to be rebuilt once {@link #isStale()}.
+ */
+@Slf4j
+public class ConditionEventRouter {
+    private final List<Route> allEvents = new ArrayList<>();
+    private final Map<Class<?>, List<Route>> byType = new HashMap<>();
+    private final Map<Class<?>, Map<Object, List<Route>>> byKey = new HashMap<>();
+    // The logical conditions of the trees, and their structure versions when the router was built
+    private final List<LogicalCondition> logicals = new ArrayList<>();
+    private final int[] structureVersions;
+
+    @RequiredArgsConstructor
+    private static final class Route {
+        private final Condition leaf;
+        // The logical conditions which have the leaf as a direct child, or wrapped in a NotCondition
+        private final LogicalCondition[] parents;
+    }
+
+    public ConditionEventRouter(Collection<? extends Condition> roots) {
+        final Map<Condition, Set<LogicalCondition>> leaves = new IdentityHashMap<>();
+        for (Condition root : roots) {
+            collectLeaves(root, null, leaves);
+        }
+
+        structureVersions = new int[logicals.size()];
+        for (int i = 0; i < structureVersions.length; i++) {
+            structureVersions[i] = logicals.get(i).getStructureVersion();
+        }
+
+        for (Map.Entry<Condition, Set<LogicalCondition>> entry : leaves.entrySet()) {
+            final Condition leaf = entry.getKey();
+            final Route route = new Route(leaf, entry.getValue().toArray(new LogicalCondition[0]));
+            final Set<Class<?>> eventTypes = leaf.getEventTypes();
+            if (eventTypes == null) {
+                allEvents.add(route);
+                continue;
+            }
+
+            for (Class<?> eventType : eventTypes) {
+                final Set<Object> keys = leaf.getEventKeys(eventType);
+                if (keys == null) {
+                    byType.computeIfAbsent(eventType, k -> new ArrayList<>()).add(route);
+                } else {
+                    final Map<Object, List<Route>> routes = byKey.computeIfAbsent(eventType, k -> new HashMap<>());
+                    for (Object key : keys) {
+                        routes.computeIfAbsent(key, k -> new ArrayList<>()).add(route);
+                    }
+                }
+            }
+        }
+    }
+
+    private void collectLeaves(Condition condition, LogicalCondition parent,
+                               Map<Condition, Set<LogicalCondition>> leaves) {
+        if (condition instanceof LogicalCondition) {
+            final LogicalCondition logical = (LogicalCondition) condition;
+            logicals.add(logical);
+            for (Condition child : logical.getConditions()) {
+                collectLeaves(child, logical, leaves);
+            }
+        } else if (condition instanceof NotCondition) {
+            collectLeaves(((NotCondition) condition).getCondition(), parent, leaves);
+        } else if (condition != null) {
+            final Set<LogicalCondition> parents = leaves.computeIfAbsent(condition,
+                    k -> Collections.newSetFromMap(new IdentityHashMap<>()));
+            if (parent != null) {
+                parents.add(parent);
+            }
+        }
+    }
+
+    /**
+     * Whether conditions were added to or removed from the trees since the router was built.
+     */
+    public boolean isStale() {
+        for (int i = 0; i < structureVersions.length; i++) {
+            if (logicals.get(i).getStructureVersion() != structureVersions[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Object varbitKey(int varbitId) {
+        return varbitId;
+    }
+
+    public static Object varpKey(int varpId) {
+        // Negative, so varps don't collide with varbits of the same id
+        return -varpId - 1;
+    }
+
+    /**
+     * Delivers the event to every leaf condition that handles it. Errors thrown by a condition are logged and don't
+     * stop delivery to the others.
+     */
+    public <T> void route(T event, BiConsumer<Condition, T> handler) {
+        deliver(allEvents, event, handler);
+        deliver(byType.get(event.getClass()), event, handler);
+
+        final Map<Object, List<Route>> routes = byKey.get(event.getClass());
+        if (routes == null) {
+            return;
+        }
+        if (event instanceof VarbitChanged) {
+            final VarbitChanged varbitChanged = (VarbitChanged) event;
+            // A varbit change also changes the varp holding it
+            deliver(routes.get(varpKey(varbitChanged.getVarpId())), event, handler);
+            if (varbitChanged.getVarbitId() != -1) {
+                deliver(routes.get(varbitKey(varbitChanged.getVarbitId())), event, handler);
+            }
+        } else if (event instanceof StatChanged) {
+            deliver(routes.get(((StatChanged) event).getSkill()), event, handler);
+        } else if (event instanceof ItemContainerChanged) {
+            deliver(routes.get(((ItemContainerChanged) event).getContainerId()), event, handler);
+        }
+    }
+
+    private static <T> void deliver(List<Route> routes, T event, BiConsumer<Condition, T> handler) {
+        if (routes == null) {
+            return;
+        }
+        for (Route route : routes) {
+            try {
+                handler.accept(route.leaf, event);
+            } catch (Exception e) {
+                log.error("Error in condition {} during {} event: {}",
+                        route.leaf.getDescription(), event.getClass().getSimpleName(), e.getMessage(), e);
+            }
+            for (LogicalCondition parent : route.parents) {
+                parent.invalidateCachedResult();
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import lombok.Getter;
@@ -44,6 +45,7 @@ import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.en
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.resource.ResourceCondition;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.SingleTriggerTimeCondition;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.TimeCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
 
 /**
  * Manages a hierarchical structure of logical conditions for plugin scheduling.
@@ -125,6 +127,12 @@ public class ConditionManager implements AutoCloseable {
      */
     private Supplier<LogicalCondition> currentWatchdogSupplier = null;
 
+    /**
+     * Routes events to the leaf conditions of both structures. Dropped whenever a structure is replaced, and rebuilt
+     * once conditions are added to or removed from either of them.
+     */
+    private transient volatile ConditionEventRouter router;
+
     /**
      * Creates a new condition manager with default settings.
      * Initializes the user logical condition as an AND condition (all conditions must be met).
@@ -141,6 +149,7 @@ public class ConditionManager implements AutoCloseable {
      */
     public void setPluginCondition(LogicalCondition condition) {
         pluginCondition = condition;
+        router = null;
     }
     
     /**
@@ -267,6 +276,7 @@ public class ConditionManager implements AutoCloseable {
      */
     public void clearUserConditions() {
         userLogicalCondition.getConditions().clear();
+        router = null;
     }
     /**
      * Evaluates if all conditions are currently satisfied, respecting the logical structure.
@@ -436,7 +446,6 @@ public class ConditionManager implements AutoCloseable {
         if (pluginCondition != null) {
             pluginCondition.reset();
         }
-        
     }
     /**
      * Resets all conditions in both user and plugin logical structures with an option to randomize.
@@ -533,6 +542,7 @@ public class ConditionManager implements AutoCloseable {
      */
     public void setUserLogicalCondition(LogicalCondition logicalCondition) {
         this.userLogicalCondition = logicalCondition;
+        router = null;
     }
 
     /**
@@ -590,6 +600,7 @@ public class ConditionManager implements AutoCloseable {
     private void ensureUserLogicalExists() {
         if (userLogicalCondition == null) {
             userLogicalCondition = new AndCondition();
+            router = null;
         }
     }
 
@@ -628,11 +639,11 @@ public class ConditionManager implements AutoCloseable {
         // If no target specified, add to user root
         if (targetLogical == null) {
             userLogicalCondition.addCondition(condition);
-            return;
+        } else {
+            // Otherwise, add to the specified logical
+            targetLogical.addCondition(condition);
         }
-        
-        // Otherwise, add to the specified logical
-        targetLogical.addCondition(condition);
+        router = null;
     }
 
     /**
@@ -660,6 +671,7 @@ public class ConditionManager implements AutoCloseable {
                 userLogicalCondition =  new AndCondition(); 
             }
         }
+        router = null;
         // Remove from user logical structure
         if (userLogicalCondition.removeCondition(condition)) {
             return true;
@@ -973,7 +985,7 @@ public class ConditionManager implements AutoCloseable {
             
             // Find the most recent trigger time in the past from all satisfied conditions
             ZonedDateTime mostRecentTriggerTime = null;
-            ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+            ZonedDateTime now = SchedulerClock.now();
             
             // Recursively scan all conditions that are satisfied
             for (Condition condition : getConditions()) {
@@ -1011,7 +1023,7 @@ public class ConditionManager implements AutoCloseable {
         Optional<ZonedDateTime> nextTime = getCurrentTriggerTimeForLogical(getFullLogicalCondition());
         
         if (nextTime.isPresent()) {
-            ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+            ZonedDateTime now = SchedulerClock.now();
             ZonedDateTime triggerTime = nextTime.get();
             
             if (triggerTime.isBefore(now)) {
@@ -1047,7 +1059,7 @@ public class ConditionManager implements AutoCloseable {
             return Optional.empty();
         }
         
-        ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+        ZonedDateTime now = SchedulerClock.now();
         
         // If the logical condition is already satisfied, find most recent past trigger time
         if (logical.isSatisfied()) {
@@ -1160,7 +1172,7 @@ public class ConditionManager implements AutoCloseable {
         
         Optional<ZonedDateTime> nextTrigger = getCurrentTriggerTime();
         if (nextTrigger.isPresent()) {
-            ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+            ZonedDateTime now = SchedulerClock.now();
             ZonedDateTime triggerTime = nextTrigger.get();
             
             // If trigger time is in the future, return the duration
@@ -1185,7 +1197,7 @@ public class ConditionManager implements AutoCloseable {
         Optional<ZonedDateTime> nextTrigger = getCurrentTriggerTime();
         if (nextTrigger.isPresent()) {
             ZonedDateTime triggerTime = nextTrigger.get();
-            ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+            ZonedDateTime now = SchedulerClock.now();
             
             // Format nicely depending on how far in the future
             Duration timeUntil = Duration.between(now, triggerTime);
@@ -1234,219 +1246,112 @@ public class ConditionManager implements AutoCloseable {
                     .orElse(0.0);
         }
     }
-    @Subscribe(priority = -1)
-    public void onGameStateChanged(GameStateChanged gameStateChanged){
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onGameStateChanged(gameStateChanged);
-            } catch (Exception e) {
-                log.error("Error in condition {} during GameStateChanged event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }        
+    /**
+     * Delivers an event to the leaf conditions which depend on it.
+     */
+    private <T> void route(T event, BiConsumer<Condition, T> handler) {
+        getRouter().route(event, handler);
     }
 
-@Subscribe(priority = -1)
-public void onStatChanged(StatChanged event) {
-             
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onStatChanged(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during StatChanged event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
+    private ConditionEventRouter getRouter() {
+        ConditionEventRouter current = router;
+        if (current == null || current.isStale()) {
+            List<Condition> roots = new ArrayList<>();
+            if (pluginCondition != null) {
+                roots.add(pluginCondition);
             }
-        }        
+            if (userLogicalCondition != null) {
+                roots.add(userLogicalCondition);
+            }
+            current = new ConditionEventRouter(roots);
+            router = current;
+        }
+        return current;
     }
-   
-    
+
+    @Subscribe(priority = -1)
+    public void onGameStateChanged(GameStateChanged gameStateChanged) {
+        route(gameStateChanged, Condition::onGameStateChanged);
+    }
+
+    @Subscribe(priority = -1)
+    public void onStatChanged(StatChanged event) {
+        route(event, Condition::onStatChanged);
+    }
+
     @Subscribe(priority = -1)
     public void onItemContainerChanged(ItemContainerChanged event) {
-         // Propagate event to all conditions
-         
-         for (Condition condition : getConditions( )) {
-            try {
-                condition.onItemContainerChanged(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during ItemContainerChanged event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }       
+        route(event, Condition::onItemContainerChanged);
     }
+
     @Subscribe(priority = -1)
     public void onGameTick(GameTick gameTick) {
-        // Propagate event to all conditions
-        
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onGameTick(gameTick);
-            } catch (Exception e) {
-                log.error("Error in condition {} during GameTick event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }      
+        route(gameTick, Condition::onGameTick);
     }
 
     @Subscribe(priority = -1)
     public void onGroundObjectSpawned(GroundObjectSpawned event) {
-        // Propagate event to all conditions
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onGroundObjectSpawned(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during GroundItemSpawned event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }
-        if (pluginCondition != null) {
-            try {
-                pluginCondition.onGroundObjectSpawned(event);
-            } catch (Exception e) {
-                log.error("Error in plugin condition during GroundItemSpawned event: {}", 
-                    e.getMessage(), e);
-            }
-        }
+        route(event, Condition::onGroundObjectSpawned);
     }
 
     @Subscribe(priority = -1)
     public void onGroundObjectDespawned(GroundObjectDespawned event) {
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onGroundObjectDespawned(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during GroundItemDespawned event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }       
+        route(event, Condition::onGroundObjectDespawned);
     }
 
     @Subscribe(priority = -1)
     public void onMenuOptionClicked(MenuOptionClicked event) {
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onMenuOptionClicked(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during MenuOptionClicked event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }        
+        route(event, Condition::onMenuOptionClicked);
     }
 
     @Subscribe(priority = -1)
     public void onChatMessage(ChatMessage event) {
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onChatMessage(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during ChatMessage event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }        
+        route(event, Condition::onChatMessage);
     }
 
     @Subscribe(priority = -1)
     public void onHitsplatApplied(HitsplatApplied event) {
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onHitsplatApplied(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during HitsplatApplied event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }
-       
+        route(event, Condition::onHitsplatApplied);
     }
+
     @Subscribe(priority = -1)
-	public void onVarbitChanged(VarbitChanged event)
-	{
-		for (Condition condition :getConditions( )) {
-            try {
-                condition.onVarbitChanged(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during VarbitChanged event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }        
-	}
+    public void onVarbitChanged(VarbitChanged event) {
+        route(event, Condition::onVarbitChanged);
+    }
+
     @Subscribe(priority = -1)
-    void onNpcChanged(NpcChanged event){
-        for (Condition condition :getConditions( )) {
-            try {
-                condition.onNpcChanged(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during NpcChanged event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }        
+    void onNpcChanged(NpcChanged event) {
+        route(event, Condition::onNpcChanged);
     }
+
     @Subscribe(priority = -1)
-    void onNpcSpawned(NpcSpawned npcSpawned){
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onNpcSpawned(npcSpawned);
-            } catch (Exception e) {
-                log.error("Error in condition {} during NpcSpawned event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }        
-        
+    void onNpcSpawned(NpcSpawned npcSpawned) {
+        route(npcSpawned, Condition::onNpcSpawned);
     }
+
     @Subscribe(priority = -1)
-    void onNpcDespawned(NpcDespawned npcDespawned){
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onNpcDespawned(npcDespawned);
-            } catch (Exception e) {
-                log.error("Error in condition {} during NpcDespawned event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }        
+    void onNpcDespawned(NpcDespawned npcDespawned) {
+        route(npcDespawned, Condition::onNpcDespawned);
     }
+
     @Subscribe(priority = -1)
-    void onInteractingChanged(InteractingChanged event){
-        for (Condition condition : getConditions( )) {
-            try {
-                condition.onInteractingChanged(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during InteractingChanged event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }       
+    void onInteractingChanged(InteractingChanged event) {
+        route(event, Condition::onInteractingChanged);
     }
+
     @Subscribe(priority = -1)
-    void onItemSpawned(ItemSpawned event){        
-        List<Condition> allConditions = getConditions();            
-        // Proceed with normal processing
-        for (Condition condition : allConditions) {            
-            try {                
-                condition.onItemSpawned(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during ItemSpawned event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }       
+    void onItemSpawned(ItemSpawned event) {
+        route(event, Condition::onItemSpawned);
     }
+
     @Subscribe(priority = -1)
-    void onItemDespawned(ItemDespawned event){
-        for (Condition condition :getConditions( )) {
-            try {
-                condition.onItemDespawned(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during ItemDespawned event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }       
+    void onItemDespawned(ItemDespawned event) {
+        route(event, Condition::onItemDespawned);
     }
+
     @Subscribe(priority = -1)
     void onAnimationChanged(AnimationChanged event) {
-        for (Condition condition :getConditions( )) {
-            try {
-                condition.onAnimationChanged(event);
-            } catch (Exception e) {
-                log.error("Error in condition {} during AnimationChanged event: {}", 
-                    condition.getDescription(), e.getMessage(), e);
-            }
-        }       
+        route(event, Condition::onAnimationChanged);
     }
 
     /**
@@ -1751,6 +1656,7 @@ public void onStatChanged(StatChanged event) {
             newPluginCondition, 
             updateOption, 
             preserveState);
+        router = null;
         
         if (!optimizedNewCondition.equals(pluginCondition)) {            
             StringBuilder sb = new StringBuilder();
@@ -17,6 +17,7 @@ import net.runelite.client.plugins.microbot.pluginscheduler.condition.ConditionT
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.OrCondition;
 import net.runelite.client.plugins.microbot.util.bank.enums.BankLocation;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
+import java.util.Set;
 
 /**
  * Base class for all location-based conditions.
@@ -254,4 +255,9 @@ public abstract class LocationCondition implements Condition {
             return orCondition;
         }
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(GameTick.class);
+    }
 }
\ No newline at end of file
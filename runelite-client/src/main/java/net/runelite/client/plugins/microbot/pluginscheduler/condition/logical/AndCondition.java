@@ -15,7 +15,7 @@ public class AndCondition extends LogicalCondition {
     @Override
     public boolean isSatisfied() {
         if (conditions.isEmpty()) return true;
-        return conditions.stream().allMatch(Condition::isSatisfied);
+        return evaluateCached(false);
     }
     
     /**
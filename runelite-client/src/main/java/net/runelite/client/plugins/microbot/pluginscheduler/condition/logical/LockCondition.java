@@ -3,6 +3,7 @@ package net.runelite.client.plugins.microbot.pluginscheduler.condition.logical;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Set;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -128,4 +129,15 @@ public class LockCondition implements Condition {
         // Lock conditions don't have a specific trigger time
         return Optional.empty();
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of();
+    }
+
+    @Override
+    public boolean changesOnlyOnEvents() {
+        // Locked and unlocked by scripts
+        return false;
+    }
 }
\ No newline at end of file
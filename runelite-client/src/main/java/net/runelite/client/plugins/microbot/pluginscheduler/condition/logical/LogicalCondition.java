@@ -1,8 +1,11 @@
 package net.runelite.client.plugins.microbot.pluginscheduler.condition.logical;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
+import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -31,8 +34,122 @@ public abstract class LogicalCondition implements Condition {
         }
     }
     @Getter
-    protected List<Condition> conditions = new ArrayList<>();
-    
+    protected List<Condition> conditions = new ConditionList();
+
+    // Bumped when an event is delivered to a direct child or this condition is reset
+    private final transient AtomicLong resultVersion = new AtomicLong();
+    private transient volatile CachedResult cachedResult;
+    private transient volatile boolean resultCacheable;
+
+    /**
+     * The children of a logical condition. Replacing a child counts as a change too, so every edit made through
+     * {@link #getConditions()} is seen by cached results and event routes.
+     */
+    private static final class ConditionList extends ArrayList<Condition> {
+        @Override
+        public Condition set(int index, Condition element) {
+            modCount++;
+            return super.set(index, element);
+        }
+
+        int getModCount() {
+            return modCount;
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class CachedResult {
+        final long version;
+        final int structureVersion;
+        // The cached results of the nested logical conditions evaluated, null for other children
+        final CachedResult[] children;
+        final boolean result;
+    }
+
+    /**
+     * Changes whenever a child is added, removed or replaced. Changes to nested logical conditions are not counted.
+     */
+    public int getStructureVersion() {
+        return ((ConditionList) conditions).getModCount();
+    }
+
+    /**
+     * Drops the cached result of this condition, and of the logical conditions containing it. Called when an event is
+     * delivered to one of its direct children.
+     */
+    public void invalidateCachedResult() {
+        resultVersion.incrementAndGet();
+    }
+
+    /**
+     * Evaluates the children in order until one is {@code stopOn}. The result is reused until an event is delivered to
+     * one of the evaluated children, or they change, when every evaluated child can only change on events.
+     *
+     * @param stopOn the child result which decides the result, false for AND and true for OR
+     */
+    protected boolean evaluateCached(boolean stopOn) {
+        final CachedResult cached = cachedResult;
+        if (cached != null && isValid(cached)) {
+            return cached.result;
+        }
+
+        final long version = resultVersion.get();
+        final int structureVersion = getStructureVersion();
+        final CachedResult[] children = new CachedResult[conditions.size()];
+        boolean result = !stopOn;
+        boolean cacheable = true;
+        int evaluated = 0;
+        for (Condition condition : conditions) {
+            final boolean satisfied = condition.isSatisfied();
+            cacheable &= isCacheable(condition);
+            final LogicalCondition nested = nestedLogical(condition);
+            if (nested != null) {
+                children[evaluated] = nested.cachedResult;
+            }
+            evaluated++;
+            if (satisfied == stopOn) {
+                result = stopOn;
+                break;
+            }
+        }
+
+        resultCacheable = cacheable;
+        cachedResult = cacheable ? new CachedResult(version, structureVersion, Arrays.copyOf(children, evaluated), result) : null;
+        return result;
+    }
+
+    private boolean isValid(CachedResult cached) {
+        if (cached.version != resultVersion.get() || cached.structureVersion != getStructureVersion()) {
+            return false;
+        }
+        // Nested conditions invalidate only themselves, so check the ones this result was evaluated from
+        for (int i = 0; i < cached.children.length; i++) {
+            final LogicalCondition nested = nestedLogical(conditions.get(i));
+            if (nested != null && (cached.children[i] == null || nested.cachedResult != cached.children[i]
+                    || !nested.isValid(cached.children[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static LogicalCondition nestedLogical(Condition condition) {
+        if (condition instanceof NotCondition) {
+            condition = ((NotCondition) condition).getCondition();
+        }
+        return condition instanceof LogicalCondition ? (LogicalCondition) condition : null;
+    }
+
+    private static boolean isCacheable(Condition condition) {
+        if (condition instanceof LogicalCondition) {
+            return ((LogicalCondition) condition).resultCacheable;
+        }
+        if (condition instanceof NotCondition) {
+            return isCacheable(((NotCondition) condition).getCondition());
+        }
+        return condition.changesOnlyOnEvents();
+    }
+
     public LogicalCondition addCondition(Condition condition) {
         //check if the condition is already in the list, with .equals()
         // this prevents duplicates and unnecessary processing, 
@@ -396,6 +513,7 @@ public abstract class LogicalCondition implements Condition {
                 condition.reset();
             }
         }
+        invalidateCachedResult();
     }
     
     public void softReset(boolean randomize) {
@@ -404,21 +522,21 @@ public abstract class LogicalCondition implements Condition {
                 condition.reset(randomize);
             }
         }        
+        invalidateCachedResult();
     }
     public void reset() { 
-        
         for (Condition condition : conditions) {
             condition.reset();
         }
-    
+        invalidateCachedResult();
     }
     
     public void reset(boolean randomize) {
-        
+
         for (Condition condition : conditions) {
             condition.reset(randomize);
         }
-        
+        invalidateCachedResult();
     }
 
 
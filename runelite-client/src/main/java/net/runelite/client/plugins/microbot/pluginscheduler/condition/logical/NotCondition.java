@@ -11,6 +11,7 @@ import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.Inter
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.SingleTriggerTimeCondition;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.TimeCondition;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.TimeWindowCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -138,7 +139,7 @@ public class NotCondition implements Condition {
                     IntervalCondition intervalCondition = (IntervalCondition) condition;
                     // Calculate when the next interval would start after the current one
                     // This is our best estimate of when the NOT condition would become satisfied again
-                    ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+                    ZonedDateTime now = SchedulerClock.now();
                     return Optional.of(now.plus(intervalCondition.getInterval()));
                 }
                 
@@ -159,7 +160,7 @@ public class NotCondition implements Condition {
         // For non-TimeCondition, use the default behavior
         // If the NOT is satisfied, return time in the past
         if (isSatisfied()) {
-            return Optional.of(ZonedDateTime.now(ZoneId.systemDefault()).minusSeconds(1));
+            return Optional.of(SchedulerClock.now().minusSeconds(1));
         }
         
         // If the NOT is not satisfied, we can't determine when it will become satisfied
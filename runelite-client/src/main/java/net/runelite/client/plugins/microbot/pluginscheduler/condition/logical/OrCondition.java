@@ -19,7 +19,7 @@ public class OrCondition extends LogicalCondition {
     @Override
     public boolean isSatisfied() {
         if (conditions.isEmpty()) return true;
-        return conditions.stream().anyMatch(Condition::isSatisfied);
+        return evaluateCached(true);
     }
     
 
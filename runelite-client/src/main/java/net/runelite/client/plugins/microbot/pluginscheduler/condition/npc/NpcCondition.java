@@ -1,6 +1,7 @@
 package net.runelite.client.plugins.microbot.pluginscheduler.condition.npc;
 
 import java.util.regex.Pattern;
+import java.util.Set;
 
 import lombok.EqualsAndHashCode;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.Condition;
@@ -34,4 +35,9 @@ public abstract class NpcCondition implements Condition {
         // Otherwise, create a contains pattern
         return Pattern.compile(".*" + Pattern.quote(npcName) + ".*", Pattern.CASE_INSENSITIVE);
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of();
+    }
 }
\ No newline at end of file
@@ -465,6 +465,9 @@ public class NpcKillCountCondition extends NpcCondition {
         
         return System.currentTimeMillis() - lastKillTimeMillis;
     }
-    
-    
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(InteractingChanged.class, NpcDespawned.class);
+    }
 }
\ No newline at end of file
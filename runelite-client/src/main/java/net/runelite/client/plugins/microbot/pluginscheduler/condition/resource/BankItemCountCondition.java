@@ -3,6 +3,7 @@ package net.runelite.client.plugins.microbot.pluginscheduler.condition.resource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
+import java.util.Set;
 import lombok.Builder;
 import lombok.Getter;
 import net.runelite.api.InventoryID;
@@ -14,6 +15,7 @@ import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.Or
 import net.runelite.client.plugins.microbot.util.bank.Rs2Bank;
 import net.runelite.client.plugins.microbot.util.inventory.Rs2ItemModel;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
+import net.runelite.api.events.GameTick;
 
 /**
  * Condition that tracks the number of items in bank.
@@ -336,4 +338,14 @@ public class BankItemCountCondition extends ResourceCondition {
         
         return orCondition;
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(GameTick.class, ItemContainerChanged.class);
+    }
+
+    @Override
+    public Set<Object> getEventKeys(Class<?> eventType) {
+        return eventType == ItemContainerChanged.class ? Set.of(InventoryID.BANK.getId()) : null;
+    }
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * Condition that tracks items gathered from resource nodes (mining, fishing, woodcutting, farming, etc.).
@@ -551,4 +552,10 @@ public class GatheredResourceCondition extends ResourceCondition {
         
         return orCondition;
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(AnimationChanged.class, GameTick.class, InteractingChanged.class, ItemContainerChanged.class,
+                StatChanged.class);
+    }
 }
\ No newline at end of file
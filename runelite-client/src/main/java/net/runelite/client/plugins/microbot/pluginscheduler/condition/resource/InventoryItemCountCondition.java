@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.Set;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -347,4 +348,14 @@ public class InventoryItemCountCondition extends ResourceCondition {
     public int getMetConditionCount() {
         return isSatisfied() ? 1 : 0;
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(GameTick.class, ItemContainerChanged.class);
+    }
+
+    @Override
+    public Set<Object> getEventKeys(Class<?> eventType) {
+        return eventType == ItemContainerChanged.class ? Set.of(InventoryID.INVENTORY.getId()) : null;
+    }
 }
\ No newline at end of file
@@ -823,4 +823,9 @@ public class LootItemCondition extends ResourceCondition {
         }
     }
 
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(GameStateChanged.class, GameTick.class, GroundObjectDespawned.class, GroundObjectSpawned.class,
+                ItemContainerChanged.class, ItemDespawned.class, ItemSpawned.class);
+    }
 }
\ No newline at end of file
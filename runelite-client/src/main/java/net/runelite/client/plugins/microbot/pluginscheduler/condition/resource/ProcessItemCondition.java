@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.Set;
 
 
 /**
@@ -602,4 +603,9 @@ public class ProcessItemCondition extends ResourceCondition {
         }
         return orCondition;
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(GameTick.class, ItemContainerChanged.class);
+    }
 }
\ No newline at end of file
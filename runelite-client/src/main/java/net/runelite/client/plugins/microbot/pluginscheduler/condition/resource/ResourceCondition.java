@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Abstract base class for all resource-based conditions.
@@ -335,4 +336,9 @@ public abstract class ResourceCondition implements Condition {
         // Process any pending events
         processPendingEvents();
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(GameTick.class);
+    }
 }
\ No newline at end of file
@@ -12,12 +12,14 @@ import net.runelite.client.game.SkillIconManager;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.Condition;
 import net.runelite.client.util.ImageUtil;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
 
 import javax.swing.*;
 import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 /**
  * Abstract base class for skill-based conditions.
@@ -175,7 +177,7 @@ public abstract class SkillCondition implements Condition {
                 TOTAL_LEVEL = Microbot.getClient().getTotalLevel();
                 TOTAL_XP = Microbot.getClient().getOverallExperience();
                 SKILL_DATA_INITIALIZED = true;
-                LAST_UPDATE_TIME = System.currentTimeMillis();
+                LAST_UPDATE_TIME = SchedulerClock.millis();
             } catch (Exception e) {
                 // Ignore errors during initialization
             }            
@@ -239,7 +241,7 @@ public abstract class SkillCondition implements Condition {
      */
     public static void forceUpdate() {
         // Only update once every UPDATE_THROTTLE_MS milliseconds
-        long currentTime = System.currentTimeMillis();
+        long currentTime = SchedulerClock.millis();
         if (currentTime - LAST_UPDATE_TIME < UPDATE_THROTTLE_MS) {
             return;
         }
@@ -249,42 +251,24 @@ public abstract class SkillCondition implements Condition {
     }
     
     /**
-     * Updates skill data when stats change
+     * Updates skill data when stats change. The event carries the new level and XP, so the caches are updated from it
+     * directly instead of reading the client again. Every skill condition gets the event, but applying it again changes
+     * nothing.
      */
     @Override
     public void onStatChanged(StatChanged event) {
         if (!SKILL_DATA_INITIALIZED) {
             initializeSkillData();
-            return;
-        }
-        
-        Skill updatedSkill = event.getSkill();
-        
-        // Update throttling - only update once every UPDATE_THROTTLE_MS milliseconds
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - LAST_UPDATE_TIME < UPDATE_THROTTLE_MS) {
-            return;
         }
-        
-        // Update cached values
-        Microbot.getClientThread().invokeLater(() -> {
-            try {
-                // Update the specific skill
-                int newLevel = Microbot.getClient().getRealSkillLevel(updatedSkill);
-                long newXp = Microbot.getClient().getSkillExperience(updatedSkill);
-                
-                SKILL_LEVELS.put(updatedSkill, newLevel);
-                SKILL_XP.put(updatedSkill, newXp);
-                
-                // Update total level and XP
-                TOTAL_LEVEL = Microbot.getClient().getTotalLevel();
-                TOTAL_XP = Microbot.getClient().getOverallExperience();
-                LAST_UPDATE_TIME = currentTime;
-            } catch (Exception e) {
-                // Ignore errors during update
-            }
-            
-        });
+
+        final Skill updatedSkill = event.getSkill();
+        final int newLevel = event.getLevel();
+        final long newXp = event.getXp();
+        final Integer oldLevel = SKILL_LEVELS.put(updatedSkill, newLevel);
+        final Long oldXp = SKILL_XP.put(updatedSkill, newXp);
+        TOTAL_LEVEL += newLevel - (oldLevel == null ? 0 : oldLevel);
+        TOTAL_XP += newXp - (oldXp == null ? 0 : oldXp);
+        LAST_UPDATE_TIME = SchedulerClock.millis();
     }
     @Override
     public void onGameStateChanged(GameStateChanged gameStateChanged) {
@@ -295,4 +279,15 @@ public abstract class SkillCondition implements Condition {
             SKILL_DATA_INITIALIZED = false;
         }
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(StatChanged.class, GameStateChanged.class);
+    }
+
+    @Override
+    public Set<Object> getEventKeys(Class<?> eventType) {
+        // Totals change with every skill
+        return eventType == StatChanged.class && !isTotal() ? Set.of(skill) : null;
+    }
 }
\ No newline at end of file
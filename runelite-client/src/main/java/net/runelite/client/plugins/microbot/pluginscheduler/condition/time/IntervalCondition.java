@@ -10,6 +10,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
 
 /**
  * Condition that is met at regular intervals.
@@ -215,7 +216,7 @@ public class IntervalCondition extends TimeCondition {
             sb.append("Last reset: ").append(lastValidResetTime.format(formatter)).append("\n");
             
             // Calculate time since the last reset
-            Duration sinceLastReset = Duration.between(lastValidResetTime, LocalDateTime.now());
+            Duration sinceLastReset = Duration.between(lastValidResetTime, SchedulerClock.localNow());
             long seconds = sinceLastReset.getSeconds();
             sb.append("Time since last reset: ")
               .append(String.format("%02d:%02d:%02d", seconds / 3600, (seconds % 3600) / 60, seconds % 60))
@@ -283,7 +284,7 @@ public class IntervalCondition extends TimeCondition {
             sb.append("    Last Reset: ").append(lastValidResetTime.format(dateTimeFormatter)).append("\n");
             
             // Add time since last reset
-            Duration sinceLastReset = Duration.between(lastValidResetTime, LocalDateTime.now());
+            Duration sinceLastReset = Duration.between(lastValidResetTime, SchedulerClock.localNow());
             long seconds = sinceLastReset.getSeconds();
             sb.append("    Time Since Reset: ")
               .append(String.format("%02d:%02d:%02d", seconds / 3600, (seconds % 3600) / 60, seconds % 60))
@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.events.GameTick;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -49,7 +50,7 @@ public class SingleTriggerTimeCondition extends TimeCondition {
      * @return A new SingleTriggerTimeCondition
      */
     public static SingleTriggerTimeCondition afterDelay(long delaySeconds) {
-        ZonedDateTime triggerTime = ZonedDateTime.now(ZoneId.systemDefault())
+        ZonedDateTime triggerTime = SchedulerClock.now()
                 .plusSeconds(delaySeconds);
         return new SingleTriggerTimeCondition(triggerTime);
     }
@@ -166,7 +167,7 @@ public class SingleTriggerTimeCondition extends TimeCondition {
             return;
         }
         currentValidResetCount++;   
-        lastValidResetTime = LocalDateTime.now();    
+        lastValidResetTime = SchedulerClock.localNow();    
         log.debug("SingleTriggerTimeCondition reset, will trigger again at: {}", 
                 targetTime.format(FORMATTER));
     }
@@ -182,7 +183,7 @@ public class SingleTriggerTimeCondition extends TimeCondition {
         
         // Calculate time progress as percentage
         long totalSeconds = java.time.Duration.between(
-                ZonedDateTime.now().withSecond(0).withNano(0), targetTime).getSeconds();
+                SchedulerClock.now().withSecond(0).withNano(0), targetTime).getSeconds();
         long secondsRemaining = java.time.Duration.between(now, targetTime).getSeconds();
         
         if (totalSeconds <= 0) {
@@ -7,6 +7,7 @@ import net.runelite.api.events.GameTick;
 
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.Condition;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.ConditionType;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Abstract base class for all time-based conditions.
@@ -39,7 +41,7 @@ public abstract class TimeCondition implements Condition {
      */
     public TimeCondition(final long maximumNumberOfRepeats) {
         this.maximumNumberOfRepeats = maximumNumberOfRepeats;
-        lastValidResetTime = LocalDateTime.now();
+        lastValidResetTime = SchedulerClock.localNow();
     }
     /**
      * Gets the current date and time in the system default time zone
@@ -47,7 +49,7 @@ public abstract class TimeCondition implements Condition {
      * @return The current ZonedDateTime
      */
     protected ZonedDateTime getNow() {
-        return ZonedDateTime.now(ZoneId.systemDefault());
+        return SchedulerClock.now();
     }
     
     @Override
@@ -79,7 +81,7 @@ public abstract class TimeCondition implements Condition {
     void updateValidReset() {        
         if (isSatisfied()) {
             this.currentValidResetCount++;
-            this.lastValidResetTime = LocalDateTime.now();                            
+            this.lastValidResetTime = SchedulerClock.localNow();                            
         }
         
     }
@@ -206,6 +208,15 @@ public abstract class TimeCondition implements Condition {
     public boolean hasTriggered() {
         return currentValidResetCount > 0;
     }
-        
-    
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(GameTick.class);
+    }
+
+    @Override
+    public boolean changesOnlyOnEvents() {
+        // Changes with the clock, not with the game
+        return false;
+    }
 }
\ No newline at end of file
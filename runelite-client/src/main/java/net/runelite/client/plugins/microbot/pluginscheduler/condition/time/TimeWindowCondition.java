@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.ConditionType;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.enums.RepeatCycle;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -70,8 +71,8 @@ public class TimeWindowCondition extends TimeCondition {
         this(
             startTime, 
             endTime, 
-            LocalDate.now(), 
-            LocalDate.now().plusMonths(1),
+            SchedulerClock.today(), 
+            SchedulerClock.today().plusMonths(1),
             RepeatCycle.DAYS,
             1,
             0// 0 means infinity 
@@ -107,7 +108,7 @@ public class TimeWindowCondition extends TimeCondition {
         this.repeatCycle = repeatCycle;
         this.repeatIntervalUnit = Math.max(1, repeatIntervalUnit); // Ensure positive interval
         this.zoneId = ZoneId.systemDefault(); // Initialize with system default
-        this.lastValidResetTime = LocalDateTime.now();
+        this.lastValidResetTime = SchedulerClock.localNow();
         transientNumberOfResetsWithinDailyInterval = 0;
         
         // Initialize next window times based on repeat cycle
@@ -126,8 +127,8 @@ public class TimeWindowCondition extends TimeCondition {
         return new TimeWindowCondition(
             startTime, 
             endTime, 
-            LocalDate.now(), 
-            LocalDate.now().plusYears(1),
+            SchedulerClock.today(), 
+            SchedulerClock.today().plusYears(1),
             RepeatCycle.DAYS,
             1,
             0// 0 means infinity
@@ -167,7 +168,7 @@ public class TimeWindowCondition extends TimeCondition {
      * Calculate the next window start and end times based on current time and reset settings
      */
     private void calculateNextWindow() {
-        ZonedDateTime now = ZonedDateTime.now(getZoneId());
+        ZonedDateTime now = SchedulerClock.now(getZoneId());
         LocalDateTime nowLocal = now.toLocalDateTime();
         LocalDateTime referenceTime = lastValidResetTime != null ? lastValidResetTime : nowLocal;
         
@@ -218,7 +219,7 @@ public class TimeWindowCondition extends TimeCondition {
      * Calculates window for ONE_TIME repeat cycle
      */
     private void calculateOneTimeWindow(LocalDateTime referenceTime) {
-        ZonedDateTime now = ZonedDateTime.now(getZoneId());
+        ZonedDateTime now = SchedulerClock.now(getZoneId());
         LocalDateTime nowLocal = now.toLocalDateTime();
         LocalDateTime todayStartDateTime = LocalDateTime.of(nowLocal.toLocalDate(), startTime);
         LocalDateTime todayEndDateTime = LocalDateTime.of(nowLocal.toLocalDate(), endTime);
@@ -251,7 +252,7 @@ public class TimeWindowCondition extends TimeCondition {
      * Calculates window for sub-day repeat cycles (MINUTES, HOURS)
      */
     private void calculateCycleWindow(LocalDateTime referenceTime) {
-        ZonedDateTime now = ZonedDateTime.now(getZoneId());
+        ZonedDateTime now = SchedulerClock.now(getZoneId());
         LocalDateTime nowLocal = now.toLocalDateTime();
         // First, determine the bounds of today's overall window
         LocalDate today = now.toLocalDate();
@@ -283,7 +284,7 @@ public class TimeWindowCondition extends TimeCondition {
      */
     private LocalDateTime calculateNextStartWindow( LocalDateTime referenceTime) {
         LocalDateTime nextStartTime;
-        ZonedDateTime now = ZonedDateTime.now(getZoneId());        
+        ZonedDateTime now = SchedulerClock.now(getZoneId());        
         LocalDateTime nowLocal = now.toLocalDateTime();
         LocalDate today = now.toLocalDate();
         LocalDateTime currentDayWindowStart = LocalDateTime.of(today, startTime);
@@ -346,7 +347,7 @@ public class TimeWindowCondition extends TimeCondition {
         if (!canTriggerAgain()) {
             return false;
         }
-        ZonedDateTime now = ZonedDateTime.now(getZoneId());
+        ZonedDateTime now = SchedulerClock.now(getZoneId());
         LocalDateTime nowLocal = now.toLocalDateTime();
         LocalDate today = now.toLocalDate();
         LocalDate dayBefore = today.minusDays(1);
@@ -399,7 +400,7 @@ public class TimeWindowCondition extends TimeCondition {
             return 0.0;
         }
         
-        ZonedDateTime now = ZonedDateTime.now(getZoneId());
+        ZonedDateTime now = SchedulerClock.now(getZoneId());
         LocalDateTime nowLocal = now.toLocalDateTime();
         
         // Calculate total window duration in seconds
@@ -524,8 +525,8 @@ public class TimeWindowCondition extends TimeCondition {
         this.useRandomization = randomize;        
         // Store current time as the reset reference
         log.debug("Last reset time: {}", lastValidResetTime);
-        this.lastValidResetTime = LocalDateTime.now();                                
-        ZonedDateTime now = ZonedDateTime.now(getZoneId());
+        this.lastValidResetTime = SchedulerClock.localNow();                                
+        ZonedDateTime now = SchedulerClock.now(getZoneId());
         LocalDateTime nowLocal = now.toLocalDateTime();        
         // If we are have a current window and we are within the window or after it, we need to force an advance
         boolean needsAdvance = currentStartDateTime != null && nowLocal.isAfter(currentStartDateTime);                           
@@ -574,7 +575,7 @@ public class TimeWindowCondition extends TimeCondition {
         if (currentStartDateTime == null || currentEndDateTime == null || !canTriggerAgain()) {
             return Optional.empty();
         }
-        ZonedDateTime now = ZonedDateTime.now(getZoneId());
+        ZonedDateTime now = SchedulerClock.now(getZoneId());
         
         // If the condition is already satisfied (we're in the window), return the current time
         if (isSatisfied()) {
@@ -596,7 +597,7 @@ public class TimeWindowCondition extends TimeCondition {
         
         LocalDateTime lastDateTime = LocalDateTime.of( endDate, endTime);
         if (canTrigger ) {
-            ZonedDateTime now = ZonedDateTime.now(getZoneId());
+            ZonedDateTime now = SchedulerClock.now(getZoneId());
             LocalDateTime nowLocal = now.toLocalDateTime();
             return nowLocal.isBefore(lastDateTime);
         }
@@ -706,7 +707,7 @@ public class TimeWindowCondition extends TimeCondition {
         sb.append("Status: ").append(satisfied ? "Active (in time window)" : "Inactive (outside time window)").append("\n");
         
         // Current window information
-        ZonedDateTime now = ZonedDateTime.now(getZoneId());
+        ZonedDateTime now = SchedulerClock.now(getZoneId());
         LocalDateTime nowLocal = now.toLocalDateTime();
         
         if (currentStartDateTime != null && currentEndDateTime != null) {
@@ -0,0 +1,58 @@
+package net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * The clock the plugin scheduler and its conditions read the current time from.
+ * <p>
+ * This is the system clock, unless a simulation has replaced it with a virtual one to replay a schedule faster than
+ * real time.
+ */
+public final class SchedulerClock {
+    private static volatile Clock clock = Clock.systemDefaultZone();
+
+    private SchedulerClock() {}
+
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Replaces the clock for every schedule entry and condition. Only meant for simulations; the zone of the clock is
+     * used as the system default zone.
+     */
+    public static void setClock(Clock clock) {
+        SchedulerClock.clock = clock;
+    }
+
+    /**
+     * Goes back to the system clock.
+     */
+    public static void reset() {
+        clock = Clock.systemDefaultZone();
+    }
+
+    public static ZonedDateTime now() {
+        return ZonedDateTime.now(clock);
+    }
+
+    public static ZonedDateTime now(ZoneId zone) {
+        return ZonedDateTime.now(clock.withZone(zone));
+    }
+
+    public static LocalDateTime localNow() {
+        return LocalDateTime.now(clock);
+    }
+
+    public static LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
+    public static long millis() {
+        return clock.millis();
+    }
+}
@@ -306,8 +306,8 @@ public final class TimeConditionUtil {
         TimeWindowCondition timeWindow = new TimeWindowCondition(
                 LocalTime.of(startHour, startMinute),
                 LocalTime.of(endHour, endMinute),
-                LocalDate.now(),
-                LocalDate.now().plus(1, ChronoUnit.YEARS),
+                SchedulerClock.today(),
+                SchedulerClock.today().plus(1, ChronoUnit.YEARS),
                 null, 1, 0);
         
         // Create day of week condition
@@ -347,8 +347,8 @@ public final class TimeConditionUtil {
         TimeWindowCondition timeWindow = new TimeWindowCondition(
                 LocalTime.of(baseStartHour, baseStartMinute),
                 LocalTime.of(baseEndHour, baseEndMinute),
-                LocalDate.now(),
-                LocalDate.now().plus(1, ChronoUnit.YEARS),
+                SchedulerClock.today(),
+                SchedulerClock.today().plus(1, ChronoUnit.YEARS),
                 null, 1, 0);
         
         // Set randomization if requested
@@ -511,8 +511,8 @@ public final class TimeConditionUtil {
         TimeWindowCondition eveningHours = new TimeWindowCondition(
             LocalTime.of(18, 0), // 6:00 PM
             LocalTime.of(23, 0), // 11:00 PM
-            LocalDate.now(),
-            LocalDate.now().plusYears(1),
+            SchedulerClock.today(),
+            SchedulerClock.today().plusYears(1),
             null, 1, 0
         );
         eveningHours.setRandomization(true, 30); // Randomize by ±30 minutes
@@ -553,8 +553,8 @@ public final class TimeConditionUtil {
         TimeWindowCondition flexibleHours = new TimeWindowCondition(
             LocalTime.of(10, 0),  // 10:00 AM
             LocalTime.of(23, 59), // 11:59 PM
-            LocalDate.now(),
-            LocalDate.now().plusYears(1),
+            SchedulerClock.today(),
+            SchedulerClock.today().plusYears(1),
             null, 1, 0
         );
         flexibleHours.setRandomization(true, 60); // Randomize by ±60 minutes
@@ -616,7 +616,7 @@ public final class TimeConditionUtil {
                     DayOfWeekCondition dayCondition = (DayOfWeekCondition) subCondition;
                     sb.append("   - Today is not an active day or has reached daily/weekly limit\n");
                     sb.append("   - Current day usage: ").append(
-                        dayCondition.getResetCountForDate(LocalDate.now())).append("\n");
+                        dayCondition.getResetCountForDate(SchedulerClock.today())).append("\n");
                     sb.append("   - Daily limit reached: ").append(dayCondition.isDailyLimitReached()).append("\n");
                     sb.append("   - Current week usage: ").append(dayCondition.getCurrentWeekResetCount()).append("\n");
                     sb.append("   - Weekly limit reached: ").append(dayCondition.isWeeklyLimitReached()).append("\n");
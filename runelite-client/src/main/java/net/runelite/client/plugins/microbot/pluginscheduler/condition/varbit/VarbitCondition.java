@@ -2,6 +2,7 @@ package net.runelite.client.plugins.microbot.pluginscheduler.condition.varbit;
 
 import java.time.ZonedDateTime;
 import java.util.Optional;
+import java.util.Set;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -12,6 +13,7 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.Condition;
 import net.runelite.client.plugins.microbot.pluginscheduler.condition.ConditionType;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.ConditionEventRouter;
 
 /**
  * A condition that checks the current value of a Varbit or VarPlayer.
@@ -544,4 +546,16 @@ public class VarbitCondition implements Condition {
         
         return progress;
     }
+
+    @Override
+    public Set<Class<?>> getEventTypes() {
+        return Set.of(VarbitChanged.class);
+    }
+
+    @Override
+    public Set<Object> getEventKeys(Class<?> eventType) {
+        return Set.of(varType == VarType.VARBIT
+                ? ConditionEventRouter.varbitKey(varId)
+                : ConditionEventRouter.varpKey(varId));
+    }
 }
\ No newline at end of file
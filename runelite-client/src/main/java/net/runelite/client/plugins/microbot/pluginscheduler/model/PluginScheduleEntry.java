@@ -32,6 +32,7 @@ import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.TimeW
 import net.runelite.client.plugins.microbot.pluginscheduler.config.ScheduleEntryConfigManager;
 import net.runelite.client.plugins.microbot.pluginscheduler.event.PluginScheduleEntrySoftStopEvent;
 import net.runelite.client.plugins.microbot.pluginscheduler.serialization.ScheduledSerializer;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
 
 @Data
 @AllArgsConstructor
@@ -381,7 +382,7 @@ public class PluginScheduleEntry implements AutoCloseable {
             stopInitiated = false;
             hasStarted = true;
             lastRunDuration = Duration.ZERO; // Reset last run duration
-            lastRunStartTime = ZonedDateTime.now(); // Set the start time of the last run
+            lastRunStartTime = SchedulerClock.now(); // Set the start time of the last run
             // Register/unregister appropriate event handlers
             stopConditionManager.registerEvents();
             startConditionManager.unregisterEvents();            
@@ -403,16 +404,16 @@ public class PluginScheduleEntry implements AutoCloseable {
             stopConditionManager.unregisterEvents();
             
             Microbot.getClientThread().runOnSeperateThread(() -> {
-                ZonedDateTime current_time = ZonedDateTime.now(ZoneId.systemDefault());
+                ZonedDateTime current_time = SchedulerClock.now();
                 Microbot.getEventBus().post(new PluginScheduleEntrySoftStopEvent(plugin, current_time));
                 return false;                
             });
             
             stopInitiated = true;
-            stopInitiatedTime = ZonedDateTime.now();
-            lastStopAttemptTime = ZonedDateTime.now();
-            lastRunDuration = Duration.between(lastRunStartTime, ZonedDateTime.now());
-            lastRunEndTime = ZonedDateTime.now();
+            stopInitiatedTime = SchedulerClock.now();
+            lastStopAttemptTime = SchedulerClock.now();
+            lastRunDuration = Duration.between(lastRunStartTime, SchedulerClock.now());
+            lastRunEndTime = SchedulerClock.now();
             // Start monitoring for successful stop
             startStopMonitoringThread(successfulRun);            
 
@@ -440,8 +441,8 @@ public class PluginScheduleEntry implements AutoCloseable {
                 return false;
             });
             stopInitiated = true;
-            stopInitiatedTime = ZonedDateTime.now();
-            lastStopAttemptTime = ZonedDateTime.now();
+            stopInitiatedTime = SchedulerClock.now();
+            lastStopAttemptTime = SchedulerClock.now();
             // Start monitoring for successful stop
             startStopMonitoringThread(successfulRun);
             
@@ -982,7 +983,7 @@ public class PluginScheduleEntry implements AutoCloseable {
      */
     private void resetStartConditions() {
         // Update last run time
-        lastRunTime = roundToMinutes(ZonedDateTime.now(ZoneId.systemDefault()));
+        lastRunTime = roundToMinutes(SchedulerClock.now());
         Optional<ZonedDateTime> nextTriggerTimeBeforeReset = getCurrentStartTriggerTime();
         // Handle time conditions
         if (startConditionManager != null) {
@@ -1074,7 +1075,7 @@ public class PluginScheduleEntry implements AutoCloseable {
      * Get a formatted display of when this plugin will run next
      */
     public String getNextRunDisplay() {
-        return getNextRunDisplay(System.currentTimeMillis());
+        return getNextRunDisplay(SchedulerClock.millis());
     }
 
     /**
@@ -1195,7 +1196,7 @@ public class PluginScheduleEntry implements AutoCloseable {
         return stopConditionManager.getDescription();
     }
     public boolean stop(boolean successfulRun) {
-        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime now = SchedulerClock.now();
         // Initial stop attempt
         if (!stopInitiated) {
             logStopConditionsWithDetails();
@@ -1976,7 +1977,7 @@ public class PluginScheduleEntry implements AutoCloseable {
         
         sb.append("- Next trigger: ");
         if (nextTrigger.isPresent()) {
-            ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+            ZonedDateTime now = SchedulerClock.now();
             ZonedDateTime triggerTime = nextTrigger.get();
             
             sb.append(triggerTime).append("\n");
@@ -2186,7 +2187,7 @@ public class PluginScheduleEntry implements AutoCloseable {
             // Show next trigger time if available
             Optional<ZonedDateTime> nextTrigger = startConditionManager.getCurrentTriggerTime();
             if (nextTrigger.isPresent()) {
-                ZonedDateTime now = ZonedDateTime.now(ZoneId.systemDefault());
+                ZonedDateTime now = SchedulerClock.now();
                 Duration until = Duration.between(now, nextTrigger.get());
                 
                 sb.append("Next time trigger at: ").append(nextTrigger.get())
@@ -0,0 +1,368 @@
+package net.runelite.client.plugins.microbot.pluginscheduler.simulation;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Skill;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.StatChanged;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.ConditionManager;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.AndCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.OrCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.skill.SkillXpCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.DayOfWeekCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.IntervalCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.TimeWindowCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.time.util.SchedulerClock;
+import net.runelite.client.plugins.microbot.pluginscheduler.model.PluginScheduleEntry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Replays the start and stop decisions of the plugin scheduler for many schedule entries against a virtual clock,
+ * without a client, to measure how condition evaluation scales.
+ * <p>
+ * Each simulated entry has the start and stop {@link ConditionManager}s a {@link PluginScheduleEntry} would have, built
+ * from interval, time window, day of week and skill XP conditions. The clock advances one game tick at a time. Every
+ * tick delivers a {@link GameTick} to every manager, and the running entry gains XP, which delivers a
+ * {@link StatChanged}. Once per scheduler period the decisions of the scheduler loop are made: stop the running entry
+ * when its stop conditions are met, otherwise start the highest priority entry whose start conditions are met. The
+ * latency and allocation of every decision round are recorded.
+ * <p>
+ * The scheduler clock is replaced for the whole JVM while a simulation is open, so it must not be run in a live client.
+ */
+@Slf4j
+public class SchedulerSimulation implements AutoCloseable {
+    public static final Duration TICK = Duration.ofMillis(600);
+    // The scheduler loop runs once a second
+    public static final Duration DECISION_PERIOD = Duration.ofSeconds(1);
+
+    private static final Skill[] SKILLS = Arrays.stream(Skill.values())
+            .filter(skill -> skill != Skill.OVERALL)
+            .toArray(Skill[]::new);
+    private static final int START_XP = 1_000_000;
+    private static final int MAX_XP_DROP = 120;
+
+    private final VirtualClock clock;
+    private final Random random;
+    private final List<SimulatedEntry> entries = new ArrayList<>();
+    private final int[] xp = new int[SKILLS.length];
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    @Getter
+    private int tickCount;
+    @Getter
+    private int starts;
+    @Getter
+    private int stops;
+    @Getter
+    private long events;
+    private SimulatedEntry running;
+    private long untilDecisionMillis;
+
+    private long[] latencies = new long[1024];
+    private int decisions;
+    private long decisionAllocatedBytes;
+
+    /**
+     * @param entryCount the number of schedule entries
+     * @param seed       the seed for the entries and the XP gains; the randomized conditions themselves use their own
+     *                   randomness
+     * @param start      the time the virtual clock starts at
+     */
+    public SchedulerSimulation(int entryCount, long seed, ZonedDateTime start) {
+        this.clock = new VirtualClock(start.toInstant(), start.getZone());
+        this.random = new Random(seed);
+        SchedulerClock.setClock(clock);
+
+        for (int i = 0; i < entryCount; i++) {
+            entries.add(createEntry());
+        }
+        // Like logging in, which sends every stat. Skill conditions keep the stats they are sent.
+        Arrays.fill(xp, START_XP);
+        for (int i = 0; i < SKILLS.length; i++) {
+            deliver(new StatChanged(SKILLS[i], xp[i], levelForXp(xp[i]), levelForXp(xp[i])));
+        }
+        events = 0;
+    }
+
+    private SimulatedEntry createEntry() {
+        final ConditionManager start = new ConditionManager();
+        final int kind = random.nextInt(10);
+        if (kind < 5) {
+            start.setUserLogicalCondition(new OrCondition(new IntervalCondition(
+                    Duration.ofMinutes(30 + random.nextInt(210)), true, 0.2, 0)));
+        } else if (kind < 8) {
+            start.setUserLogicalCondition(new OrCondition(randomWindow()));
+        } else {
+            final Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (random.nextBoolean()) {
+                    days.add(day);
+                }
+            }
+            days.add(clock.now().getDayOfWeek());
+            final AndCondition condition = new AndCondition();
+            condition.addCondition(new DayOfWeekCondition(0, 2, days));
+            condition.addCondition(randomWindow());
+            start.setUserLogicalCondition(condition);
+        }
+
+        final int skill = random.nextInt(SKILLS.length);
+        final ConditionManager stop = new ConditionManager();
+        stop.setUserLogicalCondition(new OrCondition(
+                SkillXpCondition.createRelative(SKILLS[skill], 5_000 + random.nextInt(45_000)),
+                new IntervalCondition(Duration.ofMinutes(20 + random.nextInt(70)))));
+
+        return new SimulatedEntry(start, stop, skill, random.nextInt(3));
+    }
+
+    private TimeWindowCondition randomWindow() {
+        final LocalTime startTime = LocalTime.of(random.nextInt(24), random.nextInt(4) * 15);
+        return new TimeWindowCondition(startTime, startTime.plusHours(1 + random.nextInt(6)));
+    }
+
+    /**
+     * Runs the simulation until the virtual clock has advanced by the duration, making the scheduler's decisions once
+     * per {@link #DECISION_PERIOD}.
+     */
+    public SimulationReport run(Duration duration) {
+        final long wallStart = System.nanoTime();
+        final long allocatedStart = allocatedBytes();
+        final int ticks = (int) (duration.toMillis() / TICK.toMillis());
+        for (int i = 0; i < ticks; i++) {
+            tick();
+            untilDecisionMillis -= TICK.toMillis();
+            while (untilDecisionMillis <= 0) {
+                untilDecisionMillis += DECISION_PERIOD.toMillis();
+                timedDecide();
+            }
+        }
+        return report(duration, System.nanoTime() - wallStart, allocatedBytes() - allocatedStart);
+    }
+
+    /**
+     * Advances the clock by a game tick and delivers the tick's events.
+     */
+    public void tick() {
+        clock.advance(TICK);
+        tickCount++;
+        deliver(new GameTick());
+
+        if (running != null) {
+            final int skill = running.skill;
+            xp[skill] += random.nextInt(MAX_XP_DROP);
+            deliver(new StatChanged(SKILLS[skill], xp[skill], levelForXp(xp[skill]), levelForXp(xp[skill])));
+        }
+    }
+
+    private void deliver(GameTick event) {
+        for (SimulatedEntry entry : entries) {
+            entry.start.onGameTick(event);
+            entry.stop.onGameTick(event);
+        }
+        events++;
+    }
+
+    private void deliver(StatChanged event) {
+        for (SimulatedEntry entry : entries) {
+            entry.start.onStatChanged(event);
+            entry.stop.onStatChanged(event);
+        }
+        events++;
+    }
+
+    private void timedDecide() {
+        final long allocated = allocatedBytes();
+        final long start = System.nanoTime();
+        decide();
+        final long latency = System.nanoTime() - start;
+        decisionAllocatedBytes += allocatedBytes() - allocated;
+
+        if (decisions == latencies.length) {
+            latencies = Arrays.copyOf(latencies, decisions * 2);
+        }
+        latencies[decisions++] = latency;
+    }
+
+    /**
+     * Makes one round of the scheduler's decisions.
+     */
+    public void decide() {
+        if (running != null) {
+            if (running.stop.areConditionsMet()) {
+                running.start.reset();
+                running = null;
+                stops++;
+            }
+            return;
+        }
+
+        SimulatedEntry next = null;
+        ZonedDateTime nextTrigger = null;
+        for (SimulatedEntry entry : entries) {
+            if (!entry.start.areConditionsMet()) {
+                continue;
+            }
+            final Optional<ZonedDateTime> trigger = entry.start.getCurrentTriggerTime();
+            if (!trigger.isPresent()) {
+                continue;
+            }
+            if (next == null || entry.priority > next.priority
+                    || (entry.priority == next.priority && trigger.get().isBefore(nextTrigger))) {
+                next = entry;
+                nextTrigger = trigger.get();
+            }
+        }
+
+        if (next != null) {
+            next.stop.reset();
+            running = next;
+            starts++;
+        }
+    }
+
+    private SimulationReport report(Duration duration, long wallNanos, long allocated) {
+        final long[] sorted = Arrays.copyOf(latencies, decisions);
+        Arrays.sort(sorted);
+        final long total = Arrays.stream(sorted).sum();
+        return new SimulationReport(
+                entries.size(),
+                duration,
+                Duration.ofNanos(wallNanos),
+                decisions,
+                events,
+                starts,
+                stops,
+                decisions == 0 ? 0 : total / decisions,
+                percentile(sorted, 0.5),
+                percentile(sorted, 0.99),
+                decisions == 0 ? 0 : sorted[decisions - 1],
+                allocated < 0 || decisions == 0 ? -1 : decisionAllocatedBytes / decisions,
+                allocated < 0 || events == 0 ? -1 : (allocated - decisionAllocatedBytes) / events);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))];
+    }
+
+    /**
+     * Gets the bytes allocated by this thread so far, or -1 if the JVM doesn't track it.
+     */
+    private long allocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    private static int levelForXp(int xp) {
+        // Close enough for the conditions, which only look at XP
+        return Math.min(99, 1 + (int) Math.sqrt(xp / 100.0));
+    }
+
+    /**
+     * Puts the system clock back.
+     */
+    @Override
+    public void close() {
+        SchedulerClock.reset();
+    }
+
+    private static final class SimulatedEntry {
+        private final ConditionManager start;
+        private final ConditionManager stop;
+        // Index into SKILLS
+        private final int skill;
+        private final int priority;
+
+        private SimulatedEntry(ConditionManager start, ConditionManager stop, int skill, int priority) {
+            this.start = start;
+            this.stop = stop;
+            this.skill = skill;
+            this.priority = priority;
+        }
+    }
+
+    private static final class VirtualClock extends Clock {
+        private final ZoneId zone;
+        private volatile Instant instant;
+
+        private VirtualClock(Instant instant, ZoneId zone) {
+            this.instant = instant;
+            this.zone = zone;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        private ZonedDateTime now() {
+            return ZonedDateTime.ofInstant(instant, zone);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            // Shares the instant, so a zoned view keeps following the simulation
+            final VirtualClock parent = this;
+            return new Clock() {
+                @Override
+                public ZoneId getZone() {
+                    return zone;
+                }
+
+                @Override
+                public Clock withZone(ZoneId zone) {
+                    return parent.withZone(zone);
+                }
+
+                @Override
+                public Instant instant() {
+                    return parent.instant;
+                }
+            };
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+    /**
+     * Runs a simulation from the command line.
+     * <p>
+     * Arguments: the number of entries (default 1000), the simulated hours (default 24) and the seed (default 1).
+     */
+    public static void main(String[] args) {
+        final int entryCount = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        final int hours = args.length > 1 ? Integer.parseInt(args[1]) : 24;
+        final long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+
+        try (SchedulerSimulation simulation = new SchedulerSimulation(entryCount, seed, ZonedDateTime.now())) {
+            log.info("{}", simulation.run(Duration.ofHours(hours)));
+        }
+    }
+}
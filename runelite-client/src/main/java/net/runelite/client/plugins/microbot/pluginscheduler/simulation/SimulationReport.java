@@ -0,0 +1,41 @@
+package net.runelite.client.plugins.microbot.pluginscheduler.simulation;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * The results of a {@link SchedulerSimulation} run. Latencies are of one decision round over every entry.
+ */
+@Value
+public class SimulationReport {
+    int entries;
+    Duration simulated;
+    Duration wallTime;
+    int decisions;
+    long events;
+    int starts;
+    int stops;
+    long meanLatencyNanos;
+    long p50LatencyNanos;
+    long p99LatencyNanos;
+    long maxLatencyNanos;
+    /**
+     * The bytes allocated by a decision round, or -1 if the JVM doesn't track allocation.
+     */
+    long allocatedBytesPerDecision;
+    /**
+     * The bytes allocated delivering an event to every entry, or -1 if the JVM doesn't track allocation.
+     */
+    long allocatedBytesPerEvent;
+
+    @Override
+    public String toString() {
+        return String.format("Simulated %s of %d entries in %d ms: %d decisions, %d events, %d starts, %d stops%n"
+                        + "decision latency: mean %.1f us, p50 %.1f us, p99 %.1f us, max %.1f us%n"
+                        + "allocation: %d bytes per decision, %d bytes per event",
+                simulated, entries, wallTime.toMillis(), decisions, events, starts, stops,
+                meanLatencyNanos / 1000.0, p50LatencyNanos / 1000.0, p99LatencyNanos / 1000.0, maxLatencyNanos / 1000.0,
+                allocatedBytesPerDecision, allocatedBytesPerEvent);
+    }
+}
@@ -25,6 +25,7 @@
  */
 package net.runelite.client.plugins.microbot.questhelper;
 
+import com.google.common.base.Suppliers;
 import com.google.inject.Binder;
 import com.google.inject.Injector;
 import com.google.inject.Module;
@@ -126,6 +127,9 @@ public class QuestHelperPlugin extends Plugin {
     private QuestBankManager questBankManager;
     @Inject
     private QuestManager questManager;
+    @Getter
+    @Inject
+    private RequirementTracker requirementTracker;
     @Inject
     private WorldMapAreaManager worldMapAreaManager;
     @Inject
@@ -151,6 +155,7 @@ public class QuestHelperPlugin extends Plugin {
     @Override
     protected void startUp() throws IOException {
         questBankManager.startUp(injector, eventBus);
+        requirementTracker.startUp(eventBus);
         eventBus.register(worldMapAreaManager);
 
         injector.injectMembers(playerStateManager);
@@ -199,6 +204,7 @@ public class QuestHelperPlugin extends Plugin {
         clientToolbar.removeNavigation(navButton);
         questManager.shutDown();
         questBankManager.shutDown(eventBus);
+        requirementTracker.shutDown(eventBus);
 
         GlobalFakeObjects.setInitialized(false);
     }
@@ -418,18 +424,22 @@ public class QuestHelperPlugin extends Plugin {
     private void instantiate(QuestHelperQuest quest) {
         QuestHelper questHelper = quest.getQuestHelper();
 
-        Module questModule = (Binder binder) ->
-        {
-            binder.bind(QuestHelper.class).toInstance(questHelper);
-            binder.install(questHelper);
-        };
-        Injector questInjector = Microbot.getInjector().createChildInjector(questModule);
         injector.injectMembers(questHelper);
-        questHelper.setInjector(questInjector);
+        // Most quests are never started, so their injectors are only created once their steps are
+        questHelper.setInjector(Suppliers.memoize(() -> createQuestInjector(questHelper)));
         questHelper.setQuest(quest);
         questHelper.setConfig(config);
         questHelper.setQuestHelperPlugin(this);
 
         log.debug("Loaded quest helper {}", quest.name());
     }
+
+    private Injector createQuestInjector(QuestHelper questHelper) {
+        Module questModule = (Binder binder) ->
+        {
+            binder.bind(QuestHelper.class).toInstance(questHelper);
+            binder.install(questHelper);
+        };
+        return Microbot.getInjector().createChildInjector(questModule);
+    }
 }
@@ -56,6 +56,11 @@ import java.util.stream.Collectors;
  */
 @Singleton
 public class QuestManager {
+    /**
+     * How long requirements are set up for in each client tick while they are set up in the background
+     */
+    private static final long REQUIREMENT_SETUP_BUDGET_NANOS = 2_000_000;
+
     public Map<String, QuestHelper> backgroundHelpers = new HashMap<>();
     public SortedMap<QuestHelperQuest, List<ItemRequirement>> itemRequirements = new TreeMap<>();
     public SortedMap<QuestHelperQuest, List<ItemRequirement>> itemRecommended = new TreeMap<>();
@@ -73,6 +78,9 @@ public class QuestManager {
     QuestHelperPlugin questHelperPlugin;
     @Getter
     @Inject
+    RequirementTracker requirementTracker;
+    @Getter
+    @Inject
     @Named("developerMode")
     private boolean developerMode;
     @Setter
@@ -82,6 +90,7 @@ public class QuestManager {
     private boolean loadQuestList = false;
     private QuestHelperPanel panel;
     private QuestStep lastStep = null;
+    private Iterator<QuestHelperQuest> requirementsToSetup = Collections.emptyIterator();
 
     /**
      * Initializes the QuestManager with the given QuestHelperPanel.
@@ -150,7 +159,8 @@ public class QuestManager {
      * Resets the flag to avoid redundant updates.
      */
     private void handleQuestListUpdate() {
-        if (loadQuestList) {
+        // The list filters on requirements, so wait for them to be set up rather than setting them all up at once
+        if (loadQuestList && !requirementsToSetup.hasNext()) {
             loadQuestList = false;
             updateQuestList();
             getAllItemRequirements();
@@ -195,6 +205,7 @@ public class QuestManager {
      */
     public void updateQuestList() {
         if (client.getGameState() == GameState.LOGGED_IN) {
+            finishRequirementSetup();
             List<QuestHelper> filteredQuests = QuestHelperQuest.getQuestHelpers(isDeveloperMode())
                     .stream()
                     .filter(config.filterListBy())
@@ -242,6 +253,8 @@ public class QuestManager {
 
     private void initializeNewQuest(QuestHelper questHelper, boolean shouldOpenSidebarIfConfig) {
         if (!questHelper.isCompleted()) {
+            // The overview lists the requirements of prerequisite quests too
+            finishRequirementSetup();
             if (backgroundHelpers.containsValue(questHelper)) {
                 shutDownBackgroundQuest(questHelper);
             }
@@ -250,6 +263,7 @@ public class QuestManager {
                 questHelperPlugin.displayPanel();
             }
             selectedQuest = questHelper;
+            requirementTracker.reset();
             registerQuestToEventBus(selectedQuest);
             if (isDeveloperMode()) {
                 selectedQuest.debugStartup(config);
@@ -358,6 +372,7 @@ public class QuestManager {
         }
         clientThread.invokeLater(() -> {
             if (!questHelper.isCompleted()) {
+                finishRequirementSetup();
                 registerQuestToEventBus(questHelper);
                 questHelper.startUp(config);
                 backgroundHelpers.put(questHelperName, questHelper);
@@ -409,6 +424,7 @@ public class QuestManager {
      */
     private void getAllItemRequirements() {
         clientThread.invokeLater(() -> {
+            finishRequirementSetup();
             Predicate<QuestHelper> pred = (questHelper) -> false;
             if (config.highlightNeededQuestItems()) {
                 pred = pred.or(QuestHelperConfig.QuestFilter.QUEST);
@@ -480,9 +496,34 @@ public class QuestManager {
         }
     }
 
+    /**
+     * Sets up the requirements of every quest in the background, a few quests per client tick, so logging in
+     * doesn't stall the client. Anything which needs them before they are all set up finishes setting them up first.
+     * <p>
+     * Requirements are set up on the client thread, as some quests read the client while setting up theirs.
+     */
     public void setupRequirements() {
-        for (QuestHelperQuest questHelperQuest : QuestHelperQuest.values()) {
-            questHelperQuest.getQuestHelper().initializeRequirements();
+        requirementsToSetup = Arrays.asList(QuestHelperQuest.values()).iterator();
+        clientThread.invokeLater(() -> setupRequirements(REQUIREMENT_SETUP_BUDGET_NANOS));
+    }
+
+    /**
+     * Sets up the requirements of the quests which haven't been set up yet, until the time budget runs out.
+     *
+     * @return whether every quest's requirements are set up
+     */
+    private boolean setupRequirements(long budgetNanos) {
+        long start = System.nanoTime();
+        while (requirementsToSetup.hasNext()) {
+            requirementsToSetup.next().getQuestHelper().initializeRequirements();
+            if (System.nanoTime() - start > budgetNanos) {
+                return !requirementsToSetup.hasNext();
+            }
         }
+        return true;
+    }
+
+    private void finishRequirementSetup() {
+        setupRequirements(Long.MAX_VALUE);
     }
 }
@@ -0,0 +1,211 @@
+package net.runelite.client.plugins.microbot.questhelper.managers;
+
+import net.runelite.api.Client;
+import net.runelite.api.Player;
+import net.runelite.api.Skill;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.plugins.microbot.questhelper.QuestHelperConfig;
+import net.runelite.client.plugins.microbot.questhelper.requirements.ManualRequirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tracks when the inputs {@link Requirement}s declare through {@link Requirement#collectInputs(RequirementInputs)}
+ * last changed, so requirements are only checked again once something they read changed.
+ * <p>
+ * Every change bumps a version counter, and the version is recorded against the varbit, varp, item container or
+ * skill that changed. A {@link Watch} remembers the version it last saw, and has changed when any of its inputs has
+ * a newer version. The player's location is compared when a watch asks for it. Game state and config changes reset
+ * every watch, as do quests starting.
+ * <p>
+ * Events are handled before the quest steps and the plugin see them, and everything is only used on the client
+ * thread.
+ */
+@Singleton
+public class RequirementTracker {
+    @Inject
+    private Client client;
+
+    @Inject
+    private ClientThread clientThread;
+
+    private final Map<Integer, Integer> varbitVersions = new HashMap<>();
+    private final Map<Integer, Integer> varpVersions = new HashMap<>();
+    private final Map<Integer, Integer> containerVersions = new HashMap<>();
+    private final Map<Skill, Integer> skillVersions = new EnumMap<>(Skill.class);
+    private final Map<Requirement, CachedCheck> checks = new IdentityHashMap<>();
+
+    private int version;
+    private int resetVersion;
+    private int locationVersion;
+    private WorldPoint lastLocation;
+    private boolean started;
+
+    public void startUp(EventBus eventBus) {
+        reset();
+        started = true;
+        eventBus.register(this);
+    }
+
+    public void shutDown(EventBus eventBus) {
+        eventBus.unregister(this);
+        started = false;
+        reset();
+    }
+
+    /**
+     * Forgets every recorded change, so every watch has changed the next time it is asked.
+     */
+    public void reset() {
+        resetVersion = ++version;
+        varbitVersions.clear();
+        varpVersions.clear();
+        containerVersions.clear();
+        skillVersions.clear();
+        checks.clear();
+        lastLocation = null;
+    }
+
+    @Subscribe(priority = 100)
+    public void onVarbitChanged(VarbitChanged event) {
+        if (event.getVarbitId() != -1) {
+            varbitVersions.put(event.getVarbitId(), ++version);
+        }
+        if (event.getVarpId() != -1) {
+            varpVersions.put(event.getVarpId(), ++version);
+        }
+    }
+
+    @Subscribe(priority = 100)
+    public void onItemContainerChanged(ItemContainerChanged event) {
+        containerVersions.put(event.getContainerId(), ++version);
+    }
+
+    @Subscribe(priority = 100)
+    public void onStatChanged(StatChanged event) {
+        skillVersions.put(event.getSkill(), ++version);
+    }
+
+    @Subscribe(priority = 100)
+    public void onGameStateChanged(GameStateChanged event) {
+        reset();
+    }
+
+    @Subscribe
+    public void onConfigChanged(ConfigChanged event) {
+        // Colours and requirements backed by the config depend on it
+        if (event.getGroup().equals(QuestHelperConfig.QUEST_HELPER_GROUP)) {
+            clientThread.invoke(this::reset);
+        }
+    }
+
+    /**
+     * Starts watching the inputs of a requirement.
+     */
+    public Watch watch(Requirement requirement) {
+        return new Watch(RequirementInputs.of(requirement));
+    }
+
+    /**
+     * Checks a requirement, reusing the last result while none of its inputs changed.
+     * Untracked requirements are checked every time.
+     */
+    public boolean check(Requirement requirement) {
+        if (!started) {
+            return requirement.check(client);
+        }
+
+        CachedCheck cached = checks.computeIfAbsent(requirement, r -> new CachedCheck(watch(r)));
+        if (cached.watch.changed()) {
+            cached.result = requirement.check(client);
+        }
+        return cached.result;
+    }
+
+    private int getVersion(Map<Integer, Integer> versions, Iterable<Integer> ids, int latest) {
+        for (int id : ids) {
+            latest = Math.max(latest, versions.getOrDefault(id, 0));
+        }
+        return latest;
+    }
+
+    private int getLocationVersion() {
+        Player player = client.getLocalPlayer();
+        WorldPoint location = player == null ? null : WorldPoint.fromLocalInstance(client, player.getLocalLocation());
+        if (!Objects.equals(location, lastLocation)) {
+            lastLocation = location;
+            locationVersion = ++version;
+        }
+        return locationVersion;
+    }
+
+    /**
+     * The inputs of one requirement, and the version they were last looked at.
+     */
+    public class Watch {
+        private final RequirementInputs inputs;
+        private int seenVersion = -1;
+        private long seenManualChanges = -1;
+
+        private Watch(RequirementInputs inputs) {
+            this.inputs = inputs;
+        }
+
+        /**
+         * @return whether any of the inputs changed since the last call. This is always true on the first call, for
+         * untracked requirements, and while the tracker isn't running.
+         */
+        public boolean changed() {
+            if (!started || inputs.isUntracked()) {
+                return true;
+            }
+
+            int latest = resetVersion;
+            latest = getVersion(varbitVersions, inputs.getVarbits(), latest);
+            latest = getVersion(varpVersions, inputs.getVarps(), latest);
+            latest = getVersion(containerVersions, inputs.getContainers(), latest);
+            for (Skill skill : inputs.getSkills()) {
+                latest = Math.max(latest, skillVersions.getOrDefault(skill, 0));
+            }
+            if (inputs.isLocation()) {
+                latest = Math.max(latest, getLocationVersion());
+            }
+
+            // Manual changes only ever count up, so the sum changes whenever one of them does
+            long manualChanges = 0;
+            for (ManualRequirement requirement : inputs.getManualRequirements()) {
+                manualChanges += requirement.getChanges();
+            }
+
+            boolean changed = latest > seenVersion || manualChanges != seenManualChanges;
+            seenVersion = version;
+            seenManualChanges = manualChanges;
+            return changed;
+        }
+    }
+
+    private static class CachedCheck {
+        private final Watch watch;
+        private boolean result;
+
+        private CachedCheck(Watch watch) {
+            this.watch = watch;
+        }
+    }
+}
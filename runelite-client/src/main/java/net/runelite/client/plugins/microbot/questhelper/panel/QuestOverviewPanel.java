@@ -313,14 +313,7 @@ public class QuestOverviewPanel extends JPanel {
     }
 
     public void updateSteps() {
-        questStepPanelList.forEach(panel -> {
-            for (QuestStep step : panel.getSteps()) {
-                JTextPane label = panel.getStepsLabels().get(step);
-                if (label != null) {
-                    label.setText(panel.generateText(step));
-                }
-            }
-        });
+        questStepPanelList.forEach(QuestStepPanel::updateStepTexts);
     }
 
     public void updateHighlight(Client client, QuestStep newStep) {
@@ -334,10 +327,15 @@ public class QuestOverviewPanel extends JPanel {
     }
 
     public void updateLocks() {
-        questStepPanelList.forEach(QuestStepPanel::updateLock);
+        boolean changed = false;
+        for (QuestStepPanel questStepPanel : questStepPanelList) {
+            changed |= questStepPanel.updateLock();
+        }
 
-        repaint();
-        revalidate();
+        if (changed) {
+            repaint();
+            revalidate();
+        }
     }
 
     public void removeQuest() {
@@ -554,14 +552,17 @@ public class QuestOverviewPanel extends JPanel {
     }
 
     public void updateRequirements(Client client, List<Item> bankItems) {
-        questGeneralRequirementsPanel.update(client, questHelperPlugin, bankItems);
-        questGeneralRecommendedPanel.update(client, questHelperPlugin, bankItems);
-        questItemRequirementsPanel.update(client, questHelperPlugin, bankItems);
-        questItemRecommendedPanel.update(client, questHelperPlugin, bankItems);
+        boolean changed = questGeneralRequirementsPanel.update(client, questHelperPlugin, bankItems);
+        changed |= questGeneralRecommendedPanel.update(client, questHelperPlugin, bankItems);
+        changed |= questItemRequirementsPanel.update(client, questHelperPlugin, bankItems);
+        changed |= questItemRecommendedPanel.update(client, questHelperPlugin, bankItems);
 
-        questStepPanelList.forEach((questStepPanel) -> {
-            questStepPanel.updateRequirements(client, bankItems);
-        });
-        revalidate();
+        for (QuestStepPanel questStepPanel : questStepPanelList) {
+            changed |= questStepPanel.updateRequirements(client, bankItems);
+        }
+
+        if (changed) {
+            revalidate();
+        }
     }
 }
@@ -32,6 +32,7 @@ import net.runelite.api.Client;
 import net.runelite.api.Item;
 import net.runelite.client.plugins.microbot.questhelper.QuestHelperPlugin;
 import net.runelite.client.plugins.microbot.questhelper.managers.QuestManager;
+import net.runelite.client.plugins.microbot.questhelper.managers.RequirementTracker;
 import net.runelite.client.plugins.microbot.questhelper.requirements.item.ItemRequirement;
 import net.runelite.client.plugins.microbot.questhelper.requirements.item.NoItemRequirement;
 import net.runelite.client.plugins.microbot.questhelper.requirements.quest.QuestRequirement;
@@ -65,6 +66,7 @@ public class QuestRequirementsPanel extends JPanel {
     private final QuestManager questManager;
     private final boolean showEvenIfEmpty;
     private final JPanel requirementsPanel = new JPanel();
+    private List<Item> lastBankItems;
 
     public QuestRequirementsPanel(@NonNull String header, Collection<Requirement> requirements, @NonNull QuestManager questManager, boolean showEvenIfEmpty) {
         this.questManager = questManager;
@@ -91,6 +93,8 @@ public class QuestRequirementsPanel extends JPanel {
         private final Requirement requirement;
         private final JTextArea textArea;
         private final @Nullable JButton tooltipButton;
+        private final RequirementTracker.Watch watch;
+        private boolean visible = true;
     }
 
     public static JPanel createHeader(@NonNull String header) {
@@ -207,7 +211,7 @@ public class QuestRequirementsPanel extends JPanel {
                 }
 
                 requirementsPanel.add(panel);
-                requirementList.add(new InlineRequirement(requirement, label, tooltipButton));
+                requirementList.add(new InlineRequirement(requirement, label, tooltipButton, questManager.getRequirementTracker().watch(requirement)));
             }
         } else if (showEvenIfEmpty) {
             var noneLabel = JGenerator.makeJTextArea("None");
@@ -218,7 +222,16 @@ public class QuestRequirementsPanel extends JPanel {
         revalidate();
     }
 
-    public void update(Client client, QuestHelperPlugin questHelperPlugin, List<Item> bankItems) {
+    /**
+     * Updates the rows whose requirements' inputs or display text changed. Every row is updated when the bank changed.
+     *
+     * @return whether any row changed
+     */
+    public boolean update(Client client, QuestHelperPlugin questHelperPlugin, List<Item> bankItems) {
+        boolean bankChanged = bankItems != lastBankItems;
+        lastBankItems = bankItems;
+
+        boolean changed = false;
         int numActive = 0;
 
         for (var v : requirementList) {
@@ -226,23 +239,30 @@ public class QuestRequirementsPanel extends JPanel {
             var label = v.textArea;
             var tooltipButton = v.tooltipButton;
 
-            if (!req.shouldDisplayText(client)) {
-                label.setVisible(false);
-                if (tooltipButton != null) {
-                    tooltipButton.setVisible(false);
+            // Check the watch first so it always sees the latest versions
+            var inputsChanged = v.watch.changed();
+            var newText = req.getDisplayText();
+            var textChanged = !label.getText().equals(newText);
+            if (!inputsChanged && !bankChanged && !textChanged) {
+                if (v.visible) {
+                    numActive += 1;
                 }
                 continue;
             }
+            changed = true;
 
-            label.setVisible(true);
+            v.visible = req.shouldDisplayText(client);
+            label.setVisible(v.visible);
             if (tooltipButton != null) {
-                tooltipButton.setVisible(true);
+                tooltipButton.setVisible(v.visible);
+            }
+            if (!v.visible) {
+                continue;
             }
             numActive += 1;
 
-            var newText = req.getDisplayText();
-            if (!label.getText().equals(newText)) {
-                label.setText(req.getDisplayText());
+            if (textChanged) {
+                label.setText(newText);
             }
 
             Color newColor;
@@ -272,6 +292,7 @@ public class QuestRequirementsPanel extends JPanel {
         }
 
         this.setVisible(numActive > 0);
+        return changed;
     }
 
     private JButton addButtonToPanel(JPanel panel, String tooltipText) {
@@ -28,6 +28,7 @@ import net.runelite.api.Client;
 import net.runelite.api.Item;
 import net.runelite.client.plugins.microbot.questhelper.QuestHelperPlugin;
 import net.runelite.client.plugins.microbot.questhelper.managers.QuestManager;
+import net.runelite.client.plugins.microbot.questhelper.managers.RequirementTracker;
 import net.runelite.client.plugins.microbot.questhelper.questhelpers.QuestHelper;
 import net.runelite.client.plugins.microbot.questhelper.steps.QuestStep;
 import net.runelite.client.ui.ColorScheme;
@@ -41,6 +42,7 @@ import java.awt.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class QuestStepPanel extends JPanel {
     private static final int TITLE_PADDING = 5;
@@ -55,6 +57,7 @@ public class QuestStepPanel extends JPanel {
     private final JPanel leftTitleContainer;
     private final JPanel viewControls;
     private final HashMap<QuestStep, JTextPane> steps = new HashMap<>();
+    private final Map<QuestStep, String> stepTexts = new HashMap<>();
     private final @Nullable QuestRequirementsPanel requiredItemsPanel;
     private final @Nullable QuestRequirementsPanel recommendedItemsPanel;
     private final QuestHelper questHelper;
@@ -140,7 +143,9 @@ public class QuestStepPanel extends JPanel {
                     BorderFactory.createMatteBorder(1, 0, 1, 0, ColorScheme.DARK_GRAY_COLOR.brighter()),
                     BorderFactory.createEmptyBorder(5, 5, 10, 0)
             ));
-            questStepLabel.setText(generateText(step));
+            String text = generateText(step);
+            questStepLabel.setText(text);
+            stepTexts.put(step, text);
             questStepLabel.setOpaque(true);
             questStepLabel.setVisible(step.isShowInSidebar());
 
@@ -184,6 +189,19 @@ public class QuestStepPanel extends JPanel {
         return steps;
     }
 
+    /**
+     * Updates the text of the steps whose text changed since it was last set.
+     */
+    public void updateStepTexts() {
+        for (Map.Entry<QuestStep, JTextPane> entry : steps.entrySet()) {
+            String text = generateText(entry.getKey());
+            if (!text.equals(stepTexts.get(entry.getKey()))) {
+                entry.getValue().setText(text);
+                stepTexts.put(entry.getKey(), text);
+            }
+        }
+    }
+
     public void setLockable(boolean canLock) {
         lockStep.setVisible(canLock);
     }
@@ -247,11 +265,17 @@ public class QuestStepPanel extends JPanel {
         collapse();
     }
 
-    public void updateLock() {
+    /**
+     * @return whether the lock or the collapsed state changed
+     */
+    public boolean updateLock() {
         if (panelDetails.getLockingQuestSteps() == null) {
-            return;
+            return false;
         }
 
+        boolean wasAutoLocked = stepAutoLocked;
+        boolean wasSelected = lockStep.isSelected();
+
         if (panelDetails.getLockingQuestSteps().isUnlockable()) {
             stepAutoLocked = false;
             lockStep.setEnabled(true);
@@ -266,6 +290,8 @@ public class QuestStepPanel extends JPanel {
         if (panelDetails.getLockingQuestSteps().isLocked()) {
             lockStep.setSelected(true);
         }
+
+        return wasAutoLocked != stepAutoLocked || wasSelected != lockStep.isSelected();
     }
 
     private void lockSection(boolean locked) {
@@ -307,23 +333,28 @@ public class QuestStepPanel extends JPanel {
         }
     }
 
-    public void updateRequirements(Client client, List<Item> bankItems) {
+    /**
+     * @return whether any requirement or step visibility changed
+     */
+    public boolean updateRequirements(Client client, List<Item> bankItems) {
+        boolean changed = false;
         if (requiredItemsPanel != null) {
-            requiredItemsPanel.update(client, questHelperPlugin, bankItems);
+            changed = requiredItemsPanel.update(client, questHelperPlugin, bankItems);
         }
 
         if (recommendedItemsPanel != null) {
-            recommendedItemsPanel.update(client, questHelperPlugin, bankItems);
+            changed |= recommendedItemsPanel.update(client, questHelperPlugin, bankItems);
         }
 
-        updateStepVisibility(client);
+        return updateStepVisibility(client) || changed;
     }
 
-    public void updateStepVisibility(Client client) {
+    public boolean updateStepVisibility(Client client) {
+        RequirementTracker requirementTracker = questHelperPlugin.getRequirementTracker();
         boolean stepVisibilityChanged = false;
         for (QuestStep step : steps.keySet()) {
             boolean oldVisibility = step.isShowInSidebar();
-            boolean newVisibility = step.getConditionToHide() == null || !step.getConditionToHide().check(client);
+            boolean newVisibility = step.getConditionToHide() == null || !requirementTracker.check(step.getConditionToHide());
             stepVisibilityChanged = stepVisibilityChanged || (oldVisibility != newVisibility);
 
             step.setShowInSidebar(newVisibility);
@@ -333,6 +364,7 @@ public class QuestStepPanel extends JPanel {
         if (stepVisibilityChanged) {
             updateHighlightCheck(client, currentlyActiveQuestSidebarStep(), questHelper);
         }
+        return stepVisibilityChanged;
     }
 
     private QuestStep currentlyActiveQuestSidebarStep() {
@@ -57,6 +57,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public abstract class QuestHelper implements Module, QuestDebugRenderer {
     @Inject
@@ -85,8 +86,11 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer {
     @Getter
     @Setter
     private QuestHelperQuest quest;
+    /**
+     * The quest's own injector, which its steps are injected with. It is only created once the steps first need it.
+     */
     @Setter
-    private Injector injector;
+    private Supplier<Injector> injector;
     private boolean hasInitialized;
 
     @Override
@@ -140,7 +144,7 @@ public abstract class QuestHelper implements Module, QuestDebugRenderer {
     public void instantiateStep(QuestStep questStep) {
         try {
             if (questStep != null) {
-                injector.injectMembers(questStep);
+                injector.get().injectMembers(questStep);
             }
         } catch (CreationException ex) {
             ex.printStackTrace();
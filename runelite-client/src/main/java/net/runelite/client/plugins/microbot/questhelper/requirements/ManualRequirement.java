@@ -24,15 +24,32 @@
  */
 package net.runelite.client.plugins.microbot.questhelper.requirements;
 
-import lombok.Setter;
+import lombok.Getter;
 import net.runelite.api.Client;
 
 public class ManualRequirement extends SimpleRequirement {
-    @Setter
     boolean shouldPass;
 
+    /**
+     * Counts the times {@link #shouldPass} changed, so requirements depending on this one can tell it changed
+     */
+    @Getter
+    private int changes;
+
+    public void setShouldPass(boolean shouldPass) {
+        if (this.shouldPass != shouldPass) {
+            this.shouldPass = shouldPass;
+            changes++;
+        }
+    }
+
     @Override
     public boolean check(Client client) {
         return shouldPass;
     }
+
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        inputs.manual(this);
+    }
 }
@@ -51,6 +51,16 @@ public interface Requirement {
      */
     boolean check(Client client);
 
+    /**
+     * Declares the client state {@link #check(Client)} reads, so the result only has to be recomputed once any of it
+     * changes. By default a requirement is untracked and checked again every time.
+     *
+     * @param inputs the inputs to add to
+     */
+    default void collectInputs(RequirementInputs inputs) {
+        inputs.untracked();
+    }
+
     default boolean checkWithConfigChange(Client client, ConfigManager configManager, String configName, String value) {
         if (check(client)) {
             configManager.setRSProfileConfiguration(QuestHelperConfig.QUEST_HELPER_GROUP, configName, value);
@@ -0,0 +1,82 @@
+package net.runelite.client.plugins.microbot.questhelper.requirements;
+
+import lombok.Getter;
+import net.runelite.api.Skill;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The client state a {@link Requirement} reads when it is checked, as declared by
+ * {@link Requirement#collectInputs(RequirementInputs)}.
+ * <p>
+ * A requirement which reads anything that isn't a varbit, varp, item container, skill or the player's location is
+ * untracked, and is checked again every time.
+ */
+@Getter
+public class RequirementInputs {
+    private boolean untracked;
+    private boolean location;
+    private final Set<Integer> varbits = new HashSet<>();
+    private final Set<Integer> varps = new HashSet<>();
+    private final Set<Integer> containers = new HashSet<>();
+    private final Set<Skill> skills = EnumSet.noneOf(Skill.class);
+    private final List<ManualRequirement> manualRequirements = new ArrayList<>();
+
+    public static RequirementInputs of(Requirement requirement) {
+        RequirementInputs inputs = new RequirementInputs();
+        inputs.add(requirement);
+        return inputs;
+    }
+
+    /**
+     * Adds the inputs of a child requirement. Null children, as allowed by {@code Conditions}, read nothing.
+     */
+    public RequirementInputs add(Requirement requirement) {
+        if (requirement != null && !untracked) {
+            requirement.collectInputs(this);
+        }
+        return this;
+    }
+
+    public RequirementInputs varbit(int varbitId) {
+        varbits.add(varbitId);
+        return this;
+    }
+
+    public RequirementInputs varp(int varpId) {
+        varps.add(varpId);
+        return this;
+    }
+
+    public RequirementInputs container(int containerId) {
+        containers.add(containerId);
+        return this;
+    }
+
+    public RequirementInputs skill(Skill skill) {
+        skills.add(skill);
+        return this;
+    }
+
+    public RequirementInputs location() {
+        location = true;
+        return this;
+    }
+
+    public RequirementInputs manual(ManualRequirement requirement) {
+        manualRequirements.add(requirement);
+        return this;
+    }
+
+    /**
+     * Marks the requirement as reading state which isn't tracked, so it is always checked again.
+     */
+    public RequirementInputs untracked() {
+        untracked = true;
+        return this;
+    }
+}
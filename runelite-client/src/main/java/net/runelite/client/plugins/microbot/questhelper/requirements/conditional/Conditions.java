@@ -29,6 +29,7 @@ import net.runelite.api.Client;
 import net.runelite.client.plugins.microbot.questhelper.requirements.util.LogicType;
 import net.runelite.client.plugins.microbot.questhelper.util.Utils;
 import net.runelite.client.plugins.microbot.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 import net.runelite.client.plugins.microbot.questhelper.requirements.util.Operation;
 
 import javax.annotation.Nonnull;
@@ -129,6 +130,11 @@ public class Conditions extends ConditionForStep {
         return text;
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        conditions.forEach(inputs::add);
+    }
+
     @Override
     public boolean check(Client client) {
         if (onlyNeedToPassOnce && hasPassed) {
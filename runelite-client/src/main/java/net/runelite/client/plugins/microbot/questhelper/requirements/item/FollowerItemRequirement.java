@@ -29,6 +29,7 @@ package net.runelite.client.plugins.microbot.questhelper.requirements.item;
 import net.runelite.api.Client;
 import net.runelite.api.Item;
 import net.runelite.client.plugins.microbot.questhelper.collections.ItemCollections;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 
 import java.util.List;
 import java.util.Objects;
@@ -74,4 +75,10 @@ public class FollowerItemRequirement extends ItemRequirement {
 
         return super.check(client, checkConsideringSlotRestrictions, items);
     }
+
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        // Followers are looked up in the loaded npcs
+        inputs.untracked();
+    }
 }
@@ -42,6 +42,7 @@ import net.runelite.client.plugins.microbot.questhelper.requirements.conditional
 import net.runelite.client.plugins.microbot.questhelper.requirements.util.LogicType;
 import net.runelite.client.plugins.microbot.questhelper.collections.ItemWithCharge;
 import net.runelite.client.plugins.microbot.questhelper.requirements.Requirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 import net.runelite.client.plugins.microbot.questhelper.requirements.util.InventorySlots;
 import net.runelite.client.ui.overlay.components.LineComponent;
 import org.jetbrains.annotations.Nullable;
@@ -536,6 +537,20 @@ public class ItemRequirement extends AbstractRequirement {
         return check(client, checkConsideringSlotRestrictions, new ArrayList<>());
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        if (questBank != null) {
+            // The quest bank can also be loaded from the config, without any container changing
+            inputs.untracked();
+            return;
+        }
+
+        inputs.container(InventoryID.INVENTORY.getId())
+                .container(InventoryID.EQUIPMENT.getId())
+                .add(conditionToHide)
+                .add(additionalOptions);
+    }
+
     public boolean checkBank(Client client) {
         return InventorySlots.BANK.contains(client, item -> getDisplayItemIds().contains(item.getId()));
     }
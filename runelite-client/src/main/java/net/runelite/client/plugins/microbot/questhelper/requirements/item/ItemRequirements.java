@@ -32,6 +32,7 @@ import net.runelite.api.Client;
 import net.runelite.api.Item;
 import net.runelite.client.plugins.microbot.questhelper.QuestHelperConfig;
 import net.runelite.client.plugins.microbot.questhelper.questhelpers.QuestUtil;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 import net.runelite.client.plugins.microbot.questhelper.requirements.util.LogicType;
 import net.runelite.client.plugins.microbot.questhelper.util.Utils;
 
@@ -108,6 +109,12 @@ public class ItemRequirements extends ItemRequirement {
         return hadItemLastCheck;
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        super.collectInputs(inputs);
+        itemRequirements.forEach(inputs::add);
+    }
+
     @Override
     public Color getColor(Client client, QuestHelperConfig config) {
         return this.check(client, true) ? config.passColour() : config.failColour();
@@ -31,6 +31,7 @@ import net.runelite.api.ItemID;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.plugins.microbot.questhelper.QuestHelperConfig;
 import net.runelite.client.plugins.microbot.questhelper.collections.KeyringCollection;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 import net.runelite.client.plugins.microbot.questhelper.requirements.runelite.RuneliteRequirement;
 
 import java.awt.*;
@@ -99,6 +100,12 @@ public class KeyringRequirement extends ItemRequirement {
         return super.check(client, checkConsideringSlotRestrictions, items);
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        // The key ring's contents are kept in the config
+        inputs.untracked();
+    }
+
     @Override
     public Color getColorConsideringBank(Client client, boolean checkConsideringSlotRestrictions,
                                          List<Item> bankItems, QuestHelperConfig config) {
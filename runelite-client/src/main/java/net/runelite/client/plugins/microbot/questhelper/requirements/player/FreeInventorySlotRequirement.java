@@ -34,6 +34,7 @@ import net.runelite.api.InventoryID;
 import net.runelite.api.Item;
 import net.runelite.api.ItemContainer;
 import net.runelite.client.plugins.microbot.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 
 import javax.annotation.Nonnull;
 import java.util.Locale;
@@ -70,6 +71,11 @@ public class FreeInventorySlotRequirement extends AbstractRequirement {
         return false;
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        inputs.container(inventoryID.getId());
+    }
+
     private boolean isOpenSlot(Item item) {
         return item == null || item.getId() == -1;
     }
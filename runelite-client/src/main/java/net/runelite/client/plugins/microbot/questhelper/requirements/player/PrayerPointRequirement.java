@@ -4,6 +4,7 @@ package net.runelite.client.plugins.microbot.questhelper.requirements.player;
 import net.runelite.api.Client;
 import net.runelite.api.Skill;
 import net.runelite.client.plugins.microbot.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 
 import javax.annotation.Nonnull;
 
@@ -20,6 +21,11 @@ public class PrayerPointRequirement extends AbstractRequirement {
         return client.getBoostedSkillLevel(Skill.PRAYER) >= level;
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        inputs.skill(Skill.PRAYER);
+    }
+
     @Nonnull
     @Override
     public String getDisplayText() {
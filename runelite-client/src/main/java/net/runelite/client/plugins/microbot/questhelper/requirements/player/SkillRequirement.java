@@ -34,6 +34,7 @@ import net.runelite.api.Skill;
 import net.runelite.client.plugins.microbot.questhelper.QuestHelperConfig;
 import net.runelite.client.plugins.microbot.questhelper.QuestHelperPlugin;
 import net.runelite.client.plugins.microbot.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 import net.runelite.client.plugins.microbot.questhelper.requirements.util.Operation;
 
 import javax.annotation.Nonnull;
@@ -115,6 +116,11 @@ public class SkillRequirement extends AbstractRequirement {
         return skillLevel >= requiredLevel;
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        inputs.skill(skill);
+    }
+
     public boolean checkRange(Skill skill, int requiredLevel, Client client, QuestHelperConfig config) {
         for (Boosts boostSkills : Boosts.values()) {
             if (skill.getName().equals(boostSkills.getName())) {
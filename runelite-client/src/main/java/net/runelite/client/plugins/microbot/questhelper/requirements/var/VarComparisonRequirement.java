@@ -29,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.Varbits;
 import net.runelite.client.plugins.microbot.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 import net.runelite.client.plugins.microbot.questhelper.requirements.util.Operation;
 import net.runelite.client.plugins.microbot.questhelper.util.Utils;
 
@@ -91,6 +92,12 @@ public class VarComparisonRequirement extends AbstractRequirement {
         }
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        v1Type.collectInputs(inputs, v1Id);
+        v2Type.collectInputs(inputs, v2Id);
+    }
+
     @Nonnull
     @Override
     public String getDisplayText() {
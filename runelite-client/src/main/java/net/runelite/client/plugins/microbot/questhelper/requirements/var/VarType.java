@@ -25,6 +25,7 @@
 package net.runelite.client.plugins.microbot.questhelper.requirements.var;
 
 import net.runelite.api.Client;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 
 import java.util.function.ToIntBiFunction;
 
@@ -41,4 +42,12 @@ public enum VarType {
     public int getValue(Client client, int id) {
         return getter.applyAsInt(client, id);
     }
+
+    public void collectInputs(RequirementInputs inputs, int id) {
+        if (this == VARBIT) {
+            inputs.varbit(id);
+        } else {
+            inputs.varp(id);
+        }
+    }
 }
\ No newline at end of file
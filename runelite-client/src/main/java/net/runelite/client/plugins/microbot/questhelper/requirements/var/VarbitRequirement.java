@@ -34,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.Varbits;
 import net.runelite.client.plugins.microbot.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 import net.runelite.client.plugins.microbot.questhelper.requirements.util.Operation;
 import net.runelite.client.plugins.microbot.questhelper.util.Utils;
 
@@ -164,6 +165,11 @@ public class VarbitRequirement extends AbstractRequirement {
         }
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        inputs.varbit(varbitID);
+    }
+
     @Nonnull
     @Override
     public String getDisplayText() {
@@ -29,6 +29,7 @@ package net.runelite.client.plugins.microbot.questhelper.requirements.var;
 
 import net.runelite.api.Client;
 import net.runelite.client.plugins.microbot.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 import net.runelite.client.plugins.microbot.questhelper.requirements.util.Operation;
 
 import javax.annotation.Nonnull;
@@ -155,6 +156,11 @@ public class VarplayerRequirement extends AbstractRequirement {
         return values.stream().anyMatch(value -> operation.check(varpValue, value));
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        inputs.varp(varplayerId);
+    }
+
     @Nonnull
     @Override
     public String getDisplayText() {
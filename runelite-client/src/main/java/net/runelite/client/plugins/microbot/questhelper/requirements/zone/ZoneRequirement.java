@@ -33,6 +33,7 @@ import net.runelite.api.Client;
 import net.runelite.api.Player;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.plugins.microbot.questhelper.requirements.AbstractRequirement;
+import net.runelite.client.plugins.microbot.questhelper.requirements.RequirementInputs;
 import net.runelite.client.plugins.microbot.questhelper.questhelpers.QuestUtil;
 import net.runelite.client.plugins.microbot.questhelper.util.Utils;
 
@@ -105,6 +106,11 @@ public class ZoneRequirement extends AbstractRequirement {
         return false;
     }
 
+    @Override
+    public void collectInputs(RequirementInputs inputs) {
+        inputs.location();
+    }
+
     @Nonnull
     @Override
     public String getDisplayText() {
@@ -32,6 +32,7 @@ import net.runelite.api.events.*;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.plugins.microbot.questhelper.QuestHelperPlugin;
+import net.runelite.client.plugins.microbot.questhelper.managers.RequirementTracker;
 import net.runelite.client.plugins.microbot.questhelper.questhelpers.QuestHelper;
 import net.runelite.client.plugins.microbot.questhelper.requirements.ChatMessageRequirement;
 import net.runelite.client.plugins.microbot.questhelper.requirements.MultiChatMessageRequirement;
@@ -56,6 +57,8 @@ public class ConditionalStep extends QuestStep implements OwnerStep {
     protected final List<RuneliteRequirement> runeliteConditions = new ArrayList<>();
     @Inject
     protected EventBus eventBus;
+    @Inject
+    protected RequirementTracker requirementTracker;
     protected boolean started = false;
     @Setter
     protected boolean checkAllChildStepsOnListenerCall = false;
@@ -251,7 +254,7 @@ public class ConditionalStep extends QuestStep implements OwnerStep {
 
         for (Requirement conditions : steps.keySet()) {
             boolean stepIsLocked = steps.get(conditions).isLocked();
-            if (conditions != null && conditions.check(client) && !stepIsLocked) {
+            if (conditions != null && requirementTracker.check(conditions) && !stepIsLocked) {
                 startUpStep(steps.get(conditions));
                 return;
             } else if (steps.get(conditions).isBlocker() && stepIsLocked) {
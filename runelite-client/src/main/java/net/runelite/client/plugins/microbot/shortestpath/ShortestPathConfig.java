@@ -353,6 +353,29 @@ public interface ShortestPathConfig extends Config {
         return 5;
     }
 
+    @ConfigItem(
+            keyName = "useHierarchicalPathfinding",
+            name = "Hierarchical pathfinding",
+            description = "Whether long paths should first be planned across map regions<br>" +
+                    "and then only be refined tile by tile along the chosen regions",
+            position = 28,
+            section = sectionSettings
+    )
+    default boolean useHierarchicalPathfinding() {
+        return false;
+    }
+
+    @ConfigItem(
+            keyName = "useBidirectionalSearch",
+            name = "Bidirectional search",
+            description = "Whether paths to a single target should be searched from both ends at once",
+            position = 29,
+            section = sectionSettings
+    )
+    default boolean useBidirectionalSearch() {
+        return false;
+    }
+
     @ConfigSection(
             name = "Display",
             description = "Options for displaying the path on the world map, minimap and scene tiles",
@@ -48,9 +48,10 @@ import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.CollisionMap;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.Pathfinder;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.PathfinderConfig;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.PathfindingService;
 import net.runelite.client.plugins.microbot.shortestpath.pathfinder.SplitFlagMap;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
-import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
+import net.runelite.client.plugins.microbot.util.tile.Rs2Reachability;
 import net.runelite.client.plugins.microbot.util.walker.Rs2Walker;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.JagexColors;
@@ -167,6 +168,8 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
     @Getter
     public static PathfinderConfig pathfinderConfig;
     @Getter
+    public static PathfindingService pathfindingService;
+    @Getter
     @Setter
     public static boolean startPointSet = false;
     @Setter
@@ -184,6 +187,7 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
         Map<WorldPoint, Set<Transport>> transports = Transport.loadAllFromResources();
         List<Restriction> restrictions = Restriction.loadAllFromResources();
         pathfinderConfig = new PathfinderConfig(map, transports, restrictions, client, config);
+        pathfindingService = new PathfindingService(pathfinderConfig);
 
         panel = injector.getInstance(ShortestPathPanel.class);
         final BufferedImage icon = ImageUtil.loadImageResource(ShortestPathPlugin.class, "panel_icon.png");
@@ -227,6 +231,10 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
         shortestPathScript.shutdown();
 
         exit();
+        if (pathfindingService != null) {
+            pathfindingService.shutdown();
+            pathfindingService = null;
+        }
         keyManager.unregisterKeyListener(this);
     }
 
@@ -280,14 +288,7 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
             return true;
         }
 
-        var reachableTiles = Rs2Tile.getReachableTilesFromTile(location, config.recalculateDistance() - 1);
-        for (WorldPoint point : pathfinder.getPath()) {
-            if (reachableTiles.containsKey(point)) {
-                return true;
-            }
-        }
-
-        return false;
+        return Rs2Reachability.isAnyReachable(location, pathfinder.getPath(), config.recalculateDistance() - 1);
     }
 
     private final Pattern TRANSPORT_OPTIONS_REGEX = Pattern.compile("^(avoidWilderness|use\\w+|useTeleportationItems)$");
@@ -365,7 +366,7 @@ public class ShortestPathPlugin extends Plugin implements KeyListener {
 
         for (WorldPoint target : pathfinder.getTargets()) {
             if (Rs2Player.getWorldLocation().distanceTo(target) < reachedDistance
-                    && Rs2Tile.getReachableTilesFromTile(Rs2Player.getWorldLocation(), reachedDistance).containsKey(path.get(path.size() - 1))) {
+                    && Rs2Reachability.isReachable(Rs2Player.getWorldLocation(), path.get(path.size() - 1), reachedDistance)) {
                 setTarget(null);
                 if (Microbot.getClientThread().scheduledFuture != null) {
                     Microbot.getClientThread().scheduledFuture.cancel(true);
@@ -7,9 +7,10 @@ import net.runelite.client.plugins.microbot.shortestpath.TransportType;
 import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
 import net.runelite.client.plugins.microbot.util.coords.Rs2WorldPoint;
 import net.runelite.client.plugins.microbot.util.gameobject.Rs2GameObject;
-import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
-import java.util.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 public class CollisionMap {
     // Enum.values() makes copies every time which hurts performance in the hotpath
@@ -65,16 +66,47 @@ public class CollisionMap {
         return !n(x, y, z) && !s(x, y, z) && !e(x, y, z) && !w(x, y, z);
     }
 
-    private static int packedPointFromOrdinal(int startPacked, OrdinalDirection direction) {
-        final int x = WorldPointUtil.unpackWorldX(startPacked);
-        final int y = WorldPointUtil.unpackWorldY(startPacked);
-        final int plane = WorldPointUtil.unpackWorldPlane(startPacked);
-        return WorldPointUtil.packWorldPoint(x + direction.x, y + direction.y, plane);
+    /**
+     * Fills {@code traversable} with whether each {@link OrdinalDirection} can be walked to from the given tile.
+     * Standing on a fully blocked tile allows walking to any adjacent tile which is not itself fully blocked.
+     */
+    void traversable(int x, int y, int z, boolean[] traversable) {
+        if (isBlocked(x, y, z)) {
+            boolean westBlocked = isBlocked(x - 1, y, z);
+            boolean eastBlocked = isBlocked(x + 1, y, z);
+            boolean southBlocked = isBlocked(x, y - 1, z);
+            boolean northBlocked = isBlocked(x, y + 1, z);
+            boolean southWestBlocked = isBlocked(x - 1, y - 1, z);
+            boolean southEastBlocked = isBlocked(x + 1, y - 1, z);
+            boolean northWestBlocked = isBlocked(x - 1, y + 1, z);
+            boolean northEastBlocked = isBlocked(x + 1, y + 1, z);
+            traversable[0] = !westBlocked;
+            traversable[1] = !eastBlocked;
+            traversable[2] = !southBlocked;
+            traversable[3] = !northBlocked;
+            traversable[4] = !southWestBlocked && !westBlocked && !southBlocked;
+            traversable[5] = !southEastBlocked && !eastBlocked && !southBlocked;
+            traversable[6] = !northWestBlocked && !westBlocked && !northBlocked;
+            traversable[7] = !northEastBlocked && !eastBlocked && !northBlocked;
+        } else {
+            traversable[0] = w(x, y, z);
+            traversable[1] = e(x, y, z);
+            traversable[2] = s(x, y, z);
+            traversable[3] = n(x, y, z);
+            traversable[4] = sw(x, y, z);
+            traversable[5] = se(x, y, z);
+            traversable[6] = nw(x, y, z);
+            traversable[7] = ne(x, y, z);
+        }
     }
 
     // This is only safe if pathfinding is single-threaded
-    private final List<Node> neighbors = new ArrayList<>(16);
     private final boolean[] traversable = new boolean[8];
+    // Neighbours found by the last getNeighbors call; reused so expanding a node doesn't allocate
+    private int neighborCount;
+    private int[] neighborPositions = new int[16];
+    private int[] neighborCosts = new int[16];
+    private boolean[] neighborTransports = new boolean[16];
 
     public static final List<WorldPoint> ignoreCollision = Arrays.asList(
             new WorldPoint(3142, 3457, 0),
@@ -97,67 +129,65 @@ public class CollisionMap {
             new WorldPoint(3672, 3862, 0)
     );
 
-    public List<Node> getNeighbors(Node node, VisitedTiles visited, PathfinderConfig config, Set<WorldPoint> targets) {
-        final int x = WorldPointUtil.unpackWorldX(node.packedPosition);
-        final int y = WorldPointUtil.unpackWorldY(node.packedPosition);
-        final int z = WorldPointUtil.unpackWorldPlane(node.packedPosition);
+    // Packed copy of ignoreCollision, sorted for binary search in the hotpath
+    private static final int[] IGNORE_COLLISION_PACKED = ignoreCollision.stream()
+            .mapToInt(WorldPointUtil::packWorldPoint)
+            .sorted()
+            .distinct()
+            .toArray();
 
-        neighbors.clear();
+    /**
+     * Finds the unvisited neighbours of a tile, which can be read back with {@link #getNeighborPosition(int)},
+     * {@link #getNeighborCost(int)} and {@link #isNeighborTransport(int)} until the next call.
+     *
+     * @param teleports player-held teleports usable from the tile, or null if there are none
+     * @param inToaPuzzleRoom whether the player is in the Tombs of Amascut sequence puzzle room
+     * @return the number of neighbours found
+     */
+    public int getNeighbors(int packedPosition, VisitedTiles visited, PathfinderConfig config, int[] targetsPacked,
+                            Set<Transport> teleports, boolean inToaPuzzleRoom) {
+        final int x = WorldPointUtil.unpackWorldX(packedPosition);
+        final int y = WorldPointUtil.unpackWorldY(packedPosition);
+        final int z = WorldPointUtil.unpackWorldPlane(packedPosition);
 
-        @SuppressWarnings("unchecked") // Casting EMPTY_LIST to List<Transport> is safe here
-        Set<Transport> transports = config.getTransportsPacked().getOrDefault(node.packedPosition, (Set<Transport>)Collections.EMPTY_SET);
+        neighborCount = 0;
 
         // Transports are pre-filtered by PathfinderConfig.refreshTransports
         // Thus any transports in the list are guaranteed to be valid per the user's settings
-        for (Transport transport : transports) {
-            //START microbot variables
-            if (visited.get(transport.getDestination())) continue;
-            if (config.isIgnoreTeleportAndItems() && TransportType.isTeleport(transport.getType())) continue;
-            if (TransportType.isTeleport(transport.getType())) {
-                neighbors.add(new TransportNode(transport.getDestination(), node, config.getDistanceBeforeUsingTeleport() + transport.getDuration()));
-            } else {
-                neighbors.add(new TransportNode(transport.getDestination(), node, transport.getDuration()));
+        Set<Transport> transports = config.getTransportsPacked().get(packedPosition);
+        if (transports != null) {
+            for (Transport transport : transports) {
+                //START microbot variables
+                final int destination = WorldPointUtil.packWorldPoint(transport.getDestination());
+                if (visited.get(destination)) continue;
+                if (TransportType.isTeleport(transport.getType())) {
+                    if (config.isIgnoreTeleportAndItems()) continue;
+                    addNeighbor(destination, config.getDistanceBeforeUsingTeleport() + transport.getDuration(), true);
+                } else {
+                    addNeighbor(destination, transport.getDuration(), true);
+                }
+                //END microbot variables
             }
-            //END microbot variables
         }
-
-        if (isBlocked(x, y, z)) {
-            boolean westBlocked = isBlocked(x - 1, y, z);
-            boolean eastBlocked = isBlocked(x + 1, y, z);
-            boolean southBlocked = isBlocked(x, y - 1, z);
-            boolean northBlocked = isBlocked(x, y + 1, z);
-            boolean southWestBlocked = isBlocked(x - 1, y - 1, z);
-            boolean southEastBlocked = isBlocked(x + 1, y - 1, z);
-            boolean northWestBlocked = isBlocked(x - 1, y + 1, z);
-            boolean northEastBlocked = isBlocked(x + 1, y + 1, z);
-            traversable[0] = !westBlocked;
-            traversable[1] = !eastBlocked;
-            traversable[2] = !southBlocked;
-            traversable[3] = !northBlocked;
-            traversable[4] = !southWestBlocked && !westBlocked && !southBlocked;
-            traversable[5] = !southEastBlocked && !eastBlocked && !southBlocked;
-            traversable[6] = !northWestBlocked && !westBlocked && !northBlocked;
-            traversable[7] = !northEastBlocked && !eastBlocked && !northBlocked;
-        } else {
-            traversable[0] = w(x, y, z);
-            traversable[1] = e(x, y, z);
-            traversable[2] = s(x, y, z);
-            traversable[3] = n(x, y, z);
-            traversable[4] = sw(x, y, z);
-            traversable[5] = se(x, y, z);
-            traversable[6] = nw(x, y, z);
-            traversable[7] = ne(x, y, z);
+        if (teleports != null) {
+            for (Transport teleport : teleports) {
+                final int destination = WorldPointUtil.packWorldPoint(teleport.getDestination());
+                if (visited.get(destination)) continue;
+                addNeighbor(destination, config.getDistanceBeforeUsingTeleport() + teleport.getDuration(), true);
+            }
         }
 
+        traversable(x, y, z, traversable);
+        final boolean ignoreCollision = Arrays.binarySearch(IGNORE_COLLISION_PACKED, packedPosition) >= 0;
+
         for (int i = 0; i < traversable.length; i++) {
             OrdinalDirection d = ORDINAL_VALUES[i];
-            int neighborPacked = packedPointFromOrdinal(node.packedPosition, d);
+            int neighborPacked = WorldPointUtil.packWorldPoint(x + d.x, y + d.y, z);
             if (visited.get(neighborPacked)) continue;
-            if (config.getRestrictedPointsPacked().contains(neighborPacked)) continue;
-            if (config.getCustomRestrictions().contains(neighborPacked)) continue;
+            if (config.isRestricted(neighborPacked)) continue;
 
-            if (ignoreCollision.contains(new WorldPoint(x, y, z))) {
-                neighbors.add(new Node(neighborPacked, node));
+            if (ignoreCollision) {
+                addNeighbor(neighborPacked, 1, false);
                 continue;
             }
 
@@ -165,37 +195,129 @@ public class CollisionMap {
              * This piece of code is designed to allow web walker to be used in toa puzzle room
              * it will dodge specific tiles in the sequence room
              */
-            if (Rs2Player.getWorldLocation().getRegionID() == 14162) { //toa puzzle room
-                final int lx = WorldPointUtil.unpackWorldX(neighborPacked);
-                final int ly = WorldPointUtil.unpackWorldY(neighborPacked);
-                final int lz = WorldPointUtil.unpackWorldPlane(neighborPacked);
-                if (targets.stream().noneMatch(tgts -> Objects.equals(tgts, new WorldPoint(lx, ly, lz)))) {
-                    WorldPoint globalWorldPoint = Rs2WorldPoint.convertInstancedWorldPoint(new WorldPoint(lx, ly, lz));
-                    if (globalWorldPoint != null) {
-                        TileObject go = Rs2GameObject.getGroundObject(globalWorldPoint);
-                        if (go != null && go.getId() == 45340) {
-                            continue;
-                        }
+            if (inToaPuzzleRoom && !isTarget(targetsPacked, neighborPacked)) {
+                WorldPoint globalWorldPoint = Rs2WorldPoint.convertInstancedWorldPoint(WorldPointUtil.unpackWorldPoint(neighborPacked));
+                if (globalWorldPoint != null) {
+                    TileObject go = Rs2GameObject.getGroundObject(globalWorldPoint);
+                    if (go != null && go.getId() == 45340) {
+                        continue;
                     }
                 }
             }
 
             if (traversable[i]) {
-                neighbors.add(new Node(neighborPacked, node));
+                addNeighbor(neighborPacked, 1, false);
             } else if (Math.abs(d.x + d.y) == 1 && isBlocked(x + d.x, y + d.y, z)) {
                 // The transport starts from a blocked adjacent tile, e.g. fairy ring
                 // Only checks non-teleport transports (includes portals and levers, but not items and spells)
-                @SuppressWarnings("unchecked") // Casting EMPTY_LIST to List<Transport> is safe here
-                Set<Transport> neighborTransports = config.getTransportsPacked().getOrDefault(neighborPacked, (Set<Transport>)Collections.EMPTY_SET);
+                Set<Transport> neighborTransports = config.getTransportsPacked().get(neighborPacked);
+                if (neighborTransports == null) {
+                    continue;
+                }
                 for (Transport transport : neighborTransports) {
-                    if (transport.getOrigin() == null || visited.get(transport.getOrigin())) {
+                    if (transport.getOrigin() == null) {
                         continue;
                     }
-                    neighbors.add(new Node(transport.getOrigin(), node));
+                    final int origin = WorldPointUtil.packWorldPoint(transport.getOrigin());
+                    if (visited.get(origin)) {
+                        continue;
+                    }
+                    addNeighbor(origin, WorldPointUtil.distanceBetween(packedPosition, origin), false);
                 }
             }
         }
 
-        return neighbors;
+        return neighborCount;
+    }
+
+    /**
+     * Finds the unvisited tiles from which a tile can be reached in one step, the reverse of
+     * {@link #getNeighbors}. Used to search backwards from the target. The tiles are read back the same way as
+     * neighbours; the cost is that of the step from the predecessor to the given tile.
+     * Player-held teleports are not included, as they can only be used at the start of a path.
+     *
+     * @return the number of predecessors found
+     */
+    public int getPredecessors(int packedPosition, VisitedTiles visited, PathfinderConfig config) {
+        final int x = WorldPointUtil.unpackWorldX(packedPosition);
+        final int y = WorldPointUtil.unpackWorldY(packedPosition);
+        final int z = WorldPointUtil.unpackWorldPlane(packedPosition);
+
+        neighborCount = 0;
+
+        Set<Transport> arriving = config.getTransportsByDestinationPacked().get(packedPosition);
+        if (arriving != null) {
+            for (Transport transport : arriving) {
+                final int origin = WorldPointUtil.packWorldPoint(transport.getOrigin());
+                if (visited.get(origin)) continue;
+                if (TransportType.isTeleport(transport.getType())) {
+                    if (config.isIgnoreTeleportAndItems()) continue;
+                    addNeighbor(origin, config.getDistanceBeforeUsingTeleport() + transport.getDuration(), true);
+                } else {
+                    addNeighbor(origin, transport.getDuration(), true);
+                }
+            }
+        }
+
+        // Walking onto a restricted tile is never allowed
+        if (config.isRestricted(packedPosition)) {
+            return neighborCount;
+        }
+
+        final boolean blockedTransportOrigin = isBlocked(x, y, z) && config.getTransportsPacked().get(packedPosition) != null;
+        for (int i = 0; i < traversable.length; i++) {
+            OrdinalDirection d = ORDINAL_VALUES[i];
+            final int px = x - d.x;
+            final int py = y - d.y;
+            final int predecessorPacked = WorldPointUtil.packWorldPoint(px, py, z);
+            if (visited.get(predecessorPacked)) continue;
+
+            if (Arrays.binarySearch(IGNORE_COLLISION_PACKED, predecessorPacked) >= 0) {
+                addNeighbor(predecessorPacked, 1, false);
+                continue;
+            }
+
+            // Direction i leads from the predecessor to this tile
+            traversable(px, py, z, traversable);
+            if (traversable[i] || (blockedTransportOrigin && Math.abs(d.x + d.y) == 1)) {
+                addNeighbor(predecessorPacked, 1, false);
+            }
+        }
+
+        return neighborCount;
+    }
+
+    public int getNeighborPosition(int index) {
+        return neighborPositions[index];
+    }
+
+    /** The travel cost from the expanded tile to the neighbour */
+    public int getNeighborCost(int index) {
+        return neighborCosts[index];
+    }
+
+    public boolean isNeighborTransport(int index) {
+        return neighborTransports[index];
+    }
+
+    private void addNeighbor(int packedPosition, int cost, boolean transport) {
+        if (neighborCount == neighborPositions.length) {
+            neighborPositions = Arrays.copyOf(neighborPositions, neighborCount * 2);
+            neighborCosts = Arrays.copyOf(neighborCosts, neighborCount * 2);
+            neighborTransports = Arrays.copyOf(neighborTransports, neighborCount * 2);
+        }
+        neighborPositions[neighborCount] = packedPosition;
+        neighborCosts[neighborCount] = cost;
+        neighborTransports[neighborCount] = transport;
+        neighborCount++;
+    }
+
+    private static boolean isTarget(int[] targetsPacked, int packedPosition) {
+        for (int target : targetsPacked) {
+            if (target == packedPosition) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,87 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of int values ordered by an int key, used as the pathfinder's pending transport queue.
+ * Values with equal keys are polled in no particular order.
+ */
+class IntMinHeap {
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    IntMinHeap(int initialCapacity) {
+        keys = new int[Math.max(initialCapacity, 1)];
+        values = new int[keys.length];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(int key, int value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size << 1);
+            values = Arrays.copyOf(values, size << 1);
+        }
+
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[index] = keys[parent];
+            values[index] = values[parent];
+            index = parent;
+        }
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    int peekKey() {
+        return keys[0];
+    }
+
+    int peek() {
+        return values[0];
+    }
+
+    int poll() {
+        int result = values[0];
+        int last = --size;
+        if (last == 0) {
+            return result;
+        }
+
+        int key = keys[last];
+        int value = values[last];
+        int index = 0;
+        int half = last >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < last && keys[right] < keys[child]) {
+                child = right;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[index] = keys[child];
+            values[index] = values[child];
+            index = child;
+        }
+        keys[index] = key;
+        values[index] = value;
+        return result;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,57 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+/**
+ * First-in first-out queue of ints backed by a power of two sized ring buffer, used as the pathfinder's boundary.
+ */
+class IntRingBuffer {
+    private int[] elements;
+    private int mask;
+    private int head;
+    private int tail;
+
+    IntRingBuffer(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity - 1, 1)) << 1;
+        elements = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    boolean isEmpty() {
+        return head == tail;
+    }
+
+    int size() {
+        return tail - head;
+    }
+
+    void add(int value) {
+        if (tail - head == elements.length) {
+            grow();
+        }
+        elements[tail++ & mask] = value;
+    }
+
+    int peek() {
+        return elements[head & mask];
+    }
+
+    int poll() {
+        return elements[head++ & mask];
+    }
+
+    void clear() {
+        head = 0;
+        tail = 0;
+    }
+
+    private void grow() {
+        int[] grown = new int[elements.length << 1];
+        int size = tail - head;
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[(head + i) & mask];
+        }
+        elements = grown;
+        mask = grown.length - 1;
+        head = 0;
+        tail = size;
+    }
+}
@@ -2,11 +2,20 @@ package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
 
 import lombok.Getter;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
 import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 
 import java.util.*;
 
 public class Pathfinder implements Runnable {
+    private static final int NO_NODE = -1;
+    private static final int TOA_PUZZLE_ROOM_REGION = 14162;
+    // How far along the previous path a repair may rejoin it, and how many nodes it may check before giving up
+    private static final int REPAIR_WINDOW = 64;
+    private static final int REPAIR_NODE_LIMIT = 20_000;
+
     private PathfinderStats stats;
     private volatile boolean done = false;
     private volatile boolean cancelled = false;
@@ -15,21 +24,40 @@ public class Pathfinder implements Runnable {
     private final WorldPoint start;
     @Getter
     private final Set<WorldPoint> targets;
+    private final int[] targetsPacked;
+    private final TargetSet targetSet;
 
     private final PathfinderConfig config;
-    private final CollisionMap map;
+    // Obtained on the thread running the search, as collision maps hold per-thread scratch buffers
+    private CollisionMap map;
     private final boolean targetInWilderness;
+    private final boolean publishTeleports;
 
     // Capacities should be enough to store all nodes without requiring the queue to grow
     // They were found by checking the max queue size
-    private final Deque<Node> boundary = new ArrayDeque<>(4096);
-    private final Queue<Node> pending = new PriorityQueue<>(256);
+    private final IntRingBuffer boundary = new IntRingBuffer(4096);
+    private final IntMinHeap pending = new IntMinHeap(256);
     private final VisitedTiles visited;
+    // Visited tiles of the backward side of a bidirectional search, created on first use and cleared after each search
+    private VisitedTiles backwardVisited;
+    /** Region ids the search may expand into, or null to search the whole map */
+    private BitSet corridor;
+    // Whether the last search ran out of tiles to expand, rather than reaching a goal or stopping at the cutoff or
+    // node limit. Within a corridor this means the corridor doesn't lead to a goal.
+    private boolean exhausted;
+
+    // Every node of the search is an index into these arrays. Each tile is only visited once, so the arrays hold
+    // at most one entry per visited tile. The array references are volatile because getPath() may be called from
+    // another thread while the search grows them; entries are never modified after they have been written.
+    private volatile int[] nodePositions = new int[4096];
+    private volatile int[] nodeParents = new int[4096];
+    private volatile int[] nodeCosts = new int[4096];
+    private int nodeCount;
 
     @SuppressWarnings("unchecked") // Casting EMPTY_LIST is safe here
-    private List<WorldPoint> path = (List<WorldPoint>)Collections.EMPTY_LIST;
-    private boolean pathNeedsUpdate = false;
-    private Node bestLastNode;
+    private volatile List<WorldPoint> path = (List<WorldPoint>)Collections.EMPTY_LIST;
+    private volatile int pathLastNode = NO_NODE;
+    private volatile int bestLastNode = NO_NODE;
     /**
      * Teleportation transports are updated when this changes.
      * Can be either:
@@ -38,29 +66,100 @@ public class Pathfinder implements Runnable {
      * 31 = no teleports can be used
      */
     private int wildernessLevel;
+    private boolean inToaPuzzleRoom;
+    // Whether the caller set inToaPuzzleRoom, otherwise it is read from the client when the search starts
+    private boolean inToaPuzzleRoomKnown;
+    // Teleports usable from the tiles where the wilderness level dropped. They are kept with the search instead of
+    // being added to the shared transport maps, so concurrent searches don't see each other's teleports.
+    private final int[] teleportPositions = new int[3];
+    private final List<Set<Transport>> teleports = new ArrayList<>(3);
+
+    // Set when repairing a previous path: the part of it that may be rejoined, and tiles the repair must avoid
+    private List<WorldPoint> rejoinPath;
+    private TargetSet rejoinTargets;
+    private int[] avoidPacked = new int[0];
 
     public Pathfinder(PathfinderConfig config, WorldPoint start, WorldPoint target) {
-        stats = new PathfinderStats();
-        this.config = config;
-        this.map = config.getMap();
-        this.start = start;
-        this.targets = Set.of(target);
-        visited = new VisitedTiles(map);
-        targetInWilderness = PathfinderConfig.isInWilderness(target);
-        wildernessLevel = 31;
+        this(config, start, Set.of(target));
     }
 
     public Pathfinder(PathfinderConfig config, WorldPoint start, Set<WorldPoint> targets) {
+        this(config, start, targets, true);
+    }
+
+    /**
+     * @param publishTeleports whether the teleports used by the search are added to {@link PathfinderConfig#getTransports()}
+     *                         when it finishes, which Rs2Walker needs to follow the path
+     */
+    Pathfinder(PathfinderConfig config, WorldPoint start, Set<WorldPoint> targets, boolean publishTeleports) {
         stats = new PathfinderStats();
         this.config = config;
-        this.map = config.getMap();
         this.start = start;
         this.targets = targets;
-        visited = new VisitedTiles(map);
+        this.targetsPacked = targets.stream().mapToInt(WorldPointUtil::packWorldPoint).toArray();
+        this.targetSet = new TargetSet(targetsPacked);
+        this.publishTeleports = publishTeleports;
+        visited = new VisitedTiles(config.getMap());
         targetInWilderness = PathfinderConfig.isInWilderness(targets);
         wildernessLevel = 31;
     }
 
+    /**
+     * Creates a search that repairs the path of a finished search after the player left it or part of it became
+     * blocked. Only a way from {@code start} back onto the next part of the path is searched for, and the rest of the
+     * path is kept. If the path can't be rejoined nearby, the search falls back to a full search for the targets.
+     *
+     * @param blocked tiles of the previous path that can no longer be walked through, e.g. a failed transport
+     */
+    public static Pathfinder repair(Pathfinder previous, WorldPoint start, Collection<WorldPoint> blocked) {
+        final Pathfinder pathfinder = new Pathfinder(previous.config, start, previous.targets, previous.publishTeleports);
+        final List<WorldPoint> path = previous.getPath();
+        if (path.isEmpty() || !previous.isDone()) {
+            return pathfinder;
+        }
+
+        // Never rejoin behind the closest tile, or before the last blocked tile
+        int from = 0;
+        for (int i = 1; i < path.size(); i++) {
+            if (path.get(i).distanceTo(start) < path.get(from).distanceTo(start)) {
+                from = i;
+            }
+        }
+        for (int i = from; i < path.size(); i++) {
+            if (blocked.contains(path.get(i))) {
+                from = i + 1;
+            }
+        }
+        if (from >= path.size()) {
+            return pathfinder;
+        }
+
+        pathfinder.rejoinPath = path.subList(from, path.size());
+        pathfinder.rejoinTargets = new TargetSet(pathfinder.rejoinPath.stream()
+                .limit(REPAIR_WINDOW)
+                .mapToInt(WorldPointUtil::packWorldPoint)
+                .toArray());
+        pathfinder.avoidPacked = blocked.stream()
+                .filter(point -> !point.equals(start))
+                .mapToInt(WorldPointUtil::packWorldPoint)
+                .toArray();
+        return pathfinder;
+    }
+
+    /**
+     * Sets whether the player is in the TOA puzzle room, for searches run on threads which mustn't read the client.
+     */
+    void setInToaPuzzleRoom(boolean inToaPuzzleRoom) {
+        this.inToaPuzzleRoom = inToaPuzzleRoom;
+        inToaPuzzleRoomKnown = true;
+    }
+
+    static boolean isPlayerInToaPuzzleRoom() {
+        // There is no client when searching headless, e.g. in the pathfinder benchmarks
+        return Microbot.getClient() != null
+                && Rs2Player.getWorldLocation().getRegionID() == TOA_PUZZLE_ROOM_REGION;
+    }
+
     public boolean isDone() {
         return done;
     }
@@ -79,41 +178,192 @@ public class Pathfinder implements Runnable {
     }
 
     public List<WorldPoint> getPath() {
-        Node lastNode = bestLastNode; // For thread safety, read bestLastNode once
-        if (lastNode == null) {
+        int lastNode = bestLastNode; // For thread safety, read bestLastNode once
+        if (lastNode == NO_NODE || lastNode == pathLastNode) {
+            return path;
+        }
+
+        List<WorldPoint> newPath = buildPath(lastNode);
+        if (newPath == null) {
             return path;
         }
+        path = newPath;
+        pathLastNode = lastNode;
+        return newPath;
+    }
+
+    private List<WorldPoint> buildPath(int lastNode) {
+        final int[] positions = nodePositions;
+        final int[] parents = nodeParents;
+        if (lastNode >= positions.length || lastNode >= parents.length) {
+            // The search finished and released its nodes after bestLastNode was read; path is final now
+            return null;
+        }
+
+        int length = 0;
+        for (int node = lastNode; node != NO_NODE; node = parents[node]) {
+            length++;
+        }
 
-        if (pathNeedsUpdate) {
-            path = lastNode.getPath();
-            pathNeedsUpdate = false;
+        WorldPoint[] points = new WorldPoint[length];
+        for (int node = lastNode; node != NO_NODE; node = parents[node]) {
+            points[--length] = WorldPointUtil.unpackWorldPoint(positions[node]);
         }
+        return new ArrayList<>(Arrays.asList(points));
+    }
 
-        return path;
+    private int addNode(int packedPosition, int parent, int cost) {
+        if (nodeCount == nodePositions.length) {
+            final int capacity = nodeCount * 2;
+            nodePositions = Arrays.copyOf(nodePositions, capacity);
+            nodeParents = Arrays.copyOf(nodeParents, capacity);
+            nodeCosts = Arrays.copyOf(nodeCosts, capacity);
+        }
+        nodePositions[nodeCount] = packedPosition;
+        nodeParents[nodeCount] = parent;
+        nodeCosts[nodeCount] = cost;
+        return nodeCount++;
     }
 
-    private void addNeighbors(Node node) {
-        List<Node> nodes = map.getNeighbors(node, visited, config, targets);
-        for (Node neighbor : nodes) {
-            if (config.avoidWilderness(node.packedPosition, neighbor.packedPosition, targetInWilderness)) {
+    private void addNeighbors(int node) {
+        final int position = nodePositions[node];
+        final int cost = nodeCosts[node];
+        final int count = map.getNeighbors(position, visited, config, targetsPacked, teleportsAt(position), inToaPuzzleRoom);
+        for (int i = 0; i < count; i++) {
+            final int neighborPosition = map.getNeighborPosition(i);
+            if (config.avoidWilderness(position, neighborPosition, targetInWilderness)) {
+                continue;
+            }
+            if (corridor != null && !corridor.get(RegionGraph.regionId(neighborPosition))) {
                 continue;
             }
 
-            visited.set(neighbor.packedPosition);
-            if (neighbor instanceof TransportNode) {
-                pending.add(neighbor);
+            visited.set(neighborPosition);
+            final int neighborCost = cost + map.getNeighborCost(i);
+            final int neighbor = addNode(neighborPosition, node, neighborCost);
+            if (map.isNeighborTransport(i)) {
+                pending.add(neighborCost, neighbor);
                 ++stats.transportsChecked;
             } else {
-                boundary.addLast(neighbor);
+                boundary.add(neighbor);
                 ++stats.nodesChecked;
             }
         }
     }
 
+    private Set<Transport> teleportsAt(int packedPosition) {
+        for (int i = 0; i < teleports.size(); i++) {
+            if (teleportPositions[i] == packedPosition) {
+                return teleports.get(i);
+            }
+        }
+        return null;
+    }
+
     @Override
     public void run() {
         stats.start();
-        boundary.addFirst(new Node(start, null));
+        map = config.getMap();
+        if (!inToaPuzzleRoomKnown) {
+            inToaPuzzleRoom = isPlayerInToaPuzzleRoom();
+        }
+
+        if (rejoinPath == null || !rejoin()) {
+            // Plan across regions first and only refine the tiles inside the chosen regions.
+            // The corridor is only a guide, so fall back to the full search if it doesn't lead to a target. A search
+            // that stopped at the cutoff keeps the closest tile it found instead, so the cutoff isn't paid twice.
+            if (config.isUseHierarchicalPathfinding()) {
+                corridor = config.getRegionGraph().findCorridor(config, WorldPointUtil.packWorldPoint(start), targets);
+            }
+
+            if (!searchTargets() && corridor != null && exhausted && !cancelled) {
+                corridor = null;
+                reset();
+                searchTargets();
+            }
+        }
+
+        if (publishTeleports && !cancelled) {
+            for (int i = 0; i < teleports.size(); i++) {
+                config.publishTeleports(teleportPositions[i], teleports.get(i));
+            }
+        }
+
+        // Keep the final path and release the node arrays, which can be large after a long search
+        path = getPath();
+        bestLastNode = NO_NODE;
+        nodePositions = new int[0];
+        nodeParents = new int[0];
+        nodeCosts = new int[0];
+
+        done = !cancelled;
+
+        stats.end(); // Include cleanup in stats to get the total cost of pathfinding
+    }
+
+    /**
+     * Searches for the targets, from both ends at once if there is a single target.
+     *
+     * @return true if a target was reached
+     */
+    private boolean searchTargets() {
+        if (config.isUseBidirectionalSearch() && targetsPacked.length == 1 && !inToaPuzzleRoom
+                && !PathfinderConfig.isInWilderness(start)) {
+            return new BidirectionalSearch().run();
+        }
+        return search(targetSet, Integer.MAX_VALUE);
+    }
+
+    private void reset() {
+        bestLastNode = NO_NODE;
+        wildernessLevel = 31;
+        teleports.clear();
+    }
+
+    /**
+     * Searches from the start back onto the previous path, and joins the rest of the previous path to it.
+     *
+     * @return true if the path was repaired
+     */
+    private boolean rejoin() {
+        if (!search(rejoinTargets, REPAIR_NODE_LIMIT)) {
+            reset();
+            return false;
+        }
+
+        final int joinedNode = bestLastNode;
+        bestLastNode = NO_NODE;
+        final List<WorldPoint> repaired = buildPath(joinedNode);
+        final WorldPoint joined = repaired.get(repaired.size() - 1);
+        repaired.addAll(rejoinPath.subList(rejoinPath.indexOf(joined) + 1, rejoinPath.size()));
+        path = repaired;
+        return true;
+    }
+
+    /**
+     * Marks the tiles a repair must avoid as visited, so no search expands into them. Searches clear the visited
+     * tiles when they end, so this is done at the start of every search, including the full search a repair falls
+     * back to.
+     */
+    private void avoid(VisitedTiles tiles) {
+        for (int tile : avoidPacked) {
+            tiles.set(tile);
+        }
+    }
+
+    /**
+     * Runs the tile search, leaving the best path found in {@link #bestLastNode}.
+     *
+     * @param goals packed tiles to search for
+     * @param nodeLimit the number of nodes after which the search gives up
+     * @return true if a goal was reached
+     */
+    private boolean search(TargetSet goals, int nodeLimit) {
+        boolean reachedTarget = false;
+        boolean stopped = false;
+        final int firstNode = nodeCount;
+        avoid(visited);
+        boundary.add(addNode(WorldPointUtil.packWorldPoint(start), NO_NODE, 0));
 
         int bestDistance = Integer.MAX_VALUE;
         long bestHeuristic = Integer.MAX_VALUE;
@@ -121,14 +371,13 @@ public class Pathfinder implements Runnable {
         long cutoffTimeMillis = System.currentTimeMillis() + cutoffDurationMillis;
 
         while (!cancelled && (!boundary.isEmpty() || !pending.isEmpty())) {
-            Node node = boundary.peekFirst();
-            Node p = pending.peek();
-            
-            if (p != null && (node == null || p.cost < node.cost)) {
+            final int node;
+            if (!pending.isEmpty() && (boundary.isEmpty() || pending.peekKey() < nodeCosts[boundary.peek()])) {
                 node = pending.poll();
             } else {
-                node = boundary.removeFirst();
+                node = boundary.poll();
             }
+            final int position = nodePositions[node];
 
             if (wildernessLevel > 0) {
                 // We don't need to remove teleports when going from 20 to 21 or higher,
@@ -139,57 +388,315 @@ public class Pathfinder implements Runnable {
 
                 // These are overlapping boundaries, so if the node isn't in level 30, it's in 0-29
                 // likewise, if the node isn't in level 20, it's in 0-19
-                if (wildernessLevel > 29 && !config.isInLevel29Wilderness(node.packedPosition)) {
+                if (wildernessLevel > 29 && !config.isInLevel29Wilderness(position)) {
                     wildernessLevel = 29;
                     update = true;
                 }
-                if (wildernessLevel > 19 && !config.isInLevel19Wilderness(node.packedPosition)) {
+                if (wildernessLevel > 19 && !config.isInLevel19Wilderness(position)) {
                     wildernessLevel = 19;
                     update = true;
                 }
-                if (wildernessLevel > 0 && !config.isInWilderness(node.packedPosition)) {
+                if (wildernessLevel > 0 && !PathfinderConfig.isInWilderness(position)) {
                     wildernessLevel = 0;
                     update = true;
                 }
                 if (update) {
-                    config.refreshTeleports(node.packedPosition, wildernessLevel);
+                    teleportPositions[teleports.size()] = position;
+                    teleports.add(config.getUsableTeleports(wildernessLevel));
                 }
             }
 
-            if (targets.contains(WorldPointUtil.unpackWorldPoint(node.packedPosition))) {
+            if (goals.contains(position)) {
                 bestLastNode = node;
-                pathNeedsUpdate = true;
+                reachedTarget = true;
                 break;
             }
 
-            for (WorldPoint target : targets) {
-                int distance = WorldPointUtil.distanceBetween(node.packedPosition, WorldPointUtil.packWorldPoint(target));
-                long heuristic = distance + (long) WorldPointUtil.distanceBetween(node.packedPosition, WorldPointUtil.packWorldPoint(target), 2);
-
-                if (heuristic < bestHeuristic || (heuristic <= bestHeuristic && distance < bestDistance)) {
-
-                    bestLastNode = node;
-                    pathNeedsUpdate = true;
-                    bestDistance = distance;
-                    bestHeuristic = heuristic;
-                    cutoffTimeMillis = System.currentTimeMillis() + cutoffDurationMillis;
-                }
+            goals.findNearest(position);
+            final int distance = goals.nearestDistance;
+            final long heuristic = goals.nearestHeuristic;
+            if (heuristic < bestHeuristic || (heuristic <= bestHeuristic && distance < bestDistance)) {
+                bestLastNode = node;
+                bestDistance = distance;
+                bestHeuristic = heuristic;
+                cutoffTimeMillis = System.currentTimeMillis() + cutoffDurationMillis;
             }
 
-            if (System.currentTimeMillis() > cutoffTimeMillis) {
+            if (System.currentTimeMillis() > cutoffTimeMillis || nodeCount - firstNode >= nodeLimit) {
+                stopped = true;
                 break;
             }
-            
+
             addNeighbors(node);
         }
 
-        done = !cancelled;
-
+        exhausted = !reachedTarget && !stopped && !cancelled;
         boundary.clear();
         visited.clear();
         pending.clear();
 
-        stats.end(); // Include cleanup in stats to get the total cost of pathfinding
+        return reachedTarget;
+    }
+
+    /**
+     * Searches from the start and backwards from the single target at the same time, always expanding the side with
+     * the smaller open set, until the two searches meet and no cheaper meeting point is possible. Each side only
+     * covers about half the distance, so far fewer tiles are expanded than when searching from the start alone.
+     * <p>
+     * If the target isn't reached, the path to the start side's tile closest to the target is kept, like
+     * {@link #search(TargetSet, int)} does. Once the target side runs out of tiles nothing else leads to the target,
+     * so only the start side keeps expanding until it finds no closer tile within the cutoff.
+     * <p>
+     * Only used when the start is outside the wilderness, where player-held teleports can only be used at the start.
+     */
+    private class BidirectionalSearch {
+        private final Frontier forward = new Frontier(visited);
+        private final Frontier backward = new Frontier(backwardVisited());
+        private final int startPacked = WorldPointUtil.packWorldPoint(start);
+        private final int targetPacked = targetsPacked[0];
+        private Set<Transport> startTeleports;
+        private int bestCost = Integer.MAX_VALUE;
+        private int bestForwardNode = NO_NODE;
+        private int bestBackwardNode = NO_NODE;
+        private int closestForwardNode = NO_NODE;
+        private int closestDistance = Integer.MAX_VALUE;
+        private long closestHeuristic = Integer.MAX_VALUE;
+        private final long cutoffDurationMillis = config.getCalculationCutoffMillis();
+        private long cutoffTimeMillis;
+
+        /**
+         * @return true if the target was reached. Either way {@link #path} holds the path that was found.
+         */
+        boolean run() {
+            startTeleports = config.getUsableTeleports(0);
+            avoid(forward.visited);
+            avoid(backward.visited);
+            forward.add(startPacked, NO_NODE, 0, false);
+            backward.add(targetPacked, NO_NODE, 0, false);
+            if (startPacked == targetPacked) {
+                bestCost = 0;
+                bestForwardNode = 0;
+                bestBackwardNode = 0;
+            }
+
+            cutoffTimeMillis = System.currentTimeMillis() + cutoffDurationMillis;
+            while (!cancelled && !forward.isEmpty()) {
+                if (System.currentTimeMillis() > cutoffTimeMillis) {
+                    break;
+                }
+
+                if (backward.isEmpty()) {
+                    // The target can't be reached unless the sides already met. Within a corridor, stop so run() can
+                    // search the whole map instead.
+                    if (bestForwardNode != NO_NODE || corridor != null) {
+                        break;
+                    }
+                    expand(forward, backward);
+                    continue;
+                }
+
+                if (bestCost != Integer.MAX_VALUE && (long) forward.minCost() + backward.minCost() >= bestCost) {
+                    break;
+                }
+                if (forward.openSize() <= backward.openSize()) {
+                    expand(forward, backward);
+                } else {
+                    expand(backward, forward);
+                }
+            }
+
+            final boolean reachedTarget = bestForwardNode != NO_NODE;
+            exhausted = !reachedTarget && !cancelled && (forward.isEmpty() || backward.isEmpty());
+            forward.visited.clear();
+            backward.visited.clear();
+            if (cancelled || (!reachedTarget && closestForwardNode == NO_NODE)) {
+                return false;
+            }
+
+            if (!startTeleports.isEmpty()) {
+                teleportPositions[teleports.size()] = startPacked;
+                teleports.add(startTeleports);
+            }
+            path = reachedTarget ? buildPath(bestForwardNode, bestBackwardNode) : buildPath(closestForwardNode, NO_NODE);
+            bestLastNode = NO_NODE;
+            return reachedTarget;
+        }
+
+        /** Keeps the start side's tile closest to the target, and restarts the cutoff whenever it gets closer */
+        private void updateClosest(int node) {
+            targetSet.findNearest(forward.positions[node]);
+            final int distance = targetSet.nearestDistance;
+            final long heuristic = targetSet.nearestHeuristic;
+            if (heuristic < closestHeuristic || (heuristic <= closestHeuristic && distance < closestDistance)) {
+                closestForwardNode = node;
+                closestDistance = distance;
+                closestHeuristic = heuristic;
+                cutoffTimeMillis = System.currentTimeMillis() + cutoffDurationMillis;
+            }
+        }
+
+        private void expand(Frontier side, Frontier other) {
+            final int node = side.poll();
+            final int position = side.positions[node];
+            final int cost = side.costs[node];
+            final boolean isForward = side == forward;
+            if (isForward) {
+                updateClosest(node);
+            }
+
+            final int count = isForward
+                    ? map.getNeighbors(position, side.visited, config, targetsPacked, position == startPacked ? startTeleports : null, false)
+                    : map.getPredecessors(position, side.visited, config);
+            for (int i = 0; i < count; i++) {
+                final int neighborPosition = map.getNeighborPosition(i);
+                if (isForward
+                        ? config.avoidWilderness(position, neighborPosition, targetInWilderness)
+                        : config.avoidWilderness(neighborPosition, position, targetInWilderness)) {
+                    continue;
+                }
+                if (corridor != null && !corridor.get(RegionGraph.regionId(neighborPosition))) {
+                    continue;
+                }
+
+                final int neighborCost = cost + map.getNeighborCost(i);
+                final boolean transport = map.isNeighborTransport(i);
+                final int neighbor = side.add(neighborPosition, node, neighborCost, transport);
+                if (transport) {
+                    ++stats.transportsChecked;
+                } else {
+                    ++stats.nodesChecked;
+                }
+
+                final int met = other.nodeAt(neighborPosition);
+                if (met != NO_NODE && neighborCost + other.costs[met] < bestCost) {
+                    bestCost = neighborCost + other.costs[met];
+                    bestForwardNode = isForward ? neighbor : met;
+                    bestBackwardNode = isForward ? met : neighbor;
+                }
+            }
+        }
+
+        private List<WorldPoint> buildPath(int forwardNode, int backwardNode) {
+            final List<WorldPoint> points = new ArrayList<>();
+            for (int node = forwardNode; node != NO_NODE; node = forward.parents[node]) {
+                points.add(WorldPointUtil.unpackWorldPoint(forward.positions[node]));
+            }
+            Collections.reverse(points);
+            if (backwardNode != NO_NODE) {
+                // The meeting tile is the last forward tile, so continue from the backward node after it
+                for (int node = backward.parents[backwardNode]; node != NO_NODE; node = backward.parents[node]) {
+                    points.add(WorldPointUtil.unpackWorldPoint(backward.positions[node]));
+                }
+            }
+            return points;
+        }
+    }
+
+    private VisitedTiles backwardVisited() {
+        if (backwardVisited == null) {
+            backwardVisited = new VisitedTiles(map);
+        }
+        return backwardVisited;
+    }
+
+    /** One side of a {@link BidirectionalSearch}, with a lookup of its nodes by tile */
+    private static class Frontier {
+        private final VisitedTiles visited;
+        private final IntRingBuffer boundary = new IntRingBuffer(4096);
+        private final IntMinHeap pending = new IntMinHeap(256);
+        private int[] positions = new int[4096];
+        private int[] parents = new int[4096];
+        private int[] costs = new int[4096];
+        private int count;
+        // Open addressing table from packed tile to node index + 1, where 0 marks an empty slot
+        private int[] tileKeys = new int[8192];
+        private int[] tileNodes = new int[8192];
+
+        Frontier(VisitedTiles visited) {
+            this.visited = visited;
+        }
+
+        boolean isEmpty() {
+            return boundary.isEmpty() && pending.isEmpty();
+        }
+
+        int openSize() {
+            return boundary.size() + pending.size();
+        }
+
+        int minCost() {
+            if (pending.isEmpty()) {
+                return costs[boundary.peek()];
+            }
+            return boundary.isEmpty() ? pending.peekKey() : Math.min(pending.peekKey(), costs[boundary.peek()]);
+        }
+
+        int poll() {
+            if (!pending.isEmpty() && (boundary.isEmpty() || pending.peekKey() < costs[boundary.peek()])) {
+                return pending.poll();
+            }
+            return boundary.poll();
+        }
+
+        int add(int position, int parent, int cost, boolean transport) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+                parents = Arrays.copyOf(parents, count * 2);
+                costs = Arrays.copyOf(costs, count * 2);
+            }
+            positions[count] = position;
+            parents[count] = parent;
+            costs[count] = cost;
+            visited.set(position);
+            if (transport) {
+                pending.add(cost, count);
+            } else {
+                boundary.add(count);
+            }
+            putTile(position, count);
+            return count++;
+        }
+
+        int nodeAt(int position) {
+            final int mask = tileKeys.length - 1;
+            for (int slot = mix(position) & mask; tileNodes[slot] != 0; slot = (slot + 1) & mask) {
+                if (tileKeys[slot] == position) {
+                    return tileNodes[slot] - 1;
+                }
+            }
+            return NO_NODE;
+        }
+
+        private void putTile(int position, int node) {
+            // Keep the table at most half full
+            if (count * 2 >= tileKeys.length) {
+                final int[] oldKeys = tileKeys;
+                final int[] oldNodes = tileNodes;
+                tileKeys = new int[oldKeys.length * 2];
+                tileNodes = new int[oldKeys.length * 2];
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldNodes[i] != 0) {
+                        insert(oldKeys[i], oldNodes[i]);
+                    }
+                }
+            }
+            insert(position, node + 1);
+        }
+
+        private void insert(int key, int value) {
+            final int mask = tileKeys.length - 1;
+            int slot = mix(key) & mask;
+            while (tileNodes[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            tileKeys[slot] = key;
+            tileNodes[slot] = value;
+        }
+
+        private static int mix(int key) {
+            final int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
     }
 
     public static class PathfinderStats {
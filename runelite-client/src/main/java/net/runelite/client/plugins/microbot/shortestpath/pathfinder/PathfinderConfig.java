@@ -46,16 +46,29 @@ public class PathfinderConfig {
     private final ThreadLocal<CollisionMap> map;
     /** All transports by origin {@link WorldPoint}. The null key is used for transports centered on the player. */
     private final Map<WorldPoint, Set<Transport>> allTransports;
+    @Getter
     @Setter
-    private Set<Transport> usableTeleports;
+    private volatile Set<Transport> usableTeleports;
     private final List<WorldPoint> filteredTargets = new ArrayList<>(4);
 
+    // The transport maps are replaced rather than modified on refresh, so searches running on other threads
+    // keep a consistent view of the maps they started with
     @Getter
-    private ConcurrentHashMap<WorldPoint, Set<Transport>> transports;
+    private volatile ConcurrentHashMap<WorldPoint, Set<Transport>> transports;
     // Copy of transports with packed positions for the hotpath; lists are not copied and are the same reference in both maps
     @Getter
     @Setter
-    private PrimitiveIntHashMap<Set<Transport>> transportsPacked;
+    private volatile PrimitiveIntHashMap<Set<Transport>> transportsPacked;
+    // Usable transports with an origin by packed destination, for searching backwards from a target
+    @Getter
+    private volatile PrimitiveIntHashMap<Set<Transport>> transportsByDestinationPacked;
+    // Hash of everything refresh() read that affects search results, used to key cached paths
+    private int refreshHash;
+    // Bumped when a refresh changes which transports can be used or which tiles are restricted, so the hash doesn't
+    // need to walk them and paths stay cached across refreshes that change neither
+    private int transportsVersion;
+    // The transports usable after the last refresh, by their position in allTransports
+    private BitSet usableTransportBits = new BitSet();
 
     private final Client client;
     private final ShortestPathConfig config;
@@ -64,6 +77,12 @@ public class PathfinderConfig {
     private long calculationCutoffMillis;
     @Getter
     private boolean avoidWilderness;
+    @Getter
+    private boolean useHierarchicalPathfinding;
+    @Getter
+    private boolean useBidirectionalSearch;
+    // Built on first use, since scanning the region borders isn't needed unless hierarchical pathfinding is enabled
+    private volatile RegionGraph regionGraph;
     private boolean useAgilityShortcuts,
             useGrappleShortcuts,
             useBoats,
@@ -90,6 +109,8 @@ public class PathfinderConfig {
     private List<Restriction> customRestrictions;
     @Getter
     private Set<Integer> restrictedPointsPacked;
+    // Sorted copy of restrictedPointsPacked for lookups in the hotpath without boxing
+    private volatile int[] restrictedPointsSorted = new int[0];
     private boolean useNpcs;
     //END microbot variables
     private TeleportationItem useTeleportationItems;
@@ -117,6 +138,7 @@ public class PathfinderConfig {
         this.usableTeleports = new HashSet<>(allTransports.size() / 20);
         this.transports = new ConcurrentHashMap<>(allTransports.size() / 2);
         this.transportsPacked = new PrimitiveIntHashMap<>(allTransports.size() / 2);
+        this.transportsByDestinationPacked = new PrimitiveIntHashMap<>(allTransports.size() / 2);
         this.client = client;
         this.config = config;
         //START microbot variables
@@ -130,9 +152,25 @@ public class PathfinderConfig {
         return map.get();
     }
 
+    public RegionGraph getRegionGraph() {
+        RegionGraph graph = regionGraph;
+        if (graph == null) {
+            synchronized (this) {
+                graph = regionGraph;
+                if (graph == null) {
+                    graph = new RegionGraph(new CollisionMap(mapData));
+                    regionGraph = graph;
+                }
+            }
+        }
+        return graph;
+    }
+
     public void refresh() {
         calculationCutoffMillis = config.calculationCutoff() * Constants.GAME_TICK_LENGTH;
         avoidWilderness = config.avoidWilderness();
+        useHierarchicalPathfinding = config.useHierarchicalPathfinding();
+        useBidirectionalSearch = config.useBidirectionalSearch();
         useAgilityShortcuts = config.useAgilityShortcuts();
         useGrappleShortcuts = config.useGrappleShortcuts();
         useBoats = config.useBoats();
@@ -172,34 +210,51 @@ public class PathfinderConfig {
             }
             //END microbot variables
         }
+
+        refreshHash = Objects.hash(calculationCutoffMillis, avoidWilderness, useHierarchicalPathfinding,
+                useBidirectionalSearch, distanceBeforeUsingTeleport, transportsVersion);
     }
 
-    /** Specialized method for only updating player-held item and spell transports */
-    public void refreshTeleports(int packedLocation, int wildernessLevel) {
-        Set<Transport> usableWildyTeleports = new HashSet<>(usableTeleports.size());
-        if (ignoreTeleportAndItems) return;
+    /**
+     * Identifies the settings, usable transports and restricted tiles of the last refresh, so that paths found with
+     * one configuration are not reused for another. Refreshes which change none of them keep the hash.
+     */
+    public int getConfigHash() {
+        return 31 * refreshHash + Boolean.hashCode(ignoreTeleportAndItems);
+    }
+
+    /** Player-held item and spell teleports that can be used at the given wilderness level */
+    public Set<Transport> getUsableTeleports(int wildernessLevel) {
+        if (ignoreTeleportAndItems) {
+            return Collections.emptySet();
+        }
 
+        Set<Transport> usableWildyTeleports = new HashSet<>(usableTeleports.size());
         for (Transport teleport : usableTeleports) {
             if (wildernessLevel <= teleport.getMaxWildernessLevel()) {
                 usableWildyTeleports.add(teleport);
             }
         }
+        return usableWildyTeleports;
+    }
 
-        if (!usableWildyTeleports.isEmpty()) {
-            // Added extra code to check if the key already exists
-            // if the key already exists we append instead of overwriting
-            // The issue was that the transport list would contain a transport object on the same
-            // tile as the player, this would then be overwritten by the usableWildyTeleports
-            // therefor losing the original transport object
-            WorldPoint key = WorldPointUtil.unpackWorldPoint(packedLocation);
-            Set<Transport> existingTeleports = transports.get(key);
-            if (existingTeleports != null) {
-                existingTeleports.addAll(usableWildyTeleports);
-            } else {
-                transports.put(key, usableWildyTeleports);
-            }
-            transportsPacked.put(packedLocation, usableWildyTeleports);
+    /**
+     * Adds teleports a search used at the given location to {@link #getTransports()}, so that Rs2Walker and the
+     * overlays can find them on the path.
+     */
+    public void publishTeleports(int packedLocation, Set<Transport> teleports) {
+        if (teleports.isEmpty()) {
+            return;
         }
+
+        // The transport list may already contain a transport object on the same tile as the player,
+        // so append instead of overwriting. The set is copied because other threads may be iterating it.
+        WorldPoint key = WorldPointUtil.unpackWorldPoint(packedLocation);
+        transports.merge(key, teleports, (existing, added) -> {
+            Set<Transport> merged = new HashSet<>(existing);
+            merged.addAll(added);
+            return merged;
+        });
     }
 
     public void filterLocations(Set<WorldPoint> locations, boolean canReviveFiltered) {
@@ -233,9 +288,11 @@ public class PathfinderConfig {
         useSpiritTrees &= QuestState.FINISHED.equals(Rs2Player.getQuestState(Quest.TREE_GNOME_VILLAGE));
         useQuetzals &= QuestState.FINISHED.equals(Rs2Player.getQuestState(Quest.TWILIGHTS_PROMISE));
 
-        transports.clear();
-        transportsPacked.clear();
-        usableTeleports.clear();
+        ConcurrentHashMap<WorldPoint, Set<Transport>> transports = new ConcurrentHashMap<>(allTransports.size() / 2);
+        PrimitiveIntHashMap<Set<Transport>> transportsPacked = new PrimitiveIntHashMap<>(allTransports.size() / 2);
+        PrimitiveIntHashMap<Set<Transport>> transportsByDestinationPacked = new PrimitiveIntHashMap<>(allTransports.size() / 2);
+        Set<Transport> usableTeleports = new HashSet<>(allTransports.size() / 20);
+        BitSet usableTransportBits = new BitSet();
          Microbot.getClientThread().runOnClientThreadOptional(() -> {
             for (Map.Entry<WorldPoint, Set<Transport>> entry : allTransports.entrySet()) {
                 for (Transport transport : entry.getValue()) {
@@ -264,14 +321,20 @@ public class PathfinderConfig {
             return true;
         });
 
+        int transportIndex = 0;
         for (Map.Entry<WorldPoint, Set<Transport>> entry : allTransports.entrySet()) {
             WorldPoint point = entry.getKey();
             Set<Transport> usableTransports = new HashSet<>(entry.getValue().size());
             for (Transport transport : entry.getValue()) {
+                if (!useTransport(transport)) {
+                    transportIndex++;
+                    continue;
+                }
 
-                if (point == null && useTransport(transport)) {
+                usableTransportBits.set(transportIndex++);
+                if (point == null) {
                     usableTeleports.add(transport);
-                } else if (useTransport(transport)) {
+                } else {
                     usableTransports.add(transport);
                 }
             }
@@ -279,8 +342,26 @@ public class PathfinderConfig {
             if (point != null && !usableTransports.isEmpty()) {
                 transports.put(point, usableTransports);
                 transportsPacked.put(WorldPointUtil.packWorldPoint(point), usableTransports);
+                for (Transport transport : usableTransports) {
+                    final int destination = WorldPointUtil.packWorldPoint(transport.getDestination());
+                    Set<Transport> arriving = transportsByDestinationPacked.get(destination);
+                    if (arriving == null) {
+                        arriving = new HashSet<>(2);
+                        transportsByDestinationPacked.put(destination, arriving);
+                    }
+                    arriving.add(transport);
+                }
             }
         }
+
+        this.transports = transports;
+        this.transportsPacked = transportsPacked;
+        this.transportsByDestinationPacked = transportsByDestinationPacked;
+        this.usableTeleports = usableTeleports;
+        if (!usableTransportBits.equals(this.usableTransportBits)) {
+            this.usableTransportBits = usableTransportBits;
+            transportsVersion++;
+        }
     }
 
     private void refreshRestrictionData() {
@@ -390,6 +471,16 @@ public class PathfinderConfig {
                 restrictedPointsPacked.add(entry.getPackedWorldPoint());
             }
         }
+
+        final int[] restrictedPointsSorted = restrictedPointsPacked.stream().mapToInt(Integer::intValue).sorted().toArray();
+        if (!Arrays.equals(restrictedPointsSorted, this.restrictedPointsSorted)) {
+            this.restrictedPointsSorted = restrictedPointsSorted;
+            transportsVersion++;
+        }
+    }
+
+    public boolean isRestricted(int packedPoint) {
+        return Arrays.binarySearch(restrictedPointsSorted, packedPoint) >= 0;
     }
 
     public static boolean isInWilderness(WorldPoint p) {
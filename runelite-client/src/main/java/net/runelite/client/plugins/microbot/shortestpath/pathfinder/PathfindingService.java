@@ -0,0 +1,145 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.coords.WorldPoint;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs independent path queries in parallel, e.g. the walking distance to several banks or npcs.
+ * <p>
+ * The collision map is shared and read-only; every query gets its own {@link Pathfinder} with its own visited tiles
+ * and node arrays, and each pool thread has its own {@link CollisionMap} scratch buffers. Queries don't add the
+ * teleports they use to the shared transport maps, so they never interfere with the path Rs2Walker is following.
+ * <p>
+ * Results are cached by start, targets and {@link PathfinderConfig#getConfigHash()}, so repeating a query with the
+ * same settings and usable transports returns the same future. Client state a search needs is read by the caller, so
+ * pool threads never touch the client.
+ */
+@Slf4j
+public class PathfindingService {
+    private static final int CACHE_SIZE = 512;
+    private static final long CACHE_EXPIRY_SECONDS = 60;
+
+    private final PathfinderConfig config;
+    private final ExecutorService executor;
+    private final Cache<Query, CompletableFuture<List<WorldPoint>>> results = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .expireAfterWrite(CACHE_EXPIRY_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    public PathfindingService(PathfinderConfig config) {
+        this(config, Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    public PathfindingService(PathfinderConfig config, int threads) {
+        this.config = config;
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("pathfinding-service-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * Finds the path from start to the closest of the targets.
+     *
+     * @return the path, which ends at the tile closest to the targets if none of them could be reached.
+     * The list is shared with other callers of the same query and can't be modified.
+     */
+    public CompletableFuture<List<WorldPoint>> findPath(WorldPoint start, Set<WorldPoint> targets) {
+        final Set<WorldPoint> ends = Set.copyOf(targets);
+        final boolean inToaPuzzleRoom = Pathfinder.isPlayerInToaPuzzleRoom();
+        final Query query = new Query(start, ends, config.getConfigHash(), inToaPuzzleRoom);
+
+        CompletableFuture<List<WorldPoint>> result = results.asMap().computeIfAbsent(query, q ->
+                CompletableFuture.supplyAsync(() -> search(start, ends, inToaPuzzleRoom), executor));
+
+        // Failed queries are not cached, so they can be retried
+        result.whenComplete((path, ex) -> {
+            if (ex != null) {
+                results.asMap().remove(query, result);
+            }
+        });
+        return result;
+    }
+
+    public CompletableFuture<List<WorldPoint>> findPath(WorldPoint start, WorldPoint target) {
+        return findPath(start, Set.of(target));
+    }
+
+    /**
+     * Gets the number of tiles on the path from start to target.
+     *
+     * @return the number of tiles, or {@link Integer#MAX_VALUE} if the target can't be reached
+     */
+    public CompletableFuture<Integer> getDistance(WorldPoint start, WorldPoint target) {
+        return findPath(start, target).thenApply(path -> reaches(path, target) ? path.size() : Integer.MAX_VALUE);
+    }
+
+    /**
+     * Sorts items by the walking distance from start to their location. All paths are searched in parallel and items
+     * that can't be reached are left out.
+     */
+    public <T> CompletableFuture<List<T>> sortByDistance(WorldPoint start, Collection<T> items, Function<? super T, WorldPoint> location) {
+        final List<T> candidates = new ArrayList<>(items);
+        final List<CompletableFuture<Integer>> distances = candidates.stream()
+                .map(item -> getDistance(start, location.apply(item)))
+                .collect(Collectors.toList());
+
+        return CompletableFuture.allOf(distances.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            final Map<T, Integer> distanceByItem = new IdentityHashMap<>(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                distanceByItem.put(candidates.get(i), distances.get(i).join());
+            }
+            return candidates.stream()
+                    .filter(item -> distanceByItem.get(item) != Integer.MAX_VALUE)
+                    .sorted(Comparator.comparingInt(distanceByItem::get))
+                    .collect(Collectors.toList());
+        });
+    }
+
+    /** Drops all cached paths, e.g. after a door or other obstacle changed */
+    public void invalidate() {
+        results.invalidateAll();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+        results.invalidateAll();
+    }
+
+    private List<WorldPoint> search(WorldPoint start, Set<WorldPoint> targets, boolean inToaPuzzleRoom) {
+        final Pathfinder pathfinder = new Pathfinder(config, start, targets, false);
+        pathfinder.setInToaPuzzleRoom(inToaPuzzleRoom);
+        pathfinder.run();
+
+        final Pathfinder.PathfinderStats stats = pathfinder.getStats();
+        if (stats != null) {
+            log.debug("Path query from {} to {} targets checked {} nodes in {} ms", start, targets.size(),
+                    stats.getTotalNodesChecked(), TimeUnit.NANOSECONDS.toMillis(stats.getElapsedTimeNanos()));
+        }
+        return Collections.unmodifiableList(pathfinder.getPath());
+    }
+
+    private static boolean reaches(List<WorldPoint> path, WorldPoint target) {
+        return !path.isEmpty() && path.get(path.size() - 1).equals(target);
+    }
+
+    @Value
+    private static class Query {
+        WorldPoint start;
+        Set<WorldPoint> targets;
+        int configHash;
+        boolean inToaPuzzleRoom;
+    }
+}
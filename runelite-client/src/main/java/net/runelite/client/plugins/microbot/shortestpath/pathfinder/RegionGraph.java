@@ -0,0 +1,430 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.PrimitiveIntHashMap;
+import net.runelite.client.plugins.microbot.shortestpath.Transport;
+import net.runelite.client.plugins.microbot.shortestpath.TransportType;
+import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static net.runelite.api.Constants.REGION_SIZE;
+
+/**
+ * Abstract graph over the collision map used for hierarchical pathfinding.
+ * <p>
+ * Region borders are scanned once for entrances, which are the walkable crossings between two neighbouring regions.
+ * Walking costs within a region are computed lazily with a breadth-first search bounded by the region and cached,
+ * since they only depend on the static collision map. Transports are read from the {@link PathfinderConfig} on every
+ * query, so the abstract graph always matches the transports made available by {@link PathfinderConfig#refresh()}.
+ * <p>
+ * A query returns the corridor of regions the abstract path passes through. The tile pathfinder is then only allowed
+ * to expand tiles inside that corridor.
+ */
+public class RegionGraph {
+    // Enum.values() makes copies every time which hurts performance in the hotpath
+    private static final OrdinalDirection[] ORDINAL_VALUES = OrdinalDirection.values();
+    private static final int REGION_TILES = REGION_SIZE * REGION_SIZE;
+    // Long open borders get several entrances so the abstract path doesn't detour to the middle of the border
+    private static final int MAX_ENTRANCE_WIDTH = 16;
+    // Every distance field is REGION_TILES shorts, so this caps the cache at roughly 8 MB
+    private static final int MAX_CACHED_FIELDS = 1024;
+    private static final int[] NO_TILES = new int[0];
+
+    private final CollisionMap map;
+    /** Entrance tiles keyed by {@link #regionKey(int, int, int)} */
+    private final PrimitiveIntHashMap<int[]> entrances;
+    /** Tiles across the region border keyed by packed entrance tile */
+    private final PrimitiveIntHashMap<int[]> crossings;
+    private final Map<Integer, short[]> distanceFields = new ConcurrentHashMap<>();
+
+    public RegionGraph(CollisionMap map) {
+        this.map = map;
+        this.entrances = new PrimitiveIntHashMap<>(4096);
+        this.crossings = new PrimitiveIntHashMap<>(16384);
+        findEntrances();
+    }
+
+    /**
+     * Searches the abstract graph from {@code start} to the nearest of {@code targets}.
+     *
+     * @return the region ids the abstract path passes through, or null if no abstract path was found
+     */
+    public BitSet findCorridor(PathfinderConfig config, int start, Set<WorldPoint> targets) {
+        final int[] targetsPacked = new int[targets.size()];
+        final PrimitiveIntHashMap<int[]> interesting = new PrimitiveIntHashMap<>(1024);
+        int targetCount = 0;
+        for (WorldPoint target : targets) {
+            int packed = WorldPointUtil.packWorldPoint(target);
+            targetsPacked[targetCount++] = packed;
+            addTile(interesting, packed);
+        }
+        Arrays.sort(targetsPacked);
+        for (WorldPoint origin : config.getTransports().keySet()) {
+            addTile(interesting, WorldPointUtil.packWorldPoint(origin));
+        }
+
+        final SearchNodes nodes = new SearchNodes();
+        nodes.push(nodes.add(start), 0);
+
+        int found = -1;
+        while (!nodes.isEmpty()) {
+            final long entry = nodes.poll();
+            final int cost = (int) (entry >>> 32);
+            final int node = (int) entry;
+            if (nodes.costs[node] < cost) {
+                continue;
+            }
+            final int packed = nodes.tiles[node];
+            if (Arrays.binarySearch(targetsPacked, packed) >= 0) {
+                found = node;
+                break;
+            }
+
+            final int x = WorldPointUtil.unpackWorldX(packed);
+            final int y = WorldPointUtil.unpackWorldY(packed);
+            final int z = WorldPointUtil.unpackWorldPlane(packed);
+            final int regionKey = regionKey(x / REGION_SIZE, y / REGION_SIZE, z);
+            final short[] field = getDistanceField(packed);
+
+            for (int tile : entrances.getOrDefault(regionKey, NO_TILES)) {
+                relax(nodes, node, tile, cost, distanceTo(field, tile));
+            }
+            for (int tile : interesting.getOrDefault(regionKey, NO_TILES)) {
+                relax(nodes, node, tile, cost, distanceTo(field, tile));
+            }
+            for (int tile : crossings.getOrDefault(packed, NO_TILES)) {
+                relax(nodes, node, tile, cost, 1);
+            }
+
+            @SuppressWarnings("unchecked") // Casting EMPTY_SET is safe here
+            Set<Transport> transports = config.getTransportsPacked().getOrDefault(packed, (Set<Transport>) Collections.EMPTY_SET);
+            for (Transport transport : transports) {
+                relax(nodes, node, WorldPointUtil.packWorldPoint(transport.getDestination()), cost, transportCost(config, transport));
+            }
+            if (packed == start) {
+                for (Transport teleport : config.getUsableTeleports(wildernessLevel(config, start))) {
+                    relax(nodes, node, WorldPointUtil.packWorldPoint(teleport.getDestination()), cost, transportCost(config, teleport));
+                }
+            }
+        }
+
+        if (found < 0) {
+            return null;
+        }
+
+        BitSet corridor = new BitSet(1 << 16);
+        for (int node = found; node >= 0; node = nodes.parents[node]) {
+            corridor.set(regionId(nodes.tiles[node]));
+        }
+        return corridor;
+    }
+
+    public static int regionId(int packedPoint) {
+        return ((WorldPointUtil.unpackWorldX(packedPoint) >> 6) << 8) | (WorldPointUtil.unpackWorldY(packedPoint) >> 6);
+    }
+
+    private static void relax(SearchNodes nodes, int from, int to, int cost, int edgeCost) {
+        if (edgeCost < 0 || to == nodes.tiles[from]) {
+            return;
+        }
+        final int newCost = cost + edgeCost;
+        int node = nodes.indexOf(to);
+        if (node < 0) {
+            node = nodes.add(to);
+        }
+        if (newCost < nodes.costs[node]) {
+            nodes.parents[node] = from;
+            nodes.push(node, newCost);
+        }
+    }
+
+    // Mirrors the transport costs used by CollisionMap.getNeighbors
+    private static int transportCost(PathfinderConfig config, Transport transport) {
+        if (TransportType.isTeleport(transport.getType())) {
+            return config.isIgnoreTeleportAndItems() ? -1 : config.getDistanceBeforeUsingTeleport() + transport.getDuration();
+        }
+        return transport.getDuration();
+    }
+
+    // Mirrors the wilderness level used by Pathfinder when teleports are first added at the start
+    private static int wildernessLevel(PathfinderConfig config, int packedPoint) {
+        if (!PathfinderConfig.isInWilderness(packedPoint)) {
+            return 0;
+        }
+        if (!config.isInLevel19Wilderness(packedPoint)) {
+            return 19;
+        }
+        if (!config.isInLevel29Wilderness(packedPoint)) {
+            return 29;
+        }
+        return 31;
+    }
+
+    /**
+     * Walking distance from the field origin to {@code packedPoint}, or -1 if it can't be reached within the region.
+     * Blocked tiles such as fairy rings and bank booths are reached through their closest walkable neighbour.
+     */
+    private static int distanceTo(short[] field, int packedPoint) {
+        final int lx = WorldPointUtil.unpackWorldX(packedPoint) % REGION_SIZE;
+        final int ly = WorldPointUtil.unpackWorldY(packedPoint) % REGION_SIZE;
+        int distance = field[lx + ly * REGION_SIZE];
+        if (distance >= 0) {
+            return distance;
+        }
+
+        for (OrdinalDirection d : ORDINAL_VALUES) {
+            final int nx = lx + d.x;
+            final int ny = ly + d.y;
+            if (nx < 0 || ny < 0 || nx >= REGION_SIZE || ny >= REGION_SIZE) {
+                continue;
+            }
+            final int neighbor = field[nx + ny * REGION_SIZE];
+            if (neighbor >= 0 && (distance < 0 || neighbor + 1 < distance)) {
+                distance = neighbor + 1;
+            }
+        }
+        return distance;
+    }
+
+    /** Breadth-first walking distances from {@code packedPoint} to every tile in its region, -1 when unreachable */
+    private short[] getDistanceField(int packedPoint) {
+        short[] field = distanceFields.get(packedPoint);
+        if (field != null) {
+            return field;
+        }
+
+        final int x = WorldPointUtil.unpackWorldX(packedPoint);
+        final int y = WorldPointUtil.unpackWorldY(packedPoint);
+        final int z = WorldPointUtil.unpackWorldPlane(packedPoint);
+        final int baseX = x - x % REGION_SIZE;
+        final int baseY = y - y % REGION_SIZE;
+
+        field = new short[REGION_TILES];
+        Arrays.fill(field, (short) -1);
+        final int[] queue = new int[REGION_TILES];
+        final boolean[] traversable = new boolean[ORDINAL_VALUES.length];
+        int head = 0;
+        int tail = 0;
+
+        final int origin = (x - baseX) + (y - baseY) * REGION_SIZE;
+        field[origin] = 0;
+        queue[tail++] = origin;
+        while (head < tail) {
+            final int index = queue[head++];
+            final int lx = index % REGION_SIZE;
+            final int ly = index / REGION_SIZE;
+            map.traversable(baseX + lx, baseY + ly, z, traversable);
+            for (int i = 0; i < traversable.length; i++) {
+                if (!traversable[i]) {
+                    continue;
+                }
+                final int nx = lx + ORDINAL_VALUES[i].x;
+                final int ny = ly + ORDINAL_VALUES[i].y;
+                if (nx < 0 || ny < 0 || nx >= REGION_SIZE || ny >= REGION_SIZE) {
+                    continue;
+                }
+                final int neighbor = nx + ny * REGION_SIZE;
+                if (field[neighbor] < 0) {
+                    field[neighbor] = (short) (field[index] + 1);
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        if (distanceFields.size() >= MAX_CACHED_FIELDS) {
+            distanceFields.clear();
+        }
+        distanceFields.put(packedPoint, field);
+        return field;
+    }
+
+    private void findEntrances() {
+        final SplitFlagMap.RegionExtent extents = SplitFlagMap.getRegionExtents();
+        final byte[] planes = map.getPlanes();
+        final int widthInclusive = extents.getWidth() + 1;
+
+        for (int regionY = extents.getMinY(); regionY <= extents.getMaxY(); regionY++) {
+            for (int regionX = extents.getMinX(); regionX <= extents.getMaxX(); regionX++) {
+                final int planeCount = planes[(regionX - extents.getMinX()) + (regionY - extents.getMinY()) * widthInclusive];
+                for (int z = 0; z < planeCount; z++) {
+                    // Only scan the east and north borders; the west and south ones belong to the neighbouring regions
+                    findBorderEntrances(regionX * REGION_SIZE + REGION_SIZE - 1, regionY * REGION_SIZE, z, true);
+                    findBorderEntrances(regionX * REGION_SIZE, regionY * REGION_SIZE + REGION_SIZE - 1, z, false);
+                }
+            }
+        }
+    }
+
+    private void findBorderEntrances(int startX, int startY, int z, boolean east) {
+        int runStart = -1;
+        for (int i = 0; i <= REGION_SIZE; i++) {
+            final int x = east ? startX : startX + i;
+            final int y = east ? startY + i : startY;
+            final boolean open = i < REGION_SIZE && (east ? map.e(x, y, z) : map.n(x, y, z));
+            if (open) {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+                continue;
+            }
+            if (runStart < 0) {
+                continue;
+            }
+
+            for (int chunk = runStart; chunk < i; chunk += MAX_ENTRANCE_WIDTH) {
+                final int middle = (chunk + Math.min(i, chunk + MAX_ENTRANCE_WIDTH) - 1) / 2;
+                final int ex = east ? startX : startX + middle;
+                final int ey = east ? startY + middle : startY;
+                final int inside = WorldPointUtil.packWorldPoint(ex, ey, z);
+                final int outside = east
+                        ? WorldPointUtil.packWorldPoint(ex + 1, ey, z)
+                        : WorldPointUtil.packWorldPoint(ex, ey + 1, z);
+                addEntrance(inside, outside);
+                addEntrance(outside, inside);
+            }
+            runStart = -1;
+        }
+    }
+
+    private void addEntrance(int from, int to) {
+        addTile(entrances, from);
+        crossings.put(from, append(crossings.get(from), to));
+    }
+
+    private static void addTile(PrimitiveIntHashMap<int[]> tilesByRegion, int packedPoint) {
+        final int key = regionKey(
+                WorldPointUtil.unpackWorldX(packedPoint) / REGION_SIZE,
+                WorldPointUtil.unpackWorldY(packedPoint) / REGION_SIZE,
+                WorldPointUtil.unpackWorldPlane(packedPoint));
+        tilesByRegion.put(key, append(tilesByRegion.get(key), packedPoint));
+    }
+
+    private static int[] append(int[] tiles, int tile) {
+        if (tiles == null) {
+            return new int[]{tile};
+        }
+        for (int existing : tiles) {
+            if (existing == tile) {
+                return tiles;
+            }
+        }
+        int[] result = Arrays.copyOf(tiles, tiles.length + 1);
+        result[tiles.length] = tile;
+        return result;
+    }
+
+    private static int regionKey(int regionX, int regionY, int plane) {
+        return WorldPointUtil.packWorldPoint(regionX, regionY, plane);
+    }
+
+    /**
+     * Nodes of a single abstract search, numbered in the order they're first reached. Costs, parents and the open
+     * queue are primitive arrays indexed by node, so the search doesn't box a key for every relaxed edge.
+     */
+    private static final class SearchNodes {
+        /** Open addressing table of node + 1 by packed tile, 0 for empty slots */
+        private int[] slots = new int[1024];
+        private int[] tiles = new int[256];
+        private int[] costs = new int[256];
+        private int[] parents = new int[256];
+        private int size;
+        /** Binary min-heap of cost in the high and node in the low 32 bits */
+        private long[] heap = new long[256];
+        private int heapSize;
+
+        int indexOf(int tile) {
+            final int mask = slots.length - 1;
+            for (int slot = hash(tile) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+                final int node = slots[slot] - 1;
+                if (tiles[node] == tile) {
+                    return node;
+                }
+            }
+            return -1;
+        }
+
+        int add(int tile) {
+            if (size == tiles.length) {
+                tiles = Arrays.copyOf(tiles, size * 2);
+                costs = Arrays.copyOf(costs, size * 2);
+                parents = Arrays.copyOf(parents, size * 2);
+            }
+            if (size * 2 >= slots.length) {
+                rehash(slots.length * 2);
+            }
+            final int node = size++;
+            tiles[node] = tile;
+            costs[node] = Integer.MAX_VALUE;
+            parents[node] = -1;
+            insert(tile, node);
+            return node;
+        }
+
+        void push(int node, int cost) {
+            costs[node] = cost;
+            if (heapSize == heap.length) {
+                heap = Arrays.copyOf(heap, heapSize * 2);
+            }
+            final long entry = ((long) cost << 32) | node;
+            int i = heapSize++;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (heap[parent] <= entry) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = entry;
+        }
+
+        boolean isEmpty() {
+            return heapSize == 0;
+        }
+
+        long poll() {
+            final long top = heap[0];
+            final long last = heap[--heapSize];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (last <= heap[child]) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+
+        private void rehash(int capacity) {
+            slots = new int[capacity];
+            for (int node = 0; node < size; node++) {
+                insert(tiles[node], node);
+            }
+        }
+
+        private void insert(int tile, int node) {
+            final int mask = slots.length - 1;
+            int slot = hash(tile) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = node + 1;
+        }
+
+        private static int hash(int tile) {
+            final int h = tile * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -2,71 +2,98 @@ package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
 import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
 import net.runelite.client.plugins.microbot.shortestpath.Util;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import static net.runelite.api.Constants.REGION_SIZE;
 
+/**
+ * Collision map for the whole world, stored as 2 bits (north and east) per tile per plane.
+ * <p>
+ * The regions from {@code collision-map.zip} are flattened once into a file in the RuneLite cache directory, which is
+ * then memory-mapped. Every client on the host shares the same pages of that file instead of inflating the zip into
+ * its own heap on each start. If the file can't be written the flattened map is kept on the heap instead.
+ * <p>
+ * File layout, big-endian:
+ * <pre>
+ * int magic, int version, int crc of collision-map.zip
+ * int minX, int minY, int maxX, int maxY     region extents
+ * int[regions] offset                        byte offset of each region's flags, or -1 if there is no data
+ * byte[regions] planeCount
+ * byte[] flags                               planeCount * REGION_SIZE * REGION_SIZE * 2 bits per region
+ * </pre>
+ */
+@Slf4j
 public class SplitFlagMap {
+    private static final int MAGIC = 0x434F4C4D; // COLM
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 7 * Integer.BYTES;
+    private static final int FLAG_COUNT = 2;
+    private static final int REGION_BYTES_PER_PLANE = REGION_SIZE * REGION_SIZE * FLAG_COUNT / Byte.SIZE;
+    private static final File COLLISION_MAP_FILE = new File(new File(RuneLite.CACHE_DIR, "shortestpath"), "collision-map.dat");
+
     @Getter
     private static RegionExtent regionExtents;
 
     @Getter
     private final byte[] regionMapPlaneCounts;
     // Size is automatically chosen based on the max extents of the collision data
-    private final FlagMap[] regionMaps;
+    private final int[] regionOffsets;
+    // Only absolute gets are used, which makes sharing the buffer between pathfinding threads safe
+    private final ByteBuffer flags;
     private final int widthInclusive;
 
-    public SplitFlagMap(Map<Integer, byte[]> compressedRegions) {
+    private SplitFlagMap(ByteBuffer buffer) {
         widthInclusive = regionExtents.getWidth() + 1;
         final int heightInclusive = regionExtents.getHeight() + 1;
-        regionMaps = new FlagMap[widthInclusive * heightInclusive];
-        regionMapPlaneCounts = new byte[regionMaps.length];
-
-        for (Map.Entry<Integer, byte[]> entry : compressedRegions.entrySet()) {
-            final int pos = entry.getKey();
-            final int x = unpackX(pos);
-            final int y = unpackY(pos);
-            final int index = getIndex(x, y);
-            FlagMap flagMap = new FlagMap(x * REGION_SIZE, y * REGION_SIZE, entry.getValue());
-            regionMaps[index] = flagMap;
-            regionMapPlaneCounts[index] = flagMap.getPlaneCount();
-        }
+        final int regionCount = widthInclusive * heightInclusive;
+        regionOffsets = new int[regionCount];
+        regionMapPlaneCounts = new byte[regionCount];
+
+        buffer.position(HEADER_SIZE);
+        buffer.asIntBuffer().get(regionOffsets);
+        buffer.position(HEADER_SIZE + regionCount * Integer.BYTES);
+        buffer.get(regionMapPlaneCounts);
+        buffer.position(0);
+        flags = buffer;
     }
 
     public boolean get(int x, int y, int z, int flag) {
-        final int index = getIndex(x / REGION_SIZE, y / REGION_SIZE);
-        if (index < 0 || index >= regionMaps.length || regionMaps[index] == null) {
+        final int regionX = x / REGION_SIZE;
+        final int regionY = y / REGION_SIZE;
+        final int index = getIndex(regionX, regionY);
+        if (index < 0 || index >= regionOffsets.length || regionOffsets[index] < 0) {
             return false;
         }
 
-   /*     try {
-            if (Rs2Player.getWorldLocation().getRegionID() == 14162) { //toa puzzle room
-                WorldPoint globalWorldPoint = Rs2WorldPoint.convertInstancedWorldPoint(new WorldPoint(x, y, z));
-                if (globalWorldPoint == null) {
-                    Microbot.log("Something went wrong.");
-                } else {
-                    TileObject go = Rs2GameObject.findGroundObjectByLocation(globalWorldPoint);
-                    if (go != null && go.getId() == 45340) {
-                        //System.out.println("found a tile " + globalWorldPoint);
-                        return false;
-                    }
-                }
-            }
-        } catch(Exception ex) {
-            Microbot.log("oops something went wrong");
-        }*/
-
-
+        final int localX = x - regionX * REGION_SIZE;
+        final int localY = y - regionY * REGION_SIZE;
+        if (localX < 0 || localY < 0 || z < 0 || z >= regionMapPlaneCounts[index]) {
+            return false;
+        }
 
-        return regionMaps[index].get(x, y, z, flag);
+        final int bit = (z * REGION_SIZE * REGION_SIZE + localY * REGION_SIZE + localX) * FLAG_COUNT + flag;
+        return (flags.get(regionOffsets[index] + (bit >>> 3)) & (1 << (bit & 7))) != 0;
     }
 
     private int getIndex(int regionX, int regionY) {
@@ -86,13 +113,92 @@ public class SplitFlagMap {
     }
 
     public static SplitFlagMap fromResources() {
-        Map<Integer, byte[]> compressedRegions = new HashMap<>();
-        try (ZipInputStream in = new ZipInputStream(ShortestPathPlugin.class.getResourceAsStream("collision-map.zip"))) {
-            int minX = Integer.MAX_VALUE;
-            int minY = Integer.MAX_VALUE;
-            int maxX = 0;
-            int maxY = 0;
+        return fromResources(COLLISION_MAP_FILE);
+    }
+
+    /**
+     * @param collisionMapFile where the flattened collision map is kept, e.g. a temporary folder in tests
+     */
+    static SplitFlagMap fromResources(File collisionMapFile) {
+        final byte[] zip;
+        try (InputStream in = ShortestPathPlugin.class.getResourceAsStream("collision-map.zip")) {
+            zip = Util.readAllBytes(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final CRC32 crc = new CRC32();
+        crc.update(zip);
+        final int zipCrc = (int) crc.getValue();
+
+        ByteBuffer buffer = mapCollisionFile(collisionMapFile, zipCrc);
+        if (buffer == null) {
+            final byte[] flattened = flatten(zip, zipCrc);
+            buffer = writeCollisionFile(collisionMapFile, flattened);
+            if (buffer == null) {
+                buffer = ByteBuffer.wrap(flattened);
+            }
+        }
 
+        regionExtents = new RegionExtent(buffer.getInt(12), buffer.getInt(16), buffer.getInt(20), buffer.getInt(24));
+        return new SplitFlagMap(buffer);
+    }
+
+    /** Maps the flattened collision file, or returns null if it is missing or was built from another collision map */
+    private static ByteBuffer mapCollisionFile(File collisionMapFile, int zipCrc) {
+        if (!collisionMapFile.isFile()) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(collisionMapFile.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != zipCrc) {
+                log.debug("Collision map file {} is outdated", collisionMapFile);
+                return null;
+            }
+            return buffer;
+        } catch (IOException e) {
+            log.warn("Unable to map collision map file {}", collisionMapFile, e);
+            return null;
+        }
+    }
+
+    /** Writes the flattened collision map and maps it, or returns null if the file couldn't be written */
+    private static ByteBuffer writeCollisionFile(File collisionMapFile, byte[] flattened) {
+        try {
+            Path directory = collisionMapFile.getParentFile().toPath();
+            Files.createDirectories(directory);
+            // Several clients may start at once, so write to a temporary file and atomically swap it in
+            Path temp = Files.createTempFile(directory, "collision-map", ".tmp");
+            try {
+                Files.write(temp, flattened);
+                Files.move(temp, collisionMapFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("Unable to write collision map file {}", collisionMapFile, e);
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(collisionMapFile.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            log.warn("Unable to map collision map file {}", collisionMapFile, e);
+            return null;
+        }
+    }
+
+    /** Inflates every region of collision-map.zip into the flat file layout */
+    private static byte[] flatten(byte[] zip, int zipCrc) {
+        final List<int[]> positions = new ArrayList<>();
+        final List<byte[]> regions = new ArrayList<>();
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = 0;
+        int maxY = 0;
+
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
             ZipEntry entry;
             while ((entry = in.getNextEntry()) != null) {
                 String[] n = entry.getName().split("_");
@@ -103,15 +209,49 @@ public class SplitFlagMap {
                 maxX = Math.max(maxX, x);
                 maxY = Math.max(maxY, y);
 
-                compressedRegions.put(SplitFlagMap.packPosition(x, y), Util.readAllBytes(in));
+                positions.add(new int[]{x, y});
+                regions.add(Util.readAllBytes(in));
             }
-
-            regionExtents = new RegionExtent(minX, minY, maxX, maxY);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
 
-        return new SplitFlagMap(compressedRegions);
+        final int widthInclusive = maxX - minX + 1;
+        final int regionCount = widthInclusive * (maxY - minY + 1);
+        final int[] offsets = new int[regionCount];
+        final byte[] planeCounts = new byte[regionCount];
+        Arrays.fill(offsets, -1);
+
+        int size = HEADER_SIZE + regionCount * (Integer.BYTES + 1);
+        for (int i = 0; i < regions.size(); i++) {
+            final int index = (positions.get(i)[0] - minX) + (positions.get(i)[1] - minY) * widthInclusive;
+            final byte planeCount = planeCount(regions.get(i));
+            offsets[index] = size;
+            planeCounts[index] = planeCount;
+            size += planeCount * REGION_BYTES_PER_PLANE;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(zipCrc);
+        buffer.putInt(minX).putInt(minY).putInt(maxX).putInt(maxY);
+        for (int offset : offsets) {
+            buffer.putInt(offset);
+        }
+        buffer.put(planeCounts);
+        for (int i = 0; i < regions.size(); i++) {
+            final int index = (positions.get(i)[0] - minX) + (positions.get(i)[1] - minY) * widthInclusive;
+            // The regions are stored as BitSet.toByteArray(), which has the same bit order and drops trailing zeros
+            buffer.position(offsets[index]);
+            buffer.put(regions.get(i));
+        }
+        return buffer.array();
+    }
+
+    // Matches the plane count of a BitSet created from the region bytes
+    private static byte planeCount(byte[] region) {
+        final int bits = (region.length + Long.BYTES - 1) / Long.BYTES * Long.SIZE;
+        final int scale = REGION_SIZE * REGION_SIZE * FLAG_COUNT;
+        return (byte) ((bits + scale - 1) / scale);
     }
 
     @RequiredArgsConstructor
@@ -0,0 +1,144 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import net.runelite.client.plugins.microbot.shortestpath.PrimitiveIntHashMap;
+import net.runelite.client.plugins.microbot.shortestpath.WorldPointUtil;
+
+import java.util.Arrays;
+
+/**
+ * The packed target tiles of a search, with membership tests and nearest-target lookups that don't scan every target.
+ * <p>
+ * Larger sets are bucketed into a grid of cells per plane. A nearest-target lookup visits the cells in rings around the
+ * tile and stops once no target in the next ring can be closer than the best one found, so searches for e.g. the
+ * nearest bank don't get slower per expanded node as targets are added.
+ */
+class TargetSet {
+    // Below this size scanning all targets is cheaper than walking the grid
+    private static final int LINEAR_SCAN_LIMIT = 8;
+    private static final int CELL_SHIFT = 4;
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+    private static final int PLANES = 4;
+
+    private final int[] targets;
+    private final int[] sorted;
+    private final PrimitiveIntHashMap<int[]> cells;
+    // Bounding box of the occupied cells on each plane, or minCellX > maxCellX if the plane has no targets
+    private final int[] minCellX = new int[PLANES];
+    private final int[] minCellY = new int[PLANES];
+    private final int[] maxCellX = new int[PLANES];
+    private final int[] maxCellY = new int[PLANES];
+
+    /** Chebyshev distance to the nearest target found by the last {@link #findNearest(int)} */
+    int nearestDistance;
+    /** Chebyshev plus Manhattan distance to the nearest target found by the last {@link #findNearest(int)} */
+    long nearestHeuristic;
+
+    TargetSet(int[] packedTargets) {
+        targets = packedTargets;
+        sorted = Arrays.stream(packedTargets).sorted().distinct().toArray();
+
+        if (sorted.length <= LINEAR_SCAN_LIMIT) {
+            cells = null;
+            return;
+        }
+
+        Arrays.fill(minCellX, Integer.MAX_VALUE);
+        Arrays.fill(minCellY, Integer.MAX_VALUE);
+        Arrays.fill(maxCellX, Integer.MIN_VALUE);
+        Arrays.fill(maxCellY, Integer.MIN_VALUE);
+        cells = new PrimitiveIntHashMap<>(sorted.length);
+        for (int target : sorted) {
+            final int plane = WorldPointUtil.unpackWorldPlane(target);
+            final int cellX = WorldPointUtil.unpackWorldX(target) >> CELL_SHIFT;
+            final int cellY = WorldPointUtil.unpackWorldY(target) >> CELL_SHIFT;
+            minCellX[plane] = Math.min(minCellX[plane], cellX);
+            minCellY[plane] = Math.min(minCellY[plane], cellY);
+            maxCellX[plane] = Math.max(maxCellX[plane], cellX);
+            maxCellY[plane] = Math.max(maxCellY[plane], cellY);
+
+            final int key = cellKey(plane, cellX, cellY);
+            final int[] cell = cells.get(key);
+            if (cell == null) {
+                cells.put(key, new int[]{target});
+            } else {
+                final int[] grown = Arrays.copyOf(cell, cell.length + 1);
+                grown[cell.length] = target;
+                cells.put(key, grown);
+            }
+        }
+    }
+
+    int size() {
+        return sorted.length;
+    }
+
+    boolean contains(int packedPoint) {
+        return Arrays.binarySearch(sorted, packedPoint) >= 0;
+    }
+
+    /**
+     * Finds the target with the lowest heuristic from the given tile, preferring the lower distance on ties, and
+     * stores its distances in {@link #nearestDistance} and {@link #nearestHeuristic}.
+     * Targets on other planes are at {@link Integer#MAX_VALUE} distance.
+     */
+    void findNearest(int packedPoint) {
+        nearestDistance = Integer.MAX_VALUE;
+        nearestHeuristic = Long.MAX_VALUE;
+
+        if (cells == null) {
+            for (int target : targets) {
+                consider(packedPoint, target);
+            }
+            return;
+        }
+
+        final int plane = WorldPointUtil.unpackWorldPlane(packedPoint);
+        if (minCellX[plane] > maxCellX[plane]) {
+            // Every target is on another plane
+            nearestHeuristic = Integer.MAX_VALUE + (long) Integer.MAX_VALUE;
+            return;
+        }
+
+        final int cellX = WorldPointUtil.unpackWorldX(packedPoint) >> CELL_SHIFT;
+        final int cellY = WorldPointUtil.unpackWorldY(packedPoint) >> CELL_SHIFT;
+        final int maxRing = Math.max(
+                Math.max(Math.abs(cellX - minCellX[plane]), Math.abs(cellX - maxCellX[plane])),
+                Math.max(Math.abs(cellY - minCellY[plane]), Math.abs(cellY - maxCellY[plane])));
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Every tile in this ring is at least this far away, and the heuristic is at least twice the distance
+            final long ringDistance = ring == 0 ? 0 : (long) (ring - 1) * CELL_SIZE + 1;
+            if (2 * ringDistance > nearestHeuristic) {
+                break;
+            }
+
+            for (int dx = -ring; dx <= ring; dx++) {
+                final boolean edgeColumn = dx == -ring || dx == ring;
+                for (int dy = -ring; dy <= ring; dy += edgeColumn ? 1 : 2 * ring) {
+                    final int[] cell = cells.get(cellKey(plane, cellX + dx, cellY + dy));
+                    if (cell != null) {
+                        for (int target : cell) {
+                            consider(packedPoint, target);
+                        }
+                    }
+                    if (ring == 0) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void consider(int packedPoint, int target) {
+        final int distance = WorldPointUtil.distanceBetween(packedPoint, target);
+        final long heuristic = distance + (long) WorldPointUtil.distanceBetween(packedPoint, target, 2);
+        if (heuristic < nearestHeuristic || (heuristic == nearestHeuristic && distance < nearestDistance)) {
+            nearestDistance = distance;
+            nearestHeuristic = heuristic;
+        }
+    }
+
+    private static int cellKey(int plane, int cellX, int cellY) {
+        return (plane << 28) | ((cellX & 0x3FFF) << 14) | (cellY & 0x3FFF);
+    }
+}
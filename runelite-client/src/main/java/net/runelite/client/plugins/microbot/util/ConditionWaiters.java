@@ -0,0 +1,125 @@
+package net.runelite.client.plugins.microbot.util;
+
+import net.runelite.api.Client;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.WidgetClosed;
+import net.runelite.api.events.WidgetLoaded;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Parks script threads waiting on a condition and wakes them when an event that may have changed it is posted, e.g. a
+ * game tick, an inventory change, a widget load or an animation of the local player. Most conditions can only change
+ * on those events, so waiters re-evaluate as soon as the change happens instead of on the next poll, and idle scripts
+ * don't spin.
+ * <p>
+ * Waiters still re-evaluate after their poll interval when no event arrives, which covers conditions that change
+ * without an event and clients where the event bus isn't hooked up.
+ */
+public class ConditionWaiters {
+    // Runs after every other subscriber, so caches like Rs2Inventory are updated before the waiters check them
+    private static final float WAKE_PRIORITY = -999;
+    // Varbit and other actors' animation changes are posted many times a tick, so they aren't listed here. Varbits set by
+    // the server are picked up by the game tick wakeup that follows them, and the rest by the poll interval.
+    private static final Class<?>[] WAKE_EVENTS = {
+            GameTick.class,
+            GameStateChanged.class,
+            ItemContainerChanged.class,
+            WidgetLoaded.class,
+            WidgetClosed.class,
+            StatChanged.class,
+            ChatMessage.class,
+    };
+
+    private static final Set<Thread> waiting = ConcurrentHashMap.newKeySet();
+    private static final List<EventBus.Subscriber> subscribers = new ArrayList<>();
+    private static EventBus eventBus;
+
+    public static synchronized void register(EventBus bus) {
+        unregister();
+        eventBus = bus;
+        for (Class<?> eventClass : WAKE_EVENTS) {
+            subscribers.add(bus.register(eventClass, e -> wakeAll(), WAKE_PRIORITY));
+        }
+        subscribers.add(bus.register(AnimationChanged.class, ConditionWaiters::onAnimationChanged, WAKE_PRIORITY));
+    }
+
+    public static synchronized void unregister() {
+        if (eventBus != null) {
+            subscribers.forEach(eventBus::unregister);
+        }
+        subscribers.clear();
+        eventBus = null;
+    }
+
+    private static void onAnimationChanged(AnimationChanged event) {
+        final Client client = Microbot.getClient();
+        if (client != null && event.getActor() == client.getLocalPlayer()) {
+            wakeAll();
+        }
+    }
+
+    /**
+     * Wakes every waiting thread to re-evaluate its condition. Wakeups of a thread that is busy evaluating are
+     * coalesced into a single re-evaluation.
+     */
+    public static void wakeAll() {
+        for (Thread thread : waiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public static int getWaitingCount() {
+        return waiting.size();
+    }
+
+    /**
+     * Blocks until the condition holds or the timeout expires.
+     *
+     * @param resetCondition restarts the timeout whenever it holds, or null
+     * @param pollMillis     the longest time between evaluations when no event is posted
+     * @return whether the condition held
+     */
+    static boolean await(BooleanSupplier condition, BooleanSupplier resetCondition, long timeoutMillis, long pollMillis) {
+        final Thread thread = Thread.currentThread();
+        final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        final long pollNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, pollMillis));
+
+        // Registered before the first evaluation, so an event posted before parking leaves a permit instead of being missed
+        waiting.add(thread);
+        try {
+            long start = System.nanoTime();
+            while (true) {
+                if (resetCondition != null && resetCondition.getAsBoolean()) {
+                    start = System.nanoTime();
+                }
+                if (condition.getAsBoolean()) {
+                    return true;
+                }
+
+                final long remaining = timeoutNanos - (System.nanoTime() - start);
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(ConditionWaiters.class, Math.min(remaining, pollNanos));
+                // Interrupts were always swallowed by Global.sleep, and a pending one would stop parkNanos from parking
+                Thread.interrupted();
+            }
+        } finally {
+            waiting.remove(thread);
+        }
+    }
+}
@@ -5,10 +5,19 @@ import lombok.SneakyThrows;
 import net.runelite.client.plugins.microbot.Microbot;
 import net.runelite.client.plugins.microbot.util.math.Rs2Random;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.*;
 import java.util.function.BooleanSupplier;
 
 public class Global {
+    // Waiters are woken by game events, so this only bounds how stale a condition that changes without one can get
+    private static final int FALLBACK_POLL_MILLIS = 100;
+    // sleepUntil and sleepUntilNotNull have always slept this long after their last check, which scripts rely on to
+    // let the game settle before their next action
+    private static final int SETTLE_MILLIS = 100;
+
     static ScheduledExecutorService scheduledExecutorService = Executors.newScheduledThreadPool(10);
     static ScheduledFuture<?> scheduledFuture;
 
@@ -45,15 +54,22 @@ public class Global {
     @SneakyThrows
     public static <T> T sleepUntilNotNull(Callable<T> method, int time) {
         if (Microbot.getClient().isClientThread()) return null;
-        boolean done;
-        T methodResponse;
-        long startTime = System.currentTimeMillis();
-        do {
-            methodResponse = method.call();
-            done = methodResponse != null;
-            sleep(100);
-        } while (!done && System.currentTimeMillis() - startTime < time);
-        return methodResponse;
+        final List<T> methodResponse = new ArrayList<>(Collections.singletonList(null));
+        try {
+            ConditionWaiters.await(() -> {
+                try {
+                    methodResponse.set(0, method.call());
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+                return methodResponse.get(0) != null;
+            }, null, time, FALLBACK_POLL_MILLIS);
+        } catch (CompletionException e) {
+            // Rethrow what the method threw, as before
+            throw e.getCause();
+        }
+        sleep(SETTLE_MILLIS);
+        return methodResponse.get(0);
     }
 
     public static boolean sleepUntil(BooleanSupplier awaitedCondition) {
@@ -63,15 +79,12 @@ public class Global {
     public static boolean sleepUntil(BooleanSupplier awaitedCondition, int time) {
         if (Microbot.getClient().isClientThread()) return false;
         boolean done = false;
-        long startTime = System.currentTimeMillis();
         try {
-            do {
-                done = awaitedCondition.getAsBoolean();
-                sleep(100);
-            } while (!done && System.currentTimeMillis() - startTime < time);
+            done = ConditionWaiters.await(awaitedCondition, null, time, FALLBACK_POLL_MILLIS);
         } catch (Exception e) {
             Microbot.logStackTrace("Global Sleep: ", e);
         }
+        sleep(SETTLE_MILLIS);
         return done;
     }
 
@@ -95,14 +108,8 @@ public class Global {
 
     public static boolean sleepUntilTrue(BooleanSupplier awaitedCondition) {
         if (Microbot.getClient().isClientThread()) return false;
-        long startTime = System.currentTimeMillis();
         try {
-            do {
-                if (awaitedCondition.getAsBoolean()) {
-                    return true;
-                }
-                sleep(100);
-            } while (System.currentTimeMillis() - startTime < 5000);
+            return ConditionWaiters.await(awaitedCondition, null, 5000, FALLBACK_POLL_MILLIS);
         } catch (Exception e) {
             Microbot.logStackTrace("Global Sleep: ", e);
         }
@@ -111,14 +118,8 @@ public class Global {
 
     public static boolean sleepUntilTrue(BooleanSupplier awaitedCondition, int time, int timeout) {
         if (Microbot.getClient().isClientThread()) return false;
-        long startTime = System.currentTimeMillis();
         try {
-            do {
-                if (awaitedCondition.getAsBoolean()) {
-                    return true;
-                }
-                sleep(time);
-            } while (System.currentTimeMillis() - startTime < timeout);
+            return ConditionWaiters.await(awaitedCondition, null, timeout, time);
         } catch (Exception e) {
             Microbot.logStackTrace("Global Sleep: ", e);
         }
@@ -127,17 +128,8 @@ public class Global {
 
     public static boolean sleepUntilTrue(BooleanSupplier awaitedCondition, BooleanSupplier resetCondition, int time, int timeout) {
         if (Microbot.getClient().isClientThread()) return false;
-        long startTime = System.currentTimeMillis();
         try {
-            do {
-                if (resetCondition.getAsBoolean()) {
-                    startTime = System.currentTimeMillis();
-                }
-                if (awaitedCondition.getAsBoolean()) {
-                    return true;
-                }
-                sleep(time);
-            } while (System.currentTimeMillis() - startTime < timeout);
+            return ConditionWaiters.await(awaitedCondition, resetCondition, timeout, time);
         } catch (Exception e) {
             Microbot.logStackTrace("Global Sleep: ", e);
         }
@@ -150,12 +142,9 @@ public class Global {
 
     public static void sleepUntilOnClientThread(BooleanSupplier awaitedCondition, int time) {
         if (Microbot.getClient().isClientThread()) return;
-        boolean done;
-        long startTime = System.currentTimeMillis();
         try {
-            do {
-                done = Microbot.getClientThread().runOnClientThreadOptional(awaitedCondition::getAsBoolean).orElse(false);
-            } while (!done && System.currentTimeMillis() - startTime < time);
+            ConditionWaiters.await(() -> Microbot.getClientThread().runOnClientThreadOptional(awaitedCondition::getAsBoolean).orElse(false),
+                    null, time, FALLBACK_POLL_MILLIS);
         } catch (Exception e) {
             Microbot.logStackTrace("Global Sleep: ", e);
         }
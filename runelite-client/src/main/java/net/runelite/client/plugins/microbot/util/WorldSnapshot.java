@@ -0,0 +1,149 @@
+package net.runelite.client.plugins.microbot.util;
+
+import lombok.Getter;
+import net.runelite.api.*;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.npc.Rs2NpcModel;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The npcs of the current tick, indexed by id, name and tile.
+ * <p>
+ * A snapshot is built on the client thread by the first query after each game tick and is immutable, so script threads
+ * share it without locks or client thread round trips until the next tick. Npc names and combat levels are read while
+ * building, so predicates on them don't need the client thread either. The npcs themselves are the live client
+ * instances; only the lists, the indexes and the locations of the npcs and the player are frozen. Anything else read
+ * from an npc is live state and belongs on the client thread.
+ */
+public class WorldSnapshot {
+    private static final WorldSnapshot EMPTY = new WorldSnapshot(-1, null);
+
+    // Only written on the client thread
+    private static volatile WorldSnapshot current;
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder totalBuildNanos = new LongAdder();
+    @Getter
+    private static volatile long lastBuildNanos;
+
+    @Getter
+    private final int tick;
+    // Null in the empty snapshot
+    @Getter
+    private final LocalPoint playerLocation;
+    private final List<Rs2NpcModel> npcs = new ArrayList<>();
+    private final Map<Integer, List<Rs2NpcModel>> npcsById = new HashMap<>();
+    private final Map<String, List<Rs2NpcModel>> npcsByName = new HashMap<>();
+    private final Map<WorldPoint, List<Rs2NpcModel>> npcsByTile = new HashMap<>();
+    private final Map<Rs2NpcModel, LocalPoint> npcLocations = new IdentityHashMap<>();
+
+    private WorldSnapshot(int tick, LocalPoint playerLocation) {
+        this.tick = tick;
+        this.playerLocation = playerLocation;
+    }
+
+    /**
+     * Gets the snapshot of the current tick, building it if this is the first query since the tick.
+     */
+    public static WorldSnapshot get() {
+        final WorldSnapshot snapshot = current;
+        if (snapshot != null) {
+            hits.increment();
+            return snapshot;
+        }
+        // Builds and invalidation both happen on the client thread, so a snapshot can't outlive the tick it was built on
+        return Microbot.getClientThread().runOnClientThreadOptional(WorldSnapshot::getOrBuild).orElse(EMPTY);
+    }
+
+    /**
+     * Drops the current snapshot. Called on the client thread on every game tick and game state change.
+     */
+    public static void invalidate() {
+        current = null;
+    }
+
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    public static long getAverageBuildNanos() {
+        final long builds = misses.sum();
+        return builds == 0 ? 0 : totalBuildNanos.sum() / builds;
+    }
+
+    private static WorldSnapshot getOrBuild() {
+        if (current != null) {
+            // Another thread's query built it while this one was queued
+            hits.increment();
+            return current;
+        }
+
+        misses.increment();
+        final long start = System.nanoTime();
+        final WorldSnapshot snapshot = build(Microbot.getClient());
+        lastBuildNanos = System.nanoTime() - start;
+        totalBuildNanos.add(lastBuildNanos);
+        current = snapshot;
+        return snapshot;
+    }
+
+    private static WorldSnapshot build(Client client) {
+        final Player player = client.getLocalPlayer();
+        if (player == null) {
+            return EMPTY;
+        }
+
+        final WorldSnapshot snapshot = new WorldSnapshot(client.getTickCount(), player.getLocalLocation());
+        for (NPC npc : client.getTopLevelWorldView().npcs()) {
+            if (npc != null) {
+                snapshot.addNpc(new Rs2NpcModel(npc, npc.getName(), npc.getCombatLevel()), npc.getWorldLocation(), npc.getLocalLocation());
+            }
+        }
+        return snapshot;
+    }
+
+    private void addNpc(Rs2NpcModel npc, WorldPoint worldLocation, LocalPoint localLocation) {
+        npcs.add(npc);
+        npcsById.computeIfAbsent(npc.getId(), k -> new ArrayList<>()).add(npc);
+        if (npc.getName() != null) {
+            npcsByName.computeIfAbsent(npc.getName().toLowerCase(), k -> new ArrayList<>()).add(npc);
+        }
+        npcsByTile.computeIfAbsent(worldLocation, k -> new ArrayList<>()).add(npc);
+        npcLocations.put(npc, localLocation);
+    }
+
+    /**
+     * Gets the location of an npc of this snapshot when it was built, which doesn't change while it is being sorted.
+     */
+    public LocalPoint getLocalLocation(Rs2NpcModel npc) {
+        return npcLocations.get(npc);
+    }
+
+    public List<Rs2NpcModel> getNpcs(int id) {
+        return Collections.unmodifiableList(npcsById.getOrDefault(id, Collections.emptyList()));
+    }
+
+    /**
+     * @param name the npc name, ignoring case
+     */
+    public List<Rs2NpcModel> getNpcs(String name) {
+        return Collections.unmodifiableList(npcsByName.getOrDefault(name.toLowerCase(), Collections.emptyList()));
+    }
+
+    public List<Rs2NpcModel> getNpcsAt(WorldPoint location) {
+        return Collections.unmodifiableList(npcsByTile.getOrDefault(location, Collections.emptyList()));
+    }
+
+    public List<Rs2NpcModel> getNpcs() {
+        return Collections.unmodifiableList(npcs);
+    }
+}
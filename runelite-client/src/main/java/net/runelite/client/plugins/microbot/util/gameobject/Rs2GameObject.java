@@ -1,5 +1,6 @@
 package net.runelite.client.plugins.microbot.util.gameobject;
 
+import com.google.common.annotations.VisibleForTesting;
 import lombok.SneakyThrows;
 import net.runelite.api.*;
 import net.runelite.api.coords.LocalPoint;
@@ -33,18 +34,13 @@ import static net.runelite.client.plugins.microbot.util.Global.sleepUntil;
  * TODO: This class should be cleaned up, less methods by passing filters instead of multiple parameters
  */
 public class Rs2GameObject {
-    private static final Function<Tile, Collection<? extends GameObject>> GAMEOBJECT_EXTRACTOR = tile -> Arrays.asList(tile.getGameObjects());
-    private static final Function<Tile, Collection<? extends GroundObject>> GROUNDOBJECT_EXTRACTOR = tile ->
-            Collections.singletonList(tile.getGroundObject());
-    private static final Function<Tile, Collection<? extends DecorativeObject>> DECORATIVEOBJECT_EXTRACTOR = tile ->
-            Collections.singletonList(tile.getDecorativeObject());
-    private static final Function<Tile, Collection<? extends WallObject>> WALLOBJECT_EXTRACTOR = tile ->
-            Collections.singletonList(tile.getWallObject());
-    private static final Function<Tile, Collection<? extends TileObject>> TILEOBJECT_EXTRACTOR = tile -> Arrays.asList(
-            tile.getDecorativeObject(),
-            tile.getGroundObject(),
-            tile.getWallObject()
-    );
+    private static final Predicate<TileObject> GAMEOBJECT_EXTRACTOR = o -> o instanceof GameObject;
+    private static final Predicate<TileObject> GROUNDOBJECT_EXTRACTOR = o -> o instanceof GroundObject;
+    private static final Predicate<TileObject> DECORATIVEOBJECT_EXTRACTOR = o -> o instanceof DecorativeObject;
+    private static final Predicate<TileObject> WALLOBJECT_EXTRACTOR = o -> o instanceof WallObject;
+    // Decorative, ground and wall objects
+    private static final Predicate<TileObject> TILEOBJECT_EXTRACTOR = o -> !(o instanceof GameObject);
+    private static final Set<Integer> BANK_IDS = new HashSet<>(Arrays.asList(Rs2BankID.bankIds));
 
     public static boolean interact(WorldPoint worldPoint) {
         return interact(worldPoint, "");
@@ -316,7 +312,7 @@ public class Rs2GameObject {
             return hasAction(comp, "Bank", false) || hasAction(comp, "Collect", false);
         };
 
-        return getGameObjects(o -> Arrays.stream(Rs2BankID.bankIds).anyMatch(bid -> o.getId() == bid), maxSearchRadius).stream()
+        return getGameObjects(o -> BANK_IDS.contains(o.getId()), maxSearchRadius).stream()
                 .filter(bankableFilter)
                 .findFirst()
                 .orElse(null);
@@ -341,7 +337,7 @@ public class Rs2GameObject {
             if (comp == null) return false;
             return hasAction(comp, "Deposit", false);
         };
-        return getGameObjects(o -> Arrays.stream(Rs2BankID.bankIds).anyMatch(bid -> o.getId() == bid), maxSearchRadius).stream()
+        return getGameObjects(o -> BANK_IDS.contains(o.getId()), maxSearchRadius).stream()
                 .filter(depositableFilter)
                 .findFirst()
                 .orElse(null);
@@ -1423,56 +1419,29 @@ public class Rs2GameObject {
     }
 
     // private methods
-    private static <T extends TileObject> Stream<T> getSceneObjects(Function<Tile, Collection<? extends T>> extractor) {
+    @SuppressWarnings("unchecked")
+    private static <T extends TileObject> List<T> getSceneObjects(Predicate<TileObject> extractor, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
         Player player = Microbot.getClient().getLocalPlayer();
-        if (player == null) return Stream.empty();
-
-        Scene scene = player.getWorldView().getScene();
-        Tile[][][] tiles = scene.getTiles();
-        if (tiles == null) return Stream.empty();
+        if (player == null) return Collections.emptyList();
 
-        List<T> result = new ArrayList<>();
-        int z = player.getWorldView().getPlane();
-
-        for (int x = 0; x < Constants.SCENE_SIZE; x++) {
-            for (int y = 0; y < Constants.SCENE_SIZE; y++) {
-                Tile tile = tiles[z][x][y];
-                if (tile == null) continue;
-
-                Collection<? extends T> objs = extractor.apply(tile);
-                if (objs != null) {
-                    for (T obj : objs) {
-                        if (obj == null) continue;
-
-                        if (obj instanceof GameObject) {
-                            GameObject gameObject = (GameObject) obj;
-                            if (gameObject.getSceneMinLocation().equals(tile.getSceneLocation())) {
-                                result.add(obj);
-                            }
-                        } else {
-                            if (obj.getLocalLocation().equals(tile.getLocalLocation())) {
-                                result.add(obj);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        return result.stream();
-    }
-
-    private static <T extends TileObject> List<T> getSceneObjects(Function<Tile, Collection<? extends T>> extractor, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
-        return getSceneObjects(extractor)
+        return SceneObjectIndex.getWithin(player.getWorldView().getPlane(), anchorLocal, distance).stream()
+                .filter(extractor)
+                .map(o -> (T) o)
                 .filter(withinTilesPredicate(distance, anchorLocal))
                 .filter(predicate)
                 .sorted(Comparator.comparingInt(o -> o.getLocalLocation().distanceTo(anchorLocal)))
                 .collect(Collectors.toList());
     }
 
-    private static <T extends TileObject> T getSceneObject(Function<Tile, Collection<? extends T>> extractor, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
-        return getSceneObjects(extractor, predicate, anchorLocal, distance)
-                .stream()
+    @SuppressWarnings("unchecked")
+    private static <T extends TileObject> T getSceneObject(Predicate<TileObject> extractor, Predicate<T> predicate, LocalPoint anchorLocal, int distance) {
+        Player player = Microbot.getClient().getLocalPlayer();
+        if (player == null) return null;
+
+        Predicate<T> within = withinTilesPredicate(distance, anchorLocal);
+        return SceneObjectIndex.getNearest(player.getWorldView().getPlane(), anchorLocal, 1,
+                        o -> extractor.test(o) && within.test((T) o) && predicate.test((T) o)).stream()
+                .map(o -> (T) o)
                 .findFirst()
                 .orElse(null);
     }
@@ -1506,13 +1475,14 @@ public class Rs2GameObject {
         return Optional.empty();
     }
 
-    private static <T extends TileObject> Predicate<T> nameMatches(String objectName, boolean exact) {
-        String normalizedForIds = objectName.toLowerCase().replace(" ", "_");
-        Set<Integer> ids = new HashSet<>(getObjectIdsByName(normalizedForIds));
+    @VisibleForTesting
+    static <T extends TileObject> Predicate<T> nameMatches(String objectName, boolean exact) {
+        Set<Integer> ids = SceneObjectIndex.getIdsByName(objectName, exact);
 
         String lower = objectName.toLowerCase();
 
         return obj -> {
+            // Names no indexed object has are compared on every object
             if (!ids.isEmpty() && !ids.contains(obj.getId())) {
                 return false;
             }
@@ -0,0 +1,238 @@
+package net.runelite.client.plugins.microbot.util.gameobject;
+
+import net.runelite.api.*;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.*;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * The game, wall, ground and decorative objects in the scene, kept up to date from their spawn and despawn events
+ * instead of walking every tile of the scene for each query.
+ * <p>
+ * Objects are bucketed by plane and local location into a grid of {@value #CELL_SIZE} by {@value #CELL_SIZE} tile
+ * cells, so radius and nearest object queries only visit the cells around the anchor. They are also indexed by id, and the ids of every
+ * object that has spawned are indexed by name. The indexes are concurrent sets, written on the client thread and read
+ * by script threads without locking.
+ */
+public class SceneObjectIndex {
+    private static final int CELL_SHIFT = 3;
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+    private static final int CELL_LOCAL_SIZE = CELL_SIZE * Perspective.LOCAL_TILE_SIZE;
+
+    private static final Map<Integer, Set<TileObject>> cells = new ConcurrentHashMap<>();
+    private static final Map<Integer, Set<TileObject>> objectsById = new ConcurrentHashMap<>();
+    // Compositions don't change, so these are kept across scenes
+    private static final Set<Integer> namedIds = ConcurrentHashMap.newKeySet();
+    private static final Set<Integer> impostorIds = ConcurrentHashMap.newKeySet();
+    private static final Map<String, Set<Integer>> idsByName = new ConcurrentHashMap<>();
+
+    public static void onGameObjectSpawned(GameObjectSpawned event) {
+        add(event.getTile(), event.getGameObject());
+    }
+
+    public static void onGameObjectDespawned(GameObjectDespawned event) {
+        remove(event.getGameObject());
+    }
+
+    public static void onWallObjectSpawned(WallObjectSpawned event) {
+        add(event.getTile(), event.getWallObject());
+    }
+
+    public static void onWallObjectDespawned(WallObjectDespawned event) {
+        remove(event.getWallObject());
+    }
+
+    public static void onGroundObjectSpawned(GroundObjectSpawned event) {
+        add(event.getTile(), event.getGroundObject());
+    }
+
+    public static void onGroundObjectDespawned(GroundObjectDespawned event) {
+        remove(event.getGroundObject());
+    }
+
+    public static void onDecorativeObjectSpawned(DecorativeObjectSpawned event) {
+        add(event.getTile(), event.getDecorativeObject());
+    }
+
+    public static void onDecorativeObjectDespawned(DecorativeObjectDespawned event) {
+        remove(event.getDecorativeObject());
+    }
+
+    /**
+     * Removes every object. Objects are spawned again when the next scene has loaded.
+     */
+    public static void clear() {
+        cells.clear();
+        objectsById.clear();
+    }
+
+    /**
+     * Indexes the objects already in the scene, for when the index starts while logged in. Must be called on the client
+     * thread.
+     */
+    public static void rebuild() {
+        clear();
+        final Tile[][][] tiles = Microbot.getClient().getTopLevelWorldView().getScene().getTiles();
+        for (Tile[][] plane : tiles) {
+            for (Tile[] column : plane) {
+                for (Tile tile : column) {
+                    if (tile == null) continue;
+                    for (GameObject gameObject : tile.getGameObjects()) {
+                        add(tile, gameObject);
+                    }
+                    add(tile, tile.getWallObject());
+                    add(tile, tile.getGroundObject());
+                    add(tile, tile.getDecorativeObject());
+                }
+            }
+        }
+    }
+
+    private static void add(Tile tile, TileObject object) {
+        if (object == null) return;
+        // Objects larger than a tile are on every tile they cover, but are only added for their south west tile
+        if (object instanceof GameObject
+                ? !((GameObject) object).getSceneMinLocation().equals(tile.getSceneLocation())
+                : !object.getLocalLocation().equals(tile.getLocalLocation())) {
+            return;
+        }
+
+        cells.computeIfAbsent(cellKey(object), k -> ConcurrentHashMap.newKeySet()).add(object);
+        objectsById.computeIfAbsent(object.getId(), k -> ConcurrentHashMap.newKeySet()).add(object);
+
+        if (namedIds.add(object.getId())) {
+            final ObjectComposition composition = Microbot.getClient().getObjectDefinition(object.getId());
+            if (composition == null) {
+                // Named when the next object with this id spawns
+                namedIds.remove(object.getId());
+                return;
+            }
+            if (composition.getImpostorIds() != null) {
+                impostorIds.add(object.getId());
+            }
+            final String name = composition.getName();
+            if (name != null && !"null".equals(name)) {
+                idsByName.computeIfAbsent(name.toLowerCase(), k -> ConcurrentHashMap.newKeySet()).add(object.getId());
+            }
+        }
+    }
+
+    private static void remove(TileObject object) {
+        if (object == null) return;
+        final Set<TileObject> cell = cells.get(cellKey(object));
+        if (cell != null) {
+            cell.remove(object);
+        }
+        final Set<TileObject> withId = objectsById.get(object.getId());
+        if (withId != null) {
+            withId.remove(object);
+        }
+    }
+
+    // Objects are bucketed by the point queries measure their distance from, which is the centre of objects larger than
+    // a tile, so the ring bounds of getNearest hold for objects of any size
+    private static int cellKey(TileObject object) {
+        final LocalPoint location = object.getLocalLocation();
+        return cellKey(object.getPlane(), location.getSceneX() >> CELL_SHIFT, location.getSceneY() >> CELL_SHIFT);
+    }
+
+    private static int cellKey(int plane, int cellX, int cellY) {
+        return (plane << 24) | ((cellX & 0xFFF) << 12) | (cellY & 0xFFF);
+    }
+
+    public static List<TileObject> getById(int id) {
+        final Set<TileObject> objects = objectsById.get(id);
+        return objects == null ? Collections.emptyList() : new ArrayList<>(objects);
+    }
+
+    /**
+     * Gets the ids of the objects with the given name which have been in a scene, plus the ids of every object whose
+     * name depends on its impostor, since those can't be told apart by id. The result is empty if no object with the
+     * name has been in a scene.
+     *
+     * @param name  the name, ignoring case
+     * @param exact whether the name must match exactly, or only be contained in the object name
+     */
+    public static Set<Integer> getIdsByName(String name, boolean exact) {
+        final String lower = name.toLowerCase();
+        final Set<Integer> ids = new HashSet<>();
+        if (exact) {
+            ids.addAll(idsByName.getOrDefault(lower, Collections.emptySet()));
+        } else {
+            for (Map.Entry<String, Set<Integer>> entry : idsByName.entrySet()) {
+                if (entry.getKey().contains(lower)) {
+                    ids.addAll(entry.getValue());
+                }
+            }
+        }
+        if (!ids.isEmpty()) {
+            ids.addAll(impostorIds);
+        }
+        return ids;
+    }
+
+    /**
+     * Gets the objects on the plane in every cell which may hold an object within the local distance of the anchor.
+     * The result can contain objects further away than that.
+     */
+    public static List<TileObject> getWithin(int plane, LocalPoint anchor, int distance) {
+        final int radius = Math.max(distance, Perspective.LOCAL_TILE_SIZE) / CELL_LOCAL_SIZE + 1;
+        final int cellX = anchor.getSceneX() >> CELL_SHIFT;
+        final int cellY = anchor.getSceneY() >> CELL_SHIFT;
+        final int maxCell = (Constants.EXTENDED_SCENE_SIZE >> CELL_SHIFT) + 1;
+
+        final List<TileObject> result = new ArrayList<>();
+        for (int x = Math.max(0, cellX - radius); x <= Math.min(maxCell, cellX + radius); x++) {
+            for (int y = Math.max(0, cellY - radius); y <= Math.min(maxCell, cellY + radius); y++) {
+                final Set<TileObject> cell = cells.get(cellKey(plane, x, y));
+                if (cell != null) {
+                    result.addAll(cell);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets up to {@code count} objects on the plane matching the filter, closest to the anchor first. Cells are visited
+     * in rings around the anchor, stopping once no object in the next ring can be closer than the ones found.
+     */
+    public static List<TileObject> getNearest(int plane, LocalPoint anchor, int count, Predicate<TileObject> filter) {
+        final Comparator<TileObject> byDistance = Comparator.comparingInt(o -> o.getLocalLocation().distanceTo(anchor));
+        final int cellX = anchor.getSceneX() >> CELL_SHIFT;
+        final int cellY = anchor.getSceneY() >> CELL_SHIFT;
+        final int maxRing = (Constants.EXTENDED_SCENE_SIZE >> CELL_SHIFT) + 1;
+
+        final List<TileObject> found = new ArrayList<>();
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (found.size() >= count) {
+                found.sort(byDistance);
+                // Every tile in this ring is at least this far from the anchor
+                final int ringDistance = (ring - 1) * CELL_LOCAL_SIZE;
+                if (found.get(count - 1).getLocalLocation().distanceTo(anchor) < ringDistance) {
+                    break;
+                }
+            }
+
+            for (int dx = -ring; dx <= ring; dx++) {
+                final boolean edgeColumn = dx == -ring || dx == ring;
+                for (int dy = -ring; dy <= ring; dy += edgeColumn || ring == 0 ? 1 : 2 * ring) {
+                    final Set<TileObject> cell = cells.get(cellKey(plane, cellX + dx, cellY + dy));
+                    if (cell == null) continue;
+                    for (TileObject object : cell) {
+                        if (filter.test(object)) {
+                            found.add(object);
+                        }
+                    }
+                }
+            }
+        }
+
+        found.sort(byDistance);
+        return found.size() > count ? new ArrayList<>(found.subList(0, count)) : found;
+    }
+}
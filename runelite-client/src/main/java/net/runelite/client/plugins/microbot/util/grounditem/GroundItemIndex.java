@@ -0,0 +1,147 @@
+package net.runelite.client.plugins.microbot.util.grounditem;
+
+import net.runelite.api.ItemComposition;
+import net.runelite.api.Tile;
+import net.runelite.api.TileItem;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.models.RS2Item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The ground items in the scene, kept up to date from {@link ItemSpawned} and {@link ItemDespawned} so that queries
+ * don't have to visit tiles on the client thread.
+ * <p>
+ * Items are indexed by tile and by item id. Both indexes hold arrays which are replaced, never modified, on the client
+ * thread, so script threads read them without locking. The composition and price of each item id are looked up once,
+ * on the client thread when an item with that id first spawns.
+ */
+public class GroundItemIndex {
+    private static final RS2Item[] EMPTY = new RS2Item[0];
+
+    private static final Map<WorldPoint, RS2Item[]> itemsByTile = new ConcurrentHashMap<>();
+    private static final Map<Integer, RS2Item[]> itemsById = new ConcurrentHashMap<>();
+    private static final Map<Integer, ItemComposition> compositions = new ConcurrentHashMap<>();
+    private static final Map<Integer, Integer> prices = new ConcurrentHashMap<>();
+
+    public static void onItemSpawned(ItemSpawned event) {
+        add(event.getTile(), event.getItem());
+    }
+
+    public static void onItemDespawned(ItemDespawned event) {
+        final TileItem tileItem = event.getItem();
+        itemsByTile.computeIfPresent(event.getTile().getWorldLocation(), (k, items) -> without(items, tileItem));
+        itemsById.computeIfPresent(tileItem.getId(), (k, items) -> without(items, tileItem));
+    }
+
+    /**
+     * Removes every item. Items are spawned again when the next scene has loaded.
+     */
+    public static void clear() {
+        itemsByTile.clear();
+        itemsById.clear();
+    }
+
+    /**
+     * Also forgets the cached prices, so they are looked up again after logging back in.
+     */
+    public static void reset() {
+        clear();
+        prices.clear();
+    }
+
+    /**
+     * Indexes the items already in the scene, for when the index starts while logged in. Must be called on the client
+     * thread.
+     */
+    public static void rebuild() {
+        clear();
+        final Tile[][][] tiles = Microbot.getClient().getTopLevelWorldView().getScene().getTiles();
+        for (Tile[][] plane : tiles) {
+            for (Tile[] column : plane) {
+                for (Tile tile : column) {
+                    if (tile == null || tile.getGroundItems() == null) continue;
+                    for (TileItem tileItem : tile.getGroundItems()) {
+                        add(tile, tileItem);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void add(Tile tile, TileItem tileItem) {
+        final int id = tileItem.getId();
+        final RS2Item item = new RS2Item(compositions.computeIfAbsent(id, Microbot.getItemManager()::getItemComposition), tile, tileItem);
+        prices.computeIfAbsent(id, Microbot.getItemManager()::getItemPrice);
+
+        itemsByTile.merge(tile.getWorldLocation(), new RS2Item[]{item}, GroundItemIndex::concat);
+        itemsById.merge(id, new RS2Item[]{item}, GroundItemIndex::concat);
+    }
+
+    private static RS2Item[] concat(RS2Item[] items, RS2Item[] added) {
+        final RS2Item[] result = Arrays.copyOf(items, items.length + added.length);
+        System.arraycopy(added, 0, result, items.length, added.length);
+        return result;
+    }
+
+    // Returns null once the last item is removed, which removes the key
+    private static RS2Item[] without(RS2Item[] items, TileItem tileItem) {
+        final RS2Item[] result = Arrays.stream(items)
+                .filter(item -> item.getTileItem() != tileItem)
+                .toArray(RS2Item[]::new);
+        return result.length == 0 ? null : result;
+    }
+
+    /**
+     * Gets the items on a tile, in the order they spawned.
+     */
+    public static RS2Item[] getAt(WorldPoint location) {
+        return itemsByTile.getOrDefault(location, EMPTY).clone();
+    }
+
+    public static RS2Item[] getAll(int itemId) {
+        return itemsById.getOrDefault(itemId, EMPTY).clone();
+    }
+
+    /**
+     * Gets the items on the given plane with {@code minX <= x < maxX} and {@code minY <= y < maxY}.
+     */
+    public static List<RS2Item> getWithin(int minX, int minY, int maxX, int maxY, int plane) {
+        final List<RS2Item> result = new ArrayList<>();
+        for (Map.Entry<WorldPoint, RS2Item[]> entry : itemsByTile.entrySet()) {
+            final WorldPoint location = entry.getKey();
+            if (location.getPlane() == plane
+                    && location.getX() >= minX && location.getX() < maxX
+                    && location.getY() >= minY && location.getY() < maxY) {
+                result.addAll(Arrays.asList(entry.getValue()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the price of one of the item, as looked up when it first spawned.
+     */
+    public static int getPrice(int itemId) {
+        final Integer price = prices.get(itemId);
+        if (price != null) {
+            return price;
+        }
+        return Microbot.getClientThread().runOnClientThreadOptional(() ->
+                prices.computeIfAbsent(itemId, Microbot.getItemManager()::getItemPrice)).orElse(0);
+    }
+
+    /**
+     * Gets the price of the whole stack.
+     */
+    public static long getValue(RS2Item item) {
+        return (long) getPrice(item.getTileItem().getId()) * item.getTileItem().getQuantity();
+    }
+}
@@ -144,56 +144,32 @@ public class Rs2GroundItem {
      * @return An array of the ground items on the specified tile.
      */
     public static RS2Item[] getAllAt(int x, int y) {
-        return Microbot.getClientThread().runOnClientThreadOptional(() -> {
-            if (!Microbot.isLoggedIn()) {
-                return null;
-            }
-            List<RS2Item> list = new ArrayList<>();
-
-            Tile tile = Rs2Tile.getTile(x, y);
-            if (tile == null) {
-                return null;
-            }
+        if (!Microbot.isLoggedIn()) {
+            return null;
+        }
 
-            List<TileItem> groundItems = tile.getGroundItems();
+        Tile tile = Rs2Tile.getTile(x, y);
+        if (tile == null) {
+            return null;
+        }
 
-            if (groundItems != null && !groundItems.isEmpty()) {
-                for (TileItem groundItem : groundItems) {
-                    RS2Item rs2Item = new RS2Item(Microbot.getItemManager().getItemComposition(groundItem.getId()), tile, groundItem);
-                    list.add(rs2Item);
-                }
-            }
-            return list.toArray(new RS2Item[list.size()]);
-        }).orElse(new RS2Item[] {});
+        return GroundItemIndex.getAt(tile.getWorldLocation());
     }
 
     public static RS2Item[] getAll(int range) {
-        List<RS2Item> temp = new ArrayList<>();
-        int pX = Microbot.getClient().getLocalPlayer().getWorldLocation().getX();
-        int pY = Microbot.getClient().getLocalPlayer().getWorldLocation().getY();
-        int minX = pX - range, minY = pY - range;
-        int maxX = pX + range, maxY = pY + range;
-        for (int x = minX; x < maxX; x++) {
-            for (int y = minY; y < maxY; y++) {
-                RS2Item[] items = getAllAt(x, y);
-                if (items != null)
-                    for (RS2Item item : items) {
-                        if (item == null) {
-                            continue;
-                        }
-                        temp.add(item);
-                    }
-            }
+        Player player = Microbot.getClient().getLocalPlayer();
+        if (player == null) {
+            return new RS2Item[0];
         }
-        //sort on closest item first
-        temp = temp.stream().sorted(Comparator
-                        .comparingInt(value -> value.getTile().getLocalLocation()
-                                .distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList());
-        //filter out items based on value
+        WorldPoint playerLocation = player.getWorldLocation();
+        LocalPoint playerLocalLocation = player.getLocalLocation();
+        int pX = playerLocation.getX();
+        int pY = playerLocation.getY();
 
-
-        return temp.toArray(new RS2Item[temp.size()]);
+        //sort on closest item first
+        return GroundItemIndex.getWithin(pX - range, pY - range, pX + range, pY + range, playerLocation.getPlane()).stream()
+                .sorted(Comparator.comparingInt(value -> value.getTile().getLocalLocation().distanceTo(playerLocalLocation)))
+                .toArray(RS2Item[]::new);
     }
 
     /**
@@ -205,34 +181,14 @@ public class Rs2GroundItem {
      *         to the center point (closest first). Returns an empty array if no items are found.
      */
     public static RS2Item[] getAllFromWorldPoint(int range, WorldPoint worldPoint) {
-        List<RS2Item> temp = new ArrayList<>();
         int safespotX = worldPoint.getX();
         int safespotY = worldPoint.getY();
 
-        int minX = safespotX - range, minY = safespotY - range;
-        int maxX = safespotX + range, maxY = safespotY + range;
-
-        for (int x = minX; x < maxX; x++) {
-            for (int y = minY; y < maxY; y++) {
-                RS2Item[] items = getAllAt(x, y);
-                if (items != null) {
-                    for (RS2Item item : items) {
-                        if (item == null) {
-                            continue;
-                        }
-                        temp.add(item);
-                    }
-                }
-            }
-        }
-
         // Sort items based on distance from the safespot
-        temp = temp.stream()
+        return GroundItemIndex.getWithin(safespotX - range, safespotY - range, safespotX + range, safespotY + range, worldPoint.getPlane()).stream()
                 .sorted(Comparator.comparingInt(value ->
                         value.getTile().getLocalLocation().distanceTo(new LocalPoint(safespotX, safespotY))))
-                .collect(Collectors.toList());
-
-        return temp.toArray(new RS2Item[temp.size()]);
+                .toArray(RS2Item[]::new);
     }
 
 
@@ -250,9 +206,7 @@ public class Rs2GroundItem {
 
     public static boolean loot(String lootItem, int minQuantity, int range) {
         if (Rs2Inventory.isFull(lootItem)) return false;
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThreadOptional(() ->
-                Rs2GroundItem.getAll(range)
-        ).orElse(new RS2Item[] {});
+        RS2Item[] groundItems = Rs2GroundItem.getAll(range);
         for (RS2Item rs2Item : groundItems) {
             if (rs2Item.getItem().getName().equalsIgnoreCase(lootItem) && rs2Item.getTileItem().getQuantity() >= minQuantity) {
                 interact(rs2Item);
@@ -263,14 +217,11 @@ public class Rs2GroundItem {
     }
 
     public static boolean lootItemBasedOnValue(int value, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThreadOptional(() ->
-                Rs2GroundItem.getAll(range)
-        ).orElse(new RS2Item[] {});
+        RS2Item[] groundItems = Rs2GroundItem.getAll(range);
         final int invSize = Rs2Inventory.size();
         for (RS2Item rs2Item : groundItems) {
             if (!hasLineOfSight(rs2Item.getTile())) continue;
-            long totalPrice = (long) Microbot.getClientThread().runOnClientThreadOptional(() ->
-                    Microbot.getItemManager().getItemPrice(rs2Item.getItem().getId()) * rs2Item.getTileItem().getQuantity()).orElse(0);
+            long totalPrice = GroundItemIndex.getValue(rs2Item);
             if (totalPrice >= value) {
                 if (Rs2Inventory.isFull()) {
                     if (Rs2Player.eatAt(100)) {
@@ -490,12 +441,9 @@ public class Rs2GroundItem {
     }
 
     public static boolean isItemBasedOnValueOnGround(int value, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThreadOptional(() ->
-                Rs2GroundItem.getAll(range)
-        ).orElse(new RS2Item[] {});
+        RS2Item[] groundItems = Rs2GroundItem.getAll(range);
         for (RS2Item rs2Item : groundItems) {
-            long totalPrice = (long) Microbot.getClientThread().runOnClientThreadOptional(() ->
-                    Microbot.getItemManager().getItemPrice(rs2Item.getItem().getId()) * rs2Item.getTileItem().getQuantity()).orElse(0);
+            long totalPrice = GroundItemIndex.getValue(rs2Item);
             if (totalPrice >= value) {
                 return true;
             }
@@ -505,14 +453,11 @@ public class Rs2GroundItem {
 
     @Deprecated(since = "1.4.6, use lootItemsBasedOnNames(LootingParameters params)", forRemoval = true)
     public static boolean lootAllItemBasedOnValue(int value, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThreadOptional(() ->
-                Rs2GroundItem.getAll(range)
-        ).orElse(new RS2Item[] {});
+        RS2Item[] groundItems = Rs2GroundItem.getAll(range);
         Rs2Inventory.dropEmptyVials();
         for (RS2Item rs2Item : groundItems) {
             if (Rs2Inventory.isFull(rs2Item.getItem().getName())) continue;
-            long totalPrice = (long) Microbot.getClientThread().runOnClientThreadOptional(() ->
-                    Microbot.getItemManager().getItemPrice(rs2Item.getItem().getId()) * rs2Item.getTileItem().getQuantity()).orElse(0);
+            long totalPrice = GroundItemIndex.getValue(rs2Item);
             if (totalPrice >= value) {
                 return interact(rs2Item);
             }
@@ -530,9 +475,7 @@ public class Rs2GroundItem {
     }
     public static boolean loot(int itemId, int range) {
         if (Rs2Inventory.isFull(itemId)) return false;
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThreadOptional(() ->
-                Rs2GroundItem.getAll(range)
-        ).orElse(new RS2Item[] {});
+        RS2Item[] groundItems = Rs2GroundItem.getAll(range);
         for (RS2Item rs2Item : groundItems) {
             if (rs2Item.getItem().getId() == itemId) {
                 interact(rs2Item);
@@ -563,8 +506,7 @@ public class Rs2GroundItem {
     }
 
     public static boolean interact(String itemName, String action, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThreadOptional(() -> Rs2GroundItem.getAll(range))
-                .orElse(new RS2Item[] {});
+        RS2Item[] groundItems = Rs2GroundItem.getAll(range);
         for (RS2Item rs2Item : groundItems) {
             if (rs2Item.getItem().getName().equalsIgnoreCase(itemName)) {
                 interact(rs2Item, action);
@@ -575,8 +517,7 @@ public class Rs2GroundItem {
     }
 
     public static boolean interact(int itemId, String action, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThreadOptional(() -> Rs2GroundItem.getAll(range))
-                .orElse(new RS2Item[] {});;
+        RS2Item[] groundItems = Rs2GroundItem.getAll(range);
         for (RS2Item rs2Item : groundItems) {
             if (rs2Item.getItem().getId() == itemId) {
                 interact(rs2Item, action);
@@ -587,8 +528,7 @@ public class Rs2GroundItem {
     }
 
     public static boolean exists(int id, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThreadOptional(() -> Rs2GroundItem.getAll(range))
-                .orElse(new RS2Item[] {});
+        RS2Item[] groundItems = Rs2GroundItem.getAll(range);
         for (RS2Item rs2Item : groundItems) {
             if (rs2Item.getItem().getId() == id) {
                 return true;
@@ -598,7 +538,7 @@ public class Rs2GroundItem {
     }
 
     public static boolean exists(String itemName, int range) {
-        RS2Item[] groundItems = Microbot.getClientThread().runOnClientThreadOptional(() -> Rs2GroundItem.getAll(range)).orElse(new RS2Item[] {});
+        RS2Item[] groundItems = Rs2GroundItem.getAll(range);
         for (RS2Item rs2Item : groundItems) {
             if (rs2Item.getItem().getName().equalsIgnoreCase(itemName)) {
                 return true;
@@ -26,13 +26,17 @@ public class Rs2ItemManager {
         if (query == null || query.trim().isEmpty()) {
             return Collections.emptyList();
         }
-        String lowerQuery = query.toLowerCase();
-        return Microbot.getClientThread().runOnClientThreadOptional(() -> Microbot.getItemManager().search(query)).orElse(Collections.emptyList());
+        // The search index is immutable, so this doesn't need the client thread
+        return Microbot.getItemManager().search(query);
     }
 
-    // get item id by name
+    // get item id by name, preferring an exact match over the first item containing the name
     public int getItemId(String itemName) {
-        var items =searchItem(itemName);
+        int itemId = Microbot.getItemManager().getItemIdByName(itemName);
+        if (itemId != -1) {
+            return itemId;
+        }
+        var items = searchItem(itemName);
         return items.get(0).getId();
     }
 
@@ -5,6 +5,7 @@ import net.runelite.api.coords.LocalPoint;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
 import net.runelite.client.plugins.microbot.Microbot;
+import net.runelite.client.plugins.microbot.util.WorldSnapshot;
 import net.runelite.client.plugins.microbot.util.antiban.Rs2AntibanSettings;
 import net.runelite.client.plugins.microbot.util.camera.Rs2Camera;
 import net.runelite.client.plugins.microbot.util.combat.Rs2Combat;
@@ -202,16 +203,34 @@ public class Rs2Npc {
      * @return A sorted {@link Stream} of {@link Rs2NpcModel} objects that match the given predicate.
      */
     public static Stream<Rs2NpcModel> getNpcs(Predicate<Rs2NpcModel> predicate) {
-        List<Rs2NpcModel> npcList = Microbot.getClientThread().runOnClientThreadOptional(() -> Microbot.getClient().getTopLevelWorldView().npcs().stream()
-                .filter(Objects::nonNull)
-                .map(Rs2NpcModel::new)
-                .filter(predicate)
-                .filter(x -> x.getName() != null)
-                .sorted(Comparator.comparingInt(value -> value.getLocalLocation().distanceTo(Microbot.getClient().getLocalPlayer().getLocalLocation())))
-                .collect(Collectors.toList()))
-                .orElse(new ArrayList<>());
+        final WorldSnapshot snapshot = WorldSnapshot.get();
+        return sortedByDistance(snapshot, snapshot.getNpcs(), predicate);
+    }
+
+    /**
+     * Sorts npcs of a snapshot by their distance to the player when the snapshot was built.
+     *
+     * @param predicate filters the npcs on the client thread, since predicates read live npc state such as who it is
+     *                  interacting with; null to keep every npc
+     */
+    private static Stream<Rs2NpcModel> sortedByDistance(WorldSnapshot snapshot, List<Rs2NpcModel> npcs, @Nullable Predicate<Rs2NpcModel> predicate) {
+        final LocalPoint playerLocation = snapshot.getPlayerLocation();
+        if (playerLocation == null) return Stream.empty();
+
+        List<Rs2NpcModel> matches = npcs;
+        if (predicate != null) {
+            matches = Microbot.getClientThread().runOnClientThreadOptional(() -> npcs.stream()
+                    .filter(predicate)
+                    .collect(Collectors.toList()))
+                    .orElse(Collections.emptyList());
+        }
 
-        return npcList.stream();
+        return matches.stream()
+                .filter(x -> x.getName() != null)
+                .sorted(Comparator.comparingInt(npc -> {
+                    final LocalPoint location = snapshot.getLocalLocation(npc);
+                    return location == null ? Integer.MAX_VALUE : location.distanceTo(playerLocation);
+                }));
     }
 
     /**
@@ -244,11 +263,16 @@ public class Rs2Npc {
      */
     public static Stream<Rs2NpcModel> getNpcs(String name, boolean exact) {
         if (name == null || name.isEmpty()) return Stream.empty();
-        return getNpcs(npc -> {
-            String npcName = npc.getName();
-            if (npcName == null || npcName.isEmpty()) return false;
-            return exact ? npcName.equalsIgnoreCase(name) : npcName.toLowerCase().contains(name.toLowerCase());
-        });
+        final WorldSnapshot snapshot = WorldSnapshot.get();
+        if (exact) {
+            return sortedByDistance(snapshot, snapshot.getNpcs(name), null);
+        }
+        // Snapshot names were read on the client thread, so they are matched here
+        final String lowerName = name.toLowerCase();
+        final List<Rs2NpcModel> matches = snapshot.getNpcs().stream()
+                .filter(npc -> npc.getName() != null && npc.getName().toLowerCase().contains(lowerName))
+                .collect(Collectors.toList());
+        return sortedByDistance(snapshot, matches, null);
     }
 
     /**
@@ -270,7 +294,8 @@ public class Rs2Npc {
      * @return A {@link Stream} of {@link Rs2NpcModel} objects that match the given NPC ID.
      */
     public static Stream<Rs2NpcModel> getNpcs(int id) {
-        return getNpcs().filter(x -> x.getId() == id);
+        final WorldSnapshot snapshot = WorldSnapshot.get();
+        return sortedByDistance(snapshot, snapshot.getNpcs(id), null);
     }
 
     /**
@@ -9,10 +9,41 @@ import org.jetbrains.annotations.Nullable;
 public class Rs2NpcModel extends ActorModel implements NPC {
 
     private final NPC runeliteNpc;
+    // Set when the name and combat level were read on the client thread up front, e.g. for a WorldSnapshot
+    @Getter(AccessLevel.NONE)
+    private final boolean cached;
+    @Getter(AccessLevel.NONE)
+    private final String cachedName;
+    @Getter(AccessLevel.NONE)
+    private final int cachedCombatLevel;
 
     public Rs2NpcModel(final NPC npc) {
         super(npc);
         this.runeliteNpc = npc;
+        this.cached = false;
+        this.cachedName = null;
+        this.cachedCombatLevel = 0;
+    }
+
+    /**
+     * Creates a model which returns the given name and combat level instead of reading them on the client thread.
+     */
+    public Rs2NpcModel(final NPC npc, @Nullable String name, int combatLevel) {
+        super(npc);
+        this.runeliteNpc = npc;
+        this.cached = true;
+        this.cachedName = name;
+        this.cachedCombatLevel = combatLevel;
+    }
+
+    @Override
+    public @Nullable String getName() {
+        return cached ? cachedName : super.getName();
+    }
+
+    @Override
+    public int getCombatLevel() {
+        return cached ? cachedCombatLevel : super.getCombatLevel();
     }
 
     @Override
@@ -0,0 +1,150 @@
+package net.runelite.client.plugins.microbot.util.tile;
+
+import net.runelite.api.CollisionData;
+import net.runelite.api.Scene;
+import net.runelite.api.WorldView;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.Microbot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the {@link TileDistanceField}s of the loaded scene, so walking distances from a tile are only searched for once
+ * while the collision flags don't change.
+ * <p>
+ * Fields are keyed by origin tile, plane, whether collision is ignored and whether diagonal steps are taken, and
+ * belong to a collision revision. The revision is bumped when a scene loads and when objects which can change the
+ * collision flags, like doors, spawn or despawn, which drops every cached field.
+ */
+public class Rs2Reachability {
+    private static final int MAX_CACHED_FIELDS = 16;
+
+    private static final Object lock = new Object();
+    private static final Map<Integer, TileDistanceField> fields = new LinkedHashMap<>(MAX_CACHED_FIELDS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, TileDistanceField> eldest) {
+            return size() > MAX_CACHED_FIELDS;
+        }
+    };
+    private static volatile int collisionRevision;
+    private static int fieldsRevision;
+
+    /**
+     * Drops every cached field. Called when the scene or its collision flags change.
+     */
+    public static void invalidate() {
+        collisionRevision++;
+    }
+
+    public static int getCollisionRevision() {
+        return collisionRevision;
+    }
+
+    /**
+     * Gets the walking distances from a tile of the loaded scene.
+     *
+     * @param origin          the tile to search from; in an instance, the template tile, as returned by
+     *                        {@code Rs2Player.getWorldLocation()}
+     * @param ignoreCollision if true, tiles which are fully blocked can still be walked to, only directional flags
+     *                        are followed
+     * @param diagonal        if true, diagonal steps are taken like the pathfinder does, so distances are path lengths
+     * @return the distance field, or null if the origin isn't in the loaded scene or there are no collision flags
+     */
+    public static TileDistanceField getDistanceField(WorldPoint origin, boolean ignoreCollision, boolean diagonal) {
+        if (origin == null) {
+            return null;
+        }
+        final WorldView worldView = Microbot.getClient().getTopLevelWorldView();
+        final CollisionData[] collisionMaps = worldView.getCollisionMaps();
+        if (collisionMaps == null) {
+            return null;
+        }
+        final Scene scene = worldView.getScene();
+        final int plane = worldView.getPlane();
+        final int originIndex = TileDistanceField.toIndex(scene, plane, origin);
+        if (originIndex == -1) {
+            return null;
+        }
+
+        final int revision = collisionRevision;
+        final int key = (originIndex << 4) | (plane << 2) | (diagonal ? 2 : 0) | (ignoreCollision ? 1 : 0);
+        synchronized (lock) {
+            if (fieldsRevision != revision) {
+                fields.clear();
+                fieldsRevision = revision;
+            }
+            final TileDistanceField field = fields.get(key);
+            if (field != null) {
+                return field;
+            }
+        }
+
+        final int originX = originIndex % TileDistanceField.SIZE;
+        final int originY = originIndex / TileDistanceField.SIZE;
+        final TileDistanceField field = TileDistanceField.compute(scene, plane, collisionMaps[plane].getFlags(), originX, originY, ignoreCollision, diagonal);
+        synchronized (lock) {
+            // Don't cache a field which may have been computed from flags older than the current revision
+            if (fieldsRevision == revision && collisionRevision == revision) {
+                fields.put(key, field);
+            }
+        }
+        return field;
+    }
+
+    public static TileDistanceField getDistanceField(WorldPoint origin, boolean ignoreCollision) {
+        return getDistanceField(origin, ignoreCollision, false);
+    }
+
+    public static TileDistanceField getDistanceField(WorldPoint origin) {
+        return getDistanceField(origin, false, false);
+    }
+
+    /**
+     * @return the walking distance between two tiles of the loaded scene, or {@link TileDistanceField#UNREACHABLE}
+     */
+    public static int getDistance(WorldPoint origin, WorldPoint target) {
+        final TileDistanceField field = getDistanceField(origin);
+        if (field == null) {
+            return origin != null && origin.equals(target) ? 0 : TileDistanceField.UNREACHABLE;
+        }
+        return field.getDistance(target);
+    }
+
+    /**
+     * @return whether the target can be walked to from the origin within the loaded scene
+     */
+    public static boolean isReachable(WorldPoint origin, WorldPoint target) {
+        return getDistance(origin, target) != TileDistanceField.UNREACHABLE;
+    }
+
+    /**
+     * @return whether the target can be walked to from the origin in at most {@code maxDistance} steps
+     */
+    public static boolean isReachable(WorldPoint origin, WorldPoint target, int maxDistance) {
+        final int distance = getDistance(origin, target);
+        return distance != TileDistanceField.UNREACHABLE && distance <= maxDistance;
+    }
+
+    /**
+     * @return whether any of the targets can be walked to from the origin in at most {@code maxDistance} steps
+     */
+    public static boolean isAnyReachable(WorldPoint origin, Iterable<WorldPoint> targets, int maxDistance) {
+        final TileDistanceField field = getDistanceField(origin);
+        for (WorldPoint target : targets) {
+            if (field == null ? target.equals(origin) : field.isReachable(target, maxDistance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the tile reachable from the origin which is closest to the target, or null if the origin isn't in the
+     * loaded scene
+     */
+    public static WorldPoint getNearestReachable(WorldPoint origin, WorldPoint target) {
+        final TileDistanceField field = getDistanceField(origin);
+        return field == null ? null : field.getNearestReachable(target, Integer.MAX_VALUE);
+    }
+}
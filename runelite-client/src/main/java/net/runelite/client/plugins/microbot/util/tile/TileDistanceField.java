@@ -0,0 +1,294 @@
+package net.runelite.client.plugins.microbot.util.tile;
+
+import lombok.Getter;
+import net.runelite.api.CollisionDataFlag;
+import net.runelite.api.Constants;
+import net.runelite.api.Scene;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.coords.WorldPoint;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * The walking distance from an origin tile to every tile of the loaded scene on one plane, computed with a
+ * breadth-first search over the collision flags of the scene.
+ * <p>
+ * Distances are kept in a flat array indexed by scene coordinates, so lookups don't allocate or box. A field is a
+ * snapshot of the collision flags it was computed from; {@link Rs2Reachability} caches fields until the collision
+ * flags change.
+ */
+public final class TileDistanceField {
+    public static final int SIZE = Constants.SCENE_SIZE;
+    public static final int UNREACHABLE = -1;
+
+    /**
+     * Receives the reachable tiles of a field, in scene coordinates.
+     */
+    @FunctionalInterface
+    public interface TileVisitor {
+        void visit(int sceneX, int sceneY, int distance);
+    }
+
+    private final Scene scene;
+    @Getter
+    private final int plane;
+    @Getter
+    private final int originSceneX;
+    @Getter
+    private final int originSceneY;
+    private final int[] distances;
+
+    private TileDistanceField(Scene scene, int plane, int originSceneX, int originSceneY, int[] distances) {
+        this.scene = scene;
+        this.plane = plane;
+        this.originSceneX = originSceneX;
+        this.originSceneY = originSceneY;
+        this.distances = distances;
+    }
+
+    /**
+     * Computes the distances from the origin tile. A tile can be walked to from a neighbour when the neighbour's flags
+     * don't block movement towards it, and, unless collision is ignored, the tile itself isn't fully blocked. The
+     * origin is always reachable.
+     * <p>
+     * With diagonal movement, a diagonal step is taken when both cardinal steps around it could be taken and the
+     * corner isn't blocked, as the pathfinder walks. The distances are then the number of steps on the path rather than
+     * the cardinal distance.
+     */
+    static TileDistanceField compute(Scene scene, int plane, int[][] flags, int originSceneX, int originSceneY, boolean ignoreCollision, boolean diagonal) {
+        final int[] distances = new int[SIZE * SIZE];
+        Arrays.fill(distances, UNREACHABLE);
+        final int[] queue = new int[SIZE * SIZE];
+        final int blocked = ignoreCollision ? 0 : CollisionDataFlag.BLOCK_MOVEMENT_FULL;
+
+        int head = 0;
+        int tail = 0;
+        final int origin = index(originSceneX, originSceneY);
+        distances[origin] = 0;
+        queue[tail++] = origin;
+
+        while (head < tail) {
+            final int current = queue[head++];
+            final int x = current % SIZE;
+            final int y = current / SIZE;
+            final int data = flags[x][y];
+            final int distance = distances[current] + 1;
+
+            final boolean west = x > 0 && (data & CollisionDataFlag.BLOCK_MOVEMENT_WEST) == 0;
+            final boolean east = x < SIZE - 1 && (data & CollisionDataFlag.BLOCK_MOVEMENT_EAST) == 0;
+            final boolean south = y > 0 && (data & CollisionDataFlag.BLOCK_MOVEMENT_SOUTH) == 0;
+            final boolean north = y < SIZE - 1 && (data & CollisionDataFlag.BLOCK_MOVEMENT_NORTH) == 0;
+            if (west) {
+                tail = visit(distances, queue, tail, flags, blocked, x - 1, y, distance);
+            }
+            if (east) {
+                tail = visit(distances, queue, tail, flags, blocked, x + 1, y, distance);
+            }
+            if (south) {
+                tail = visit(distances, queue, tail, flags, blocked, x, y - 1, distance);
+            }
+            if (north) {
+                tail = visit(distances, queue, tail, flags, blocked, x, y + 1, distance);
+            }
+            if (!diagonal) {
+                continue;
+            }
+
+            final boolean westOpen = west && (flags[x - 1][y] & blocked) == 0;
+            final boolean eastOpen = east && (flags[x + 1][y] & blocked) == 0;
+            final boolean southOpen = south && (flags[x][y - 1] & blocked) == 0;
+            final boolean northOpen = north && (flags[x][y + 1] & blocked) == 0;
+            if (westOpen && southOpen && (data & CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_WEST) == 0
+                    && (flags[x - 1][y] & CollisionDataFlag.BLOCK_MOVEMENT_SOUTH) == 0
+                    && (flags[x][y - 1] & CollisionDataFlag.BLOCK_MOVEMENT_WEST) == 0) {
+                tail = visit(distances, queue, tail, flags, blocked, x - 1, y - 1, distance);
+            }
+            if (eastOpen && southOpen && (data & CollisionDataFlag.BLOCK_MOVEMENT_SOUTH_EAST) == 0
+                    && (flags[x + 1][y] & CollisionDataFlag.BLOCK_MOVEMENT_SOUTH) == 0
+                    && (flags[x][y - 1] & CollisionDataFlag.BLOCK_MOVEMENT_EAST) == 0) {
+                tail = visit(distances, queue, tail, flags, blocked, x + 1, y - 1, distance);
+            }
+            if (westOpen && northOpen && (data & CollisionDataFlag.BLOCK_MOVEMENT_NORTH_WEST) == 0
+                    && (flags[x - 1][y] & CollisionDataFlag.BLOCK_MOVEMENT_NORTH) == 0
+                    && (flags[x][y + 1] & CollisionDataFlag.BLOCK_MOVEMENT_WEST) == 0) {
+                tail = visit(distances, queue, tail, flags, blocked, x - 1, y + 1, distance);
+            }
+            if (eastOpen && northOpen && (data & CollisionDataFlag.BLOCK_MOVEMENT_NORTH_EAST) == 0
+                    && (flags[x + 1][y] & CollisionDataFlag.BLOCK_MOVEMENT_NORTH) == 0
+                    && (flags[x][y + 1] & CollisionDataFlag.BLOCK_MOVEMENT_EAST) == 0) {
+                tail = visit(distances, queue, tail, flags, blocked, x + 1, y + 1, distance);
+            }
+        }
+
+        return new TileDistanceField(scene, plane, originSceneX, originSceneY, distances);
+    }
+
+    private static int visit(int[] distances, int[] queue, int tail, int[][] flags, int blocked, int x, int y, int distance) {
+        final int index = index(x, y);
+        if (distances[index] == UNREACHABLE && (flags[x][y] & blocked) == 0) {
+            distances[index] = distance;
+            queue[tail++] = index;
+        }
+        return tail;
+    }
+
+    private static int index(int sceneX, int sceneY) {
+        return sceneY * SIZE + sceneX;
+    }
+
+    public boolean isInstance() {
+        return scene.isInstance();
+    }
+
+    static boolean isInScene(int sceneX, int sceneY) {
+        return sceneX >= 0 && sceneY >= 0 && sceneX < SIZE && sceneY < SIZE;
+    }
+
+    /**
+     * @return the walking distance to the tile, or {@link #UNREACHABLE}
+     */
+    public int getDistance(int sceneX, int sceneY) {
+        return isInScene(sceneX, sceneY) ? distances[index(sceneX, sceneY)] : UNREACHABLE;
+    }
+
+    /**
+     * @return the walking distance to the tile, or {@link #UNREACHABLE} if it can't be reached or isn't in the scene.
+     * In an instance, the tile is a template tile, as returned by {@code Rs2Player.getWorldLocation()}.
+     */
+    public int getDistance(WorldPoint worldPoint) {
+        final int index = toIndex(worldPoint);
+        return index == -1 ? UNREACHABLE : distances[index];
+    }
+
+    public boolean isReachable(int sceneX, int sceneY) {
+        return getDistance(sceneX, sceneY) != UNREACHABLE;
+    }
+
+    /**
+     * @return whether the tile is in the scene and on the plane of this field
+     */
+    public boolean contains(WorldPoint worldPoint) {
+        return toIndex(worldPoint) != -1;
+    }
+
+    public boolean isReachable(WorldPoint worldPoint) {
+        return getDistance(worldPoint) != UNREACHABLE;
+    }
+
+    /**
+     * @return whether the tile can be reached in at most {@code maxDistance} steps
+     */
+    public boolean isReachable(WorldPoint worldPoint, int maxDistance) {
+        final int distance = getDistance(worldPoint);
+        return distance != UNREACHABLE && distance <= maxDistance;
+    }
+
+    /**
+     * Visits every tile reachable in at most {@code maxDistance} steps.
+     */
+    public void forEachReachable(int maxDistance, TileVisitor visitor) {
+        for (int i = 0; i < distances.length; i++) {
+            final int distance = distances[i];
+            if (distance != UNREACHABLE && distance <= maxDistance) {
+                visitor.visit(i % SIZE, i / SIZE, distance);
+            }
+        }
+    }
+
+    /**
+     * Finds the reachable tile closest to the target, for when the target itself can't be walked to. Ties are broken
+     * by the walking distance from the origin.
+     *
+     * @return the closest reachable tile, or null if none is within {@code maxDistance} steps of the origin
+     */
+    public WorldPoint getNearestReachable(WorldPoint target, int maxDistance) {
+        final int index = toIndex(target);
+        final int targetX;
+        final int targetY;
+        if (index != -1) {
+            targetX = index % SIZE;
+            targetY = index / SIZE;
+        } else if (!scene.isInstance()) {
+            // Off scene, the closest reachable tile is on the edge of the scene towards the target
+            targetX = target.getX() - scene.getBaseX();
+            targetY = target.getY() - scene.getBaseY();
+        } else {
+            return null;
+        }
+
+        int best = -1;
+        int bestTargetDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < distances.length; i++) {
+            final int distance = distances[i];
+            if (distance == UNREACHABLE || distance > maxDistance) {
+                continue;
+            }
+            final int targetDistance = Math.max(Math.abs(i % SIZE - targetX), Math.abs(i / SIZE - targetY));
+            if (targetDistance < bestTargetDistance
+                    || (targetDistance == bestTargetDistance && distance < distances[best])) {
+                best = i;
+                bestTargetDistance = targetDistance;
+            }
+        }
+        return best == -1 ? null : toWorld(best % SIZE, best / SIZE);
+    }
+
+    /**
+     * Collects the tiles reachable in at most {@code maxDistance} steps, keyed by world point, in the form of
+     * {@link Rs2Tile#getReachableTilesFromTile(WorldPoint, int)}.
+     */
+    public HashMap<WorldPoint, Integer> toMap(int maxDistance) {
+        final HashMap<WorldPoint, Integer> tiles = new HashMap<>();
+        forEachReachable(maxDistance, (x, y, distance) -> tiles.put(toWorld(x, y), distance));
+        return tiles;
+    }
+
+    /**
+     * @return the world point of a scene tile, the template tile in an instance
+     */
+    public WorldPoint toWorld(int sceneX, int sceneY) {
+        if (scene.isInstance()) {
+            return WorldPoint.fromLocalInstance(scene, LocalPoint.fromScene(sceneX, sceneY, scene), plane);
+        }
+        return new WorldPoint(scene.getBaseX() + sceneX, scene.getBaseY() + sceneY, plane);
+    }
+
+    /**
+     * @return the index of the world point's scene tile, or -1 if it isn't in the scene on the plane
+     */
+    private int toIndex(WorldPoint worldPoint) {
+        return toIndex(scene, plane, worldPoint);
+    }
+
+    static int toIndex(Scene scene, int plane, WorldPoint worldPoint) {
+        if (worldPoint == null) {
+            return -1;
+        }
+        if (!scene.isInstance()) {
+            return worldPoint.getPlane() == plane
+                    ? toIndex(worldPoint.getX() - scene.getBaseX(), worldPoint.getY() - scene.getBaseY())
+                    : -1;
+        }
+
+        // A template tile can be copied into the instance more than once; prefer a copy on this plane
+        int fallback = -1;
+        for (WorldPoint instancePoint : WorldPoint.toLocalInstance(scene, worldPoint)) {
+            final int index = toIndex(instancePoint.getX() - scene.getBaseX(), instancePoint.getY() - scene.getBaseY());
+            if (index == -1) {
+                continue;
+            }
+            if (instancePoint.getPlane() == plane) {
+                return index;
+            }
+            if (fallback == -1) {
+                fallback = index;
+            }
+        }
+        return fallback;
+    }
+
+    static int toIndex(int sceneX, int sceneY) {
+        return isInScene(sceneX, sceneY) ? index(sceneX, sceneY) : -1;
+    }
+}
@@ -7,7 +7,6 @@ import net.runelite.api.Point;
 import net.runelite.api.*;
 import net.runelite.api.annotations.Component;
 import net.runelite.api.coords.LocalPoint;
-import net.runelite.api.coords.WorldArea;
 import net.runelite.api.coords.WorldPoint;
 import net.runelite.api.widgets.ComponentID;
 import net.runelite.api.widgets.Widget;
@@ -36,7 +35,9 @@ import net.runelite.client.plugins.microbot.util.npc.Rs2NpcModel;
 import net.runelite.client.plugins.microbot.util.player.Rs2Player;
 import net.runelite.client.plugins.microbot.util.player.Rs2Pvp;
 import net.runelite.client.plugins.microbot.util.tabs.Rs2Tab;
+import net.runelite.client.plugins.microbot.util.tile.Rs2Reachability;
 import net.runelite.client.plugins.microbot.util.tile.Rs2Tile;
+import net.runelite.client.plugins.microbot.util.tile.TileDistanceField;
 import net.runelite.client.plugins.microbot.util.widget.Rs2Widget;
 import net.runelite.client.plugins.skillcalculator.skills.MagicAction;
 import net.runelite.client.ui.overlay.worldmap.WorldMapPoint;
@@ -100,7 +101,7 @@ public class Rs2Walker {
      * @return
      */
     public static WalkerState walkWithState(WorldPoint target, int distance) {
-        if (Rs2Tile.getReachableTilesFromTile(Rs2Player.getWorldLocation(), distance).containsKey(target)
+        if (Rs2Reachability.isReachable(Rs2Player.getWorldLocation(), target, distance)
                 || !Rs2Tile.isWalkable(LocalPoint.fromWorld(Microbot.getClient().getTopLevelWorldView(), target)) && Rs2Player.getWorldLocation().distanceTo(target) <= distance) {
             return WalkerState.ARRIVED;
         }
@@ -283,7 +284,7 @@ public class Rs2Walker {
                         System.out.println("cancel instead of recalculate");
                         setTarget(null);
                     } else {
-                        recalculatePath();
+                        repairPath();
                     }
                     break;
                 }
@@ -548,27 +549,13 @@ public class Rs2Walker {
 
     /**
      * Gets the total amount of tiles to travel to destination
+     * Targets in the loaded scene are answered from its collision flags, see {@link TieredReachability}
      * @param start source
      * @param destination destination
      * @return total amount of tiles
      */
     public static int getTotalTiles(WorldPoint start, WorldPoint destination) {
-        if (ShortestPathPlugin.getPathfinderConfig().getTransports().isEmpty()) {
-            ShortestPathPlugin.getPathfinderConfig().refresh();
-        }
-        Pathfinder pathfinder = new Pathfinder(ShortestPathPlugin.getPathfinderConfig(), start, destination);
-
-        pathfinder.run();
-        List<WorldPoint> path = pathfinder.getPath();
-
-        if (path.isEmpty() || path.get(path.size() - 1).getPlane() != destination.getPlane()) return Integer.MAX_VALUE;
-        WorldArea pathArea = new WorldArea(path.get(path.size() - 1), 2, 2);
-        WorldArea objectArea = new WorldArea(destination, 2, 2);
-        if (!pathArea.intersectsWith2D(objectArea)) {
-            return Integer.MAX_VALUE;
-        }
-
-        return path.size();
+        return TieredReachability.getPathTiles(start, destination, 2, 2, 2, 2);
     }
 
     /**
@@ -580,32 +567,16 @@ public class Rs2Walker {
         return getTotalTiles(Rs2Player.getWorldLocation(), destination);
     }
 
-    // takes an avg 200-300 ms
     // Used mainly for agility, might have to tweak this for other stuff
+    // Only runs the pathfinder when the object isn't in the loaded scene, see TieredReachability
     public static boolean canReach(WorldPoint worldPoint, int sizeX, int sizeY, int pathSizeX, int pathSizeY) {
-        if (ShortestPathPlugin.getPathfinderConfig().getTransports().isEmpty()) {
-            ShortestPathPlugin.getPathfinderConfig().refresh();
-        }
-        Pathfinder pathfinder = new Pathfinder(ShortestPathPlugin.getPathfinderConfig(), Rs2Player.getWorldLocation(), worldPoint);
-        pathfinder.run();
-        WorldArea pathArea = new WorldArea(pathfinder.getPath().get(pathfinder.getPath().size() - 1), pathSizeX, pathSizeY);
-        WorldArea objectArea = new WorldArea(worldPoint, sizeX + 2, sizeY + 2);
-        return pathArea
-                .intersectsWith2D(objectArea);
+        return TieredReachability.canReach(Rs2Player.getWorldLocation(), worldPoint, sizeX + 2, sizeY + 2, pathSizeX, pathSizeY);
     }
 
-    // takes an avg 200-300 ms
     // Used mainly for agility, might have to tweak this for other stuff
+    // Only runs the pathfinder when the object isn't in the loaded scene, see TieredReachability
     public static boolean canReach(WorldPoint worldPoint, int sizeX, int sizeY) {
-        if (ShortestPathPlugin.getPathfinderConfig().getTransports().isEmpty()) {
-            ShortestPathPlugin.getPathfinderConfig().refresh();
-        }
-        Pathfinder pathfinder = new Pathfinder(ShortestPathPlugin.getPathfinderConfig(), Rs2Player.getWorldLocation(), worldPoint);
-        pathfinder.run();
-        WorldArea pathArea = new WorldArea(pathfinder.getPath().get(pathfinder.getPath().size() - 1), 3, 3);
-        WorldArea objectArea = new WorldArea(worldPoint, sizeX + 2, sizeY + 2);
-        return pathArea
-                .intersectsWith2D(objectArea);
+        return TieredReachability.canReach(Rs2Player.getWorldLocation(), worldPoint, sizeX + 2, sizeY + 2, 3, 3);
     }
 
     /**
@@ -615,17 +586,7 @@ public class Rs2Walker {
      * @return
      */
     public static boolean canReach(WorldPoint worldPoint) {
-        if (ShortestPathPlugin.getPathfinderConfig().getTransports().isEmpty()) {
-            ShortestPathPlugin.getPathfinderConfig().refresh();
-        }
-        Pathfinder pathfinder = new Pathfinder(ShortestPathPlugin.getPathfinderConfig(), Rs2Player.getWorldLocation(), worldPoint);
-        pathfinder.run();
-        List<WorldPoint> path = pathfinder.getPath();
-        if (path.isEmpty() || path.get(path.size() - 1).getPlane() != worldPoint.getPlane()) return false;
-        WorldArea pathArea = new WorldArea(path.get(path.size() - 1), 2, 2);
-        WorldArea objectArea = new WorldArea(worldPoint, 2, 2);
-        return pathArea
-                .intersectsWith2D(objectArea);
+        return TieredReachability.canReach(Rs2Player.getWorldLocation(), worldPoint, 2, 2, 2, 2);
     }
 
     /**
@@ -981,44 +942,52 @@ public static List<WorldPoint> getWalkPath(WorldPoint target) {
      * @return closest tile index
      */
     public static int getClosestTileIndex(List<WorldPoint> path) {
+        WorldPoint playerLocation = Rs2Player.getWorldLocation();
+        int index = getClosestReachableIndex(path, Rs2Reachability.getDistanceField(playerLocation), 20);
 
-        var tiles = Rs2Tile.getReachableTilesFromTile(Rs2Player.getWorldLocation(), 20);
-
-        //Exception to handle objects that handle long animations or walk
         /**
          * Exception to handle objects that handle long animations or walk
          * ignore colission if we did not find a valid tile to walk on
          * this is to ensure we stay on the path even if we are on a agility obstacle
          */
-        if (tiles.keySet().isEmpty()) {
-            tiles = Rs2Tile.getReachableTilesFromTileIgnoreCollision(Rs2Player.getWorldLocation(), 20);
+        if (index == -1) {
+            index = getClosestReachableIndex(path, Rs2Reachability.getDistanceField(playerLocation, true), 20);
         }
-        final HashMap<WorldPoint, Integer> _tiles = tiles;
-
-        WorldPoint startPoint = path.stream()
-                .min(Comparator.comparingInt(a -> _tiles.getOrDefault(a, Integer.MAX_VALUE)))
-                .orElse(null);
-
-        boolean noMatchingTileFound = path.stream()
-                .allMatch(a -> _tiles.getOrDefault(a, Integer.MAX_VALUE) == Integer.MAX_VALUE);
 
         /**
-         * Check if the startPoint is null or no matching tile is found
-         * If either condition is true, proceed to find the closest index in the path list.
+         * If no tile of the path is reachable, proceed to find the closest index in the path list.
          */
-        if (startPoint == null || noMatchingTileFound) {
-            Optional<Integer> closestIndexOptional = IntStream.range(0, path.size())
-                    .boxed()
-                    .min(Comparator.comparingInt(i -> Rs2Player.getWorldLocation().distanceTo(path.get(i))));
-            if (closestIndexOptional.isPresent()) {
-                return closestIndexOptional.get();
+        if (index == -1) {
+            int closestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < path.size(); i++) {
+                int distance = playerLocation.distanceTo(path.get(i));
+                if (distance < closestDistance) {
+                    closestDistance = distance;
+                    index = i;
+                }
             }
         }
 
-        return IntStream.range(0, path.size())
-                .filter(i -> path.get(i).equals(startPoint))
-                .findFirst()
-                .orElse(-1);
+        return index;
+    }
+
+    /**
+     * @return the index of the first path tile with the shortest walking distance, or -1 if none is within maxDistance
+     */
+    private static int getClosestReachableIndex(List<WorldPoint> path, TileDistanceField field, int maxDistance) {
+        if (field == null) {
+            return -1;
+        }
+        int index = -1;
+        int closestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < path.size(); i++) {
+            int distance = field.getDistance(path.get(i));
+            if (distance != TileDistanceField.UNREACHABLE && distance <= maxDistance && distance < closestDistance) {
+                closestDistance = distance;
+                index = i;
+            }
+        }
+        return index;
     }
 
     /**
@@ -1030,6 +999,39 @@ public static List<WorldPoint> getWalkPath(WorldPoint target) {
         Rs2Walker.setTarget(_currentTarget);
     }
 
+    /**
+     * Repairs the current path from the player's location instead of recalculating it to the target.
+     * Only a way back onto the next part of the path is searched for.
+     */
+    public static void repairPath() {
+        repairPath(Collections.emptySet());
+    }
+
+    /**
+     * Repairs the current path from the player's location, avoiding tiles of the path that can no longer be used.
+     * Falls back to {@link #recalculatePath()} if there is no finished path to repair.
+     *
+     * @param blocked tiles of the path that can no longer be walked through, e.g. the origin of a failed transport
+     */
+    public static void repairPath(Collection<WorldPoint> blocked) {
+        Pathfinder previous = ShortestPathPlugin.getPathfinder();
+        if (currentTarget == null || previous == null || !previous.isDone() || Microbot.getClient().isClientThread()) {
+            recalculatePath();
+            return;
+        }
+
+        synchronized (ShortestPathPlugin.getPathfinderMutex()) {
+            if (ShortestPathPlugin.getPathfindingExecutor() == null) {
+                ThreadFactory shortestPathNaming = new ThreadFactoryBuilder().setNameFormat("shortest-path-%d").build();
+                ShortestPathPlugin.setPathfindingExecutor(Executors.newSingleThreadExecutor(shortestPathNaming));
+            }
+
+            Pathfinder pathfinder = Pathfinder.repair(previous, Rs2Player.getWorldLocation(), blocked);
+            ShortestPathPlugin.setPathfinder(pathfinder);
+            ShortestPathPlugin.setPathfinderFuture(ShortestPathPlugin.getPathfindingExecutor().submit(pathfinder));
+        }
+    }
+
     /**
      * @param target
      */
@@ -1692,14 +1694,7 @@ public static List<WorldPoint> getWalkPath(WorldPoint target) {
             return true;
         }
 
-        var reachableTiles = Rs2Tile.getReachableTilesFromTile(Rs2Player.getWorldLocation(), config.recalculateDistance() - 1);
-        for (WorldPoint point : ShortestPathPlugin.getPathfinder().getPath()) {
-            if (reachableTiles.containsKey(point)) {
-                return true;
-            }
-        }
-
-        return false;
+        return Rs2Reachability.isAnyReachable(Rs2Player.getWorldLocation(), ShortestPathPlugin.getPathfinder().getPath(), config.recalculateDistance() - 1);
     }
 
     private static void checkIfStuck() {
@@ -2168,7 +2163,7 @@ public static List<WorldPoint> getWalkPath(WorldPoint target) {
             if (Rs2GameObject.interact(fairyRing, "Configure")) {
                 Rs2Player.waitForWalking();
             } else {
-                recalculatePath();
+                repairPath(Set.of(transport.getOrigin()));
             }
         }
     }
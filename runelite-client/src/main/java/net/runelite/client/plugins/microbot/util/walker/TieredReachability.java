@@ -0,0 +1,150 @@
+package net.runelite.client.plugins.microbot.util.walker;
+
+import lombok.Value;
+import net.runelite.api.coords.WorldArea;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.ShortestPathPlugin;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.Pathfinder;
+import net.runelite.client.plugins.microbot.shortestpath.pathfinder.PathfinderConfig;
+import net.runelite.client.plugins.microbot.util.tile.Rs2Reachability;
+import net.runelite.client.plugins.microbot.util.tile.TileDistanceField;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers whether a target can be walked to, and how long the walk is, for {@link Rs2Walker#canReach} and
+ * {@link Rs2Walker#getTotalTiles}.
+ * <p>
+ * Targets in the loaded scene are answered from the scene's collision flags, using the cached distance field of the
+ * start tile. The global pathfinder is only run when the target is off the scene, or when it couldn't be reached
+ * within the scene but a transport, like a door, starts on a reachable tile, so the pathfinder may find a way round.
+ * <p>
+ * Scene answers aren't kept, since the distance field is already cached until the scene's collision flags change.
+ * Pathfinder answers only depend on the pathfinder's transports and settings, so they are kept until those change,
+ * and not dropped whenever an object spawns or despawns in the scene.
+ */
+public class TieredReachability {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final int MAX_CACHED_RESULTS = 1024;
+    private static final int OFF_SCENE = -1;
+
+    private static final Object lock = new Object();
+    private static final Map<Query, Integer> globalResults = new ConcurrentHashMap<>();
+    private static int resultsConfigHash;
+
+    @Value
+    private static class Query {
+        WorldPoint start;
+        WorldPoint target;
+        int width;
+        int height;
+        int pathSizeX;
+        int pathSizeY;
+    }
+
+    /**
+     * Gets the length of the path from start to the target area. The path ends at a tile whose
+     * {@code pathSizeX} by {@code pathSizeY} area, from the tile towards the north east, intersects the
+     * {@code width} by {@code height} area of the target.
+     *
+     * @return the number of tiles on the path, including the start, or {@link #UNREACHABLE}
+     */
+    public static int getPathTiles(WorldPoint start, WorldPoint target, int width, int height, int pathSizeX, int pathSizeY) {
+        final PathfinderConfig config = ShortestPathPlugin.getPathfinderConfig();
+        if (config.getTransports().isEmpty()) {
+            config.refresh();
+        }
+
+        final Query query = new Query(start, target, width, height, pathSizeX, pathSizeY);
+        final int tiles = getSceneTiles(config, query);
+        if (tiles != OFF_SCENE) {
+            return tiles;
+        }
+
+        final int configHash = config.getConfigHash();
+        synchronized (lock) {
+            if (resultsConfigHash != configHash || globalResults.size() >= MAX_CACHED_RESULTS) {
+                globalResults.clear();
+                resultsConfigHash = configHash;
+            }
+        }
+
+        final Integer cached = globalResults.get(query);
+        if (cached != null) {
+            return cached;
+        }
+        final int globalTiles = getGlobalTiles(config, query);
+        globalResults.put(query, globalTiles);
+        return globalTiles;
+    }
+
+    /**
+     * @return whether the path from start can reach the target area, see {@link #getPathTiles}
+     */
+    public static boolean canReach(WorldPoint start, WorldPoint target, int width, int height, int pathSizeX, int pathSizeY) {
+        return getPathTiles(start, target, width, height, pathSizeX, pathSizeY) != UNREACHABLE;
+    }
+
+    private static int getSceneTiles(PathfinderConfig config, Query query) {
+        final TileDistanceField field = Rs2Reachability.getDistanceField(query.start, false, true);
+        final WorldPoint target = query.target;
+        if (field == null || target.getPlane() != field.getPlane()) {
+            return OFF_SCENE;
+        }
+
+        // The tiles whose path area intersects the target area
+        final int minX = target.getX() - query.pathSizeX + 1;
+        final int minY = target.getY() - query.pathSizeY + 1;
+        final int maxX = target.getX() + query.width - 1;
+        final int maxY = target.getY() + query.height - 1;
+        if (!field.contains(new WorldPoint(minX, minY, target.getPlane()))
+                || !field.contains(new WorldPoint(maxX, maxY, target.getPlane()))) {
+            return OFF_SCENE;
+        }
+
+        int shortest = TileDistanceField.UNREACHABLE;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                final int distance = field.getDistance(new WorldPoint(x, y, target.getPlane()));
+                if (distance != TileDistanceField.UNREACHABLE && (shortest == TileDistanceField.UNREACHABLE || distance < shortest)) {
+                    shortest = distance;
+                }
+            }
+        }
+        if (shortest != TileDistanceField.UNREACHABLE) {
+            return shortest + 1;
+        }
+
+        // Instances aren't in the pathfinder's collision map, so the scene is all there is to search
+        if (!field.isInstance()) {
+            for (WorldPoint origin : config.getTransports().keySet()) {
+                if (field.isReachable(origin)) {
+                    return OFF_SCENE;
+                }
+            }
+        }
+        return UNREACHABLE;
+    }
+
+    private static int getGlobalTiles(PathfinderConfig config, Query query) {
+        final List<WorldPoint> path;
+        if (ShortestPathPlugin.getPathfindingService() != null) {
+            // Shares the pathfinding pool and cached paths with other distance checks
+            path = ShortestPathPlugin.getPathfindingService().findPath(query.start, query.target).join();
+        } else {
+            final Pathfinder pathfinder = new Pathfinder(config, query.start, query.target);
+            pathfinder.run();
+            path = pathfinder.getPath();
+        }
+
+        if (path.isEmpty() || path.get(path.size() - 1).getPlane() != query.target.getPlane()) {
+            return UNREACHABLE;
+        }
+        final WorldArea pathArea = new WorldArea(path.get(path.size() - 1), query.pathSizeX, query.pathSizeY);
+        final WorldArea targetArea = new WorldArea(query.target, query.width, query.height);
+        return pathArea.intersectsWith2D(targetArea) ? path.size() : UNREACHABLE;
+    }
+}
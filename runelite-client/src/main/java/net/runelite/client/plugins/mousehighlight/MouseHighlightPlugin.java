@@ -34,7 +34,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 @PluginDescriptor(
 	name = "Mouse Tooltips",
 	description = "Render default actions as a tooltip",
-	tags = {"actions", "overlay"}
+	tags = {"actions", "overlay"},
+	deferStartup = true
 )
 public class MouseHighlightPlugin extends Plugin
 {
@@ -34,7 +34,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 @PluginDescriptor(
 	name = "Rune Pouch",
 	description = "Show the contents of your rune pouch",
-	tags = {"combat", "magic", "overlay"}
+	tags = {"combat", "magic", "overlay"},
+	deferStartup = true
 )
 public class RunepouchPlugin extends Plugin
 {
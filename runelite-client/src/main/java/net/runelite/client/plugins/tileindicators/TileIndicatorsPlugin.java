@@ -35,7 +35,8 @@ import net.runelite.client.ui.overlay.OverlayManager;
 	name = "Tile Indicators",
 	description = "Highlight the tile you are currently moving to",
 	tags = {"highlight", "overlay"},
-	enabledByDefault = false
+	enabledByDefault = false,
+	deferStartup = true
 )
 public class TileIndicatorsPlugin extends Plugin
 {
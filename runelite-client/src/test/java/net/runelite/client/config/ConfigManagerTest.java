@@ -29,6 +29,8 @@ import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -40,7 +42,9 @@ import net.runelite.client.eventbus.EventBus;
 import org.junit.Assert;
 import static org.junit.Assert.assertNotNull;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -52,6 +56,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigManagerTest
 {
+	// ids of clients which aren't running, and of this one
+	private static final long CRASHED_PID = Long.MAX_VALUE;
+	private static final long OTHER_CRASHED_PID = Long.MAX_VALUE - 1;
+	private static final long RUNNING_PID = ProcessHandle.current().pid();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Mock
 	@Bind
 	EventBus eventBus;
@@ -186,4 +198,126 @@ public class ConfigManagerTest
 			Assert.assertEquals(split[2], test[2]);
 		}
 	}
+
+	@Test
+	public void testJournalReplay() throws IOException
+	{
+		File configFile = folder.newFile("settings.properties");
+		ConfigData crashed = new ConfigData(configFile, CRASHED_PID);
+		crashed.setProperty("kept", "1");
+		crashed.setProperty("removed", "1");
+		crashed.patch(crashed.swapChanges());
+
+		crashed.setProperty("kept", "2");
+		crashed.unset("removed");
+		crashed.setProperty("added", "2");
+		crashed.flushJournal();
+
+		ConfigData data = new ConfigData(configFile, RUNNING_PID);
+		Assert.assertEquals("2", data.getProperty("kept"));
+		Assert.assertNull(data.getProperty("removed"));
+		Assert.assertEquals("2", data.getProperty("added"));
+
+		// the replayed changes are saved with the next patch, which deletes the replayed journal
+		data.patch(data.swapChanges());
+		Assert.assertEquals(0, journals(configFile, CRASHED_PID).length);
+		Assert.assertEquals(data.get(), new ConfigData(configFile, RUNNING_PID).get());
+	}
+
+	@Test
+	public void testJournalReplayAfterOtherClientSaved() throws IOException, InterruptedException
+	{
+		File configFile = folder.newFile("settings.properties");
+		ConfigData crashed = new ConfigData(configFile, CRASHED_PID);
+		ConfigData other = new ConfigData(configFile, RUNNING_PID);
+		crashed.setProperty("unsaved", "1");
+		crashed.setProperty("key", "old");
+		crashed.flushJournal();
+
+		// another client saved its own changes after the crash, including a newer value of one key
+		Thread.sleep(5);
+		other.setProperty("other", "1");
+		other.setProperty("key", "new");
+		other.patch(other.swapChanges());
+
+		ConfigData data = new ConfigData(configFile, RUNNING_PID);
+		Assert.assertEquals("1", data.getProperty("unsaved"));
+		Assert.assertEquals("1", data.getProperty("other"));
+		Assert.assertEquals("new", data.getProperty("key"));
+		Assert.assertEquals(Collections.singletonMap("unsaved", "1"), data.swapChanges());
+	}
+
+	@Test
+	public void testJournalReplayOfExitedClientWithSamePid() throws IOException
+	{
+		File configFile = folder.newFile("settings.properties");
+		ConfigData crashed = new ConfigData(configFile, CRASHED_PID);
+		crashed.setProperty("key", "1");
+		crashed.flushJournal();
+
+		// left by an earlier process which had the id of this one
+		File journal = journals(configFile, CRASHED_PID)[0];
+		File samePid = new File(configFile.getParentFile(), configFile.getName() + "." + RUNNING_PID + "." + Integer.MAX_VALUE + ".journal");
+		Assert.assertTrue(journal.renameTo(samePid));
+
+		ConfigData data = new ConfigData(configFile, RUNNING_PID);
+		Assert.assertEquals("1", data.getProperty("key"));
+		data.patch(data.swapChanges());
+		Assert.assertFalse(samePid.exists());
+		Assert.assertEquals("1", new ConfigData(configFile, RUNNING_PID).getProperty("key"));
+	}
+
+	@Test
+	public void testJournalCompaction() throws IOException
+	{
+		File configFile = folder.newFile("settings.properties");
+		ConfigData crashed = new ConfigData(configFile, CRASHED_PID);
+		crashed.setProperty("saved", "1");
+		crashed.flushJournal();
+		Assert.assertTrue(journals(configFile, CRASHED_PID)[0].length() > 0);
+
+		Map<String, String> patch = crashed.swapChanges();
+		// changed while the patch is saved
+		crashed.setProperty("unsaved", "1");
+		crashed.flushJournal();
+		crashed.patch(patch);
+
+		// only the change which wasn't part of the patch is left to replay
+		crashed.flushJournal();
+		ConfigData data = new ConfigData(configFile, RUNNING_PID);
+		Assert.assertEquals("1", data.getProperty("saved"));
+		Assert.assertEquals(Collections.singletonMap("unsaved", "1"), data.swapChanges());
+	}
+
+	@Test
+	public void testJournalTwoWriters() throws IOException
+	{
+		File configFile = folder.newFile("settings.properties");
+		ConfigData running = new ConfigData(configFile, RUNNING_PID);
+		ConfigData crashed = new ConfigData(configFile, CRASHED_PID);
+
+		running.setProperty("running", "1");
+		running.flushJournal();
+		crashed.setProperty("crashed", "1");
+		crashed.flushJournal();
+
+		// each client has its own journal, so saving one doesn't drop the other's changes
+		running.patch(running.swapChanges());
+		Assert.assertEquals(1, journals(configFile, CRASHED_PID).length);
+
+		running.setProperty("running", "2");
+		running.flushJournal();
+
+		// the journal of the running client is left to it
+		ConfigData data = new ConfigData(configFile, OTHER_CRASHED_PID);
+		Assert.assertEquals("1", data.getProperty("running"));
+		Assert.assertEquals("1", data.getProperty("crashed"));
+		Assert.assertEquals(Collections.singletonMap("crashed", "1"), data.swapChanges());
+	}
+
+	private static File[] journals(File configFile, long pid)
+	{
+		final String prefix = configFile.getName() + "." + pid + ".";
+		return configFile.getParentFile().listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(".journal"));
+	}
 }
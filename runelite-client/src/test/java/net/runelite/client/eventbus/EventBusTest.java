@@ -0,0 +1,158 @@
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private final List<String> calls = new ArrayList<>();
+	private EventBus eventBus;
+
+	@Before
+	public void before()
+	{
+		eventBus = new EventBus(e ->
+		{
+			throw new AssertionError(e);
+		});
+	}
+
+	@Test
+	public void testRegister()
+	{
+		eventBus.register(new Listener("a", calls));
+		eventBus.post(new TestEvent());
+
+		assertEquals(List.of("a"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		final Listener a = new Listener("a", calls);
+		final Listener b = new Listener("b", calls);
+		eventBus.register(a);
+		eventBus.register(b);
+		eventBus.unregister(a);
+		eventBus.post(new TestEvent());
+
+		assertEquals(List.of("b"), calls);
+
+		eventBus.unregister(b);
+		eventBus.post(new TestEvent());
+
+		assertEquals(List.of("b"), calls);
+	}
+
+	@Test
+	public void testUnregisterSubscriber()
+	{
+		final EventBus.Subscriber subscriber = eventBus.register(TestEvent.class, e -> calls.add("fn"), 0);
+		eventBus.post(new TestEvent());
+		eventBus.unregister(subscriber);
+		eventBus.post(new TestEvent());
+
+		assertEquals(List.of("fn"), calls);
+	}
+
+	@Test
+	public void testPriorityOrder()
+	{
+		eventBus.register(TestEvent.class, e -> calls.add("low"), -1);
+		eventBus.register(new Listener("first", calls));
+		eventBus.register(new HighPriorityListener(calls));
+		eventBus.register(new Listener("second", calls));
+		eventBus.post(new TestEvent());
+
+		// Subscribers of the same priority and class are invoked in the order they were registered
+		assertEquals(List.of("high", "first", "second", "low"), calls);
+	}
+
+	@Test
+	public void testFailedRegistration()
+	{
+		final BadListener listener = new BadListener(calls);
+		try
+		{
+			eventBus.register(listener);
+			fail("expected registration to fail");
+		}
+		catch (IllegalArgumentException e)
+		{
+			// expected
+		}
+
+		// The valid method of the object must not have been registered either
+		eventBus.post(new TestEvent());
+		assertTrue(calls.isEmpty());
+	}
+
+	public static class TestEvent
+	{
+	}
+
+	public static class OtherEvent
+	{
+	}
+
+	private static class Listener
+	{
+		private final String name;
+		private final List<String> calls;
+
+		Listener(String name, List<String> calls)
+		{
+			this.name = name;
+			this.calls = calls;
+		}
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add(name);
+		}
+	}
+
+	private static class HighPriorityListener
+	{
+		private final List<String> calls;
+
+		HighPriorityListener(List<String> calls)
+		{
+			this.calls = calls;
+		}
+
+		@Subscribe(priority = 1)
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("high");
+		}
+	}
+
+	private static class BadListener
+	{
+		private final List<String> calls;
+
+		BadListener(List<String> calls)
+		{
+			this.calls = calls;
+		}
+
+		@Subscribe
+		public void onTestEvent(TestEvent event)
+		{
+			calls.add("bad");
+		}
+
+		@Subscribe
+		public void onWrongName(OtherEvent event)
+		{
+			calls.add("wrong name");
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package net.runelite.client.game;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import net.runelite.api.Constants;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ItemImageDiskCacheTest
+{
+	private static final int REVISION = 230;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File directory;
+
+	@Before
+	public void before()
+	{
+		directory = new File(folder.getRoot(), "item-images");
+	}
+
+	@Test
+	public void testReadWrite()
+	{
+		ItemImageDiskCache cache = new ItemImageDiskCache(directory, Long.MAX_VALUE);
+		assertFalse(cache.read(REVISION, 1, image(0)));
+
+		cache.write(REVISION, 1, image(0xFF00FF00));
+
+		BufferedImage img = image(0);
+		assertTrue(cache.read(REVISION, 1, img));
+		assertEquals(0xFF00FF00, img.getRGB(0, 0));
+
+		// the images on disk are found after a restart
+		img = image(0);
+		assertTrue(new ItemImageDiskCache(directory, Long.MAX_VALUE).read(REVISION, 1, img));
+		assertEquals(0xFF00FF00, img.getRGB(0, 0));
+	}
+
+	@Test
+	public void testEvictsLeastRecentlyUsed()
+	{
+		ItemImageDiskCache cache = new ItemImageDiskCache(new File(folder.getRoot(), "measure"), Long.MAX_VALUE);
+		cache.write(REVISION, 1, image(0xFF000001));
+		// room for two images, but not three
+		final long maxBytes = cache.getTotalBytes() * 5 / 2;
+
+		cache = new ItemImageDiskCache(directory, maxBytes);
+		cache.write(REVISION, 1, image(0xFF000001));
+		cache.write(REVISION, 2, image(0xFF000002));
+		// 1 is now used more recently than 2
+		assertTrue(cache.read(REVISION, 1, image(0)));
+
+		cache.write(REVISION, 3, image(0xFF000003));
+
+		assertTrue(cache.getTotalBytes() <= maxBytes);
+		assertTrue(cache.read(REVISION, 1, image(0)));
+		assertFalse(cache.read(REVISION, 2, image(0)));
+		assertTrue(cache.read(REVISION, 3, image(0)));
+		assertFalse(new File(directory, REVISION + "/2.png").exists());
+	}
+
+	@Test
+	public void testNewRevisionDeletesOldImages()
+	{
+		ItemImageDiskCache cache = new ItemImageDiskCache(directory, Long.MAX_VALUE);
+		cache.write(REVISION, 1, image(0xFF000001));
+		assertTrue(new File(directory, Integer.toString(REVISION)).isDirectory());
+
+		assertFalse(cache.read(REVISION + 1, 1, image(0)));
+		assertFalse(new File(directory, Integer.toString(REVISION)).exists());
+		assertEquals(0, cache.getTotalBytes());
+
+		cache.write(REVISION + 1, 1, image(0xFF000002));
+		BufferedImage img = image(0);
+		assertTrue(cache.read(REVISION + 1, 1, img));
+		assertEquals(0xFF000002, img.getRGB(0, 0));
+	}
+
+	private static BufferedImage image(int argb)
+	{
+		BufferedImage img = new BufferedImage(Constants.ITEM_SPRITE_WIDTH, Constants.ITEM_SPRITE_HEIGHT, BufferedImage.TYPE_INT_ARGB);
+		for (int x = 0; x < img.getWidth(); ++x)
+		{
+			for (int y = 0; y < img.getHeight(); ++y)
+			{
+				img.setRGB(x, y, argb);
+			}
+		}
+		return img;
+	}
+}
@@ -28,7 +28,10 @@ import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.List;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import javax.inject.Named;
 import net.runelite.api.Client;
 import net.runelite.api.gameval.ItemID;
@@ -39,7 +42,12 @@ import static org.junit.Assert.assertEquals;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -95,4 +103,80 @@ public class ItemManagerTest
 		itemPrice.setWikiPrice(300_000); // outside of 5x range
 		assertEquals(itemPrice.getPrice(), itemManager.getWikiPrice(itemPrice));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testSearch() throws Exception
+	{
+		loadPrices(
+			price(ItemID.ABYSSAL_WHIP, "Abyssal whip"),
+			price(ItemID.ABYSSAL_DAGGER, "Abyssal dagger"),
+			price(ItemID.RUNE_DAGGER, "Rune dagger"),
+			price(ItemID.BRONZE_DAGGER, "Bronze dagger"),
+			price(ItemID.CHEFS_DELIGHT, "Crème brûlée"));
+
+		// in load order
+		assertEquals(List.of(ItemID.ABYSSAL_DAGGER, ItemID.RUNE_DAGGER, ItemID.BRONZE_DAGGER), ids(itemManager.search("DAGGER")));
+		assertEquals(List.of(ItemID.ABYSSAL_WHIP, ItemID.ABYSSAL_DAGGER), ids(itemManager.search("abyssal")));
+		assertEquals(List.of(ItemID.ABYSSAL_WHIP), ids(itemManager.search("l w")));
+		// shorter than a trigram
+		assertEquals(List.of(ItemID.ABYSSAL_WHIP), ids(itemManager.search("wh")));
+		assertEquals(List.of(ItemID.CHEFS_DELIGHT), ids(itemManager.search("BRÛLÉE")));
+		assertEquals(List.of(), ids(itemManager.search("dragon dagger")));
+	}
+
+	@Test
+	public void testSearchPrefix() throws Exception
+	{
+		loadPrices(
+			price(ItemID.RUNE_DAGGER, "Rune dagger"),
+			price(ItemID.RUNE_AXE, "Rune axe"),
+			price(ItemID.ABYSSAL_WHIP, "Abyssal whip"),
+			price(ItemID.RUNE_SWORD, "Rune sword"),
+			// same name as the rune axe
+			price(ItemID.RUNE_PICKAXE, "Rune axe"),
+			price(ItemID.CHEFS_DELIGHT, "Crème brûlée"));
+
+		// by name, and in load order for equal names
+		assertEquals(List.of(ItemID.RUNE_AXE, ItemID.RUNE_PICKAXE, ItemID.RUNE_DAGGER, ItemID.RUNE_SWORD),
+			ids(itemManager.searchPrefix("rune", 10)));
+		assertEquals(List.of(ItemID.RUNE_AXE, ItemID.RUNE_PICKAXE), ids(itemManager.searchPrefix("RUNE ", 2)));
+		assertEquals(List.of(ItemID.CHEFS_DELIGHT), ids(itemManager.searchPrefix("crè", 10)));
+		assertEquals(List.of(), ids(itemManager.searchPrefix("runes", 10)));
+	}
+
+	@Test
+	public void testGetItemIdByName() throws Exception
+	{
+		loadPrices(
+			price(ItemID.RUNE_AXE, "Rune axe"),
+			price(ItemID.RUNE_PICKAXE, "Rune axe"),
+			price(ItemID.CHEFS_DELIGHT, "Crème brûlée"));
+
+		// the first loaded item with the name
+		assertEquals(ItemID.RUNE_AXE, itemManager.getItemIdByName("rune AXE"));
+		assertEquals(ItemID.CHEFS_DELIGHT, itemManager.getItemIdByName("CRÈME BRÛLÉE"));
+		assertEquals(-1, itemManager.getItemIdByName("Rune"));
+	}
+
+	private void loadPrices(ItemPrice... prices) throws Exception
+	{
+		when(itemClient.getPrices()).thenReturn(prices);
+
+		ArgumentCaptor<Runnable> loadPrices = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduledExecutorService).scheduleWithFixedDelay(loadPrices.capture(), anyLong(), anyLong(), eq(TimeUnit.MINUTES));
+		loadPrices.getValue().run();
+	}
+
+	private static ItemPrice price(int id, String name)
+	{
+		ItemPrice itemPrice = new ItemPrice();
+		itemPrice.setId(id);
+		itemPrice.setName(name);
+		return itemPrice;
+	}
+
+	private static List<Integer> ids(List<ItemPrice> prices)
+	{
+		return prices.stream().map(ItemPrice::getId).collect(Collectors.toList());
+	}
+}
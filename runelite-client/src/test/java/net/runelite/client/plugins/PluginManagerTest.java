@@ -238,4 +238,28 @@ public class PluginManagerTest
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(2));
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(3));
 	}
+
+	@Test
+	public void testDependencyLevels()
+	{
+		MutableGraph<Integer> graph = GraphBuilder
+			.directed()
+			.build();
+
+		graph.addNode(1);
+		graph.addNode(2);
+		graph.addNode(3);
+		graph.addNode(4);
+
+		graph.putEdge(1, 2);
+		graph.putEdge(2, 3);
+		graph.putEdge(1, 3);
+
+		List<List<Integer>> levels = PluginManager.dependencyLevels(graph);
+
+		assertEquals(3, levels.size());
+		assertEquals(Set.of(1, 4), new HashSet<>(levels.get(0)));
+		assertEquals(List.of(2), levels.get(1));
+		assertEquals(List.of(3), levels.get(2));
+	}
 }
@@ -0,0 +1,162 @@
+package net.runelite.client.plugins.microbot.pluginscheduler.condition;
+
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.AndCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.LogicalCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.NotCondition;
+import net.runelite.client.plugins.microbot.pluginscheduler.condition.logical.OrCondition;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConditionEventRouterTest {
+
+    @Test
+    public void testUnrelatedEventsKeepCachedResult() {
+        VarbitLeaf a = new VarbitLeaf(1, true);
+        VarbitLeaf b = new VarbitLeaf(2, true);
+        LogicalCondition and = new AndCondition().addCondition(a).addCondition(b);
+        ConditionEventRouter router = router(and);
+
+        // A tree of another manager, routed by its own router
+        VarbitLeaf c = new VarbitLeaf(3, false);
+        ConditionEventRouter otherRouter = router(new OrCondition(c));
+
+        assertTrue(and.isSatisfied());
+        assertEquals(1, a.evaluations);
+        assertEquals(1, b.evaluations);
+
+        router.route(varbitChanged(4, 0), Condition::onVarbitChanged);
+        router.route(new GameTick(), Condition::onGameTick);
+        otherRouter.route(varbitChanged(3, 1), Condition::onVarbitChanged);
+
+        assertTrue(and.isSatisfied());
+        assertEquals(1, a.evaluations);
+        assertEquals(1, b.evaluations);
+        assertTrue(c.satisfied);
+    }
+
+    @Test
+    public void testEventDropsCachedResultOfContainingConditions() {
+        VarbitLeaf a = new VarbitLeaf(1, true);
+        VarbitLeaf b = new VarbitLeaf(2, false);
+        VarbitLeaf c = new VarbitLeaf(3, true);
+        LogicalCondition and = new AndCondition()
+                .addCondition(a)
+                .addCondition(new NotCondition(new OrCondition(b)))
+                .addCondition(c);
+        ConditionEventRouter router = router(and);
+
+        assertTrue(and.isSatisfied());
+        assertEquals(1, b.evaluations);
+
+        // b is nested, so only the OR is invalidated directly
+        router.route(varbitChanged(2, 1), Condition::onVarbitChanged);
+        assertFalse(and.isSatisfied());
+        assertEquals(2, b.evaluations);
+        assertEquals(1, c.evaluations);
+
+        router.route(varbitChanged(2, 0), Condition::onVarbitChanged);
+        assertTrue(and.isSatisfied());
+        assertEquals(3, b.evaluations);
+        assertEquals(2, c.evaluations);
+    }
+
+    @Test
+    public void testStaleOnlyAfterStructureChanges() {
+        VarbitLeaf a = new VarbitLeaf(1, true);
+        LogicalCondition or = new OrCondition(new VarbitLeaf(2, false));
+        LogicalCondition and = new AndCondition().addCondition(a).addCondition(or);
+        ConditionEventRouter router = router(and);
+
+        router.route(varbitChanged(1, 1), Condition::onVarbitChanged);
+        router.route(new GameTick(), Condition::onGameTick);
+        and.reset();
+        assertFalse(router.isStale());
+        assertFalse(and.isSatisfied());
+
+        // Added straight to the list of a nested condition
+        VarbitLeaf d = new VarbitLeaf(4, true);
+        or.getConditions().add(d);
+        assertTrue(router.isStale());
+        assertTrue(and.isSatisfied());
+
+        router = router(and);
+        assertFalse(router.isStale());
+        router.route(varbitChanged(4, 0), Condition::onVarbitChanged);
+        assertFalse(d.satisfied);
+        assertFalse(and.isSatisfied());
+    }
+
+    private static ConditionEventRouter router(Condition root) {
+        return new ConditionEventRouter(Collections.singletonList(root));
+    }
+
+    private static VarbitChanged varbitChanged(int varbitId, int value) {
+        VarbitChanged event = new VarbitChanged();
+        event.setVarpId(100 + varbitId);
+        event.setVarbitId(varbitId);
+        event.setValue(value);
+        return event;
+    }
+
+    /**
+     * Satisfied while its varbit is 1, counting how often it's evaluated.
+     */
+    private static class VarbitLeaf implements Condition {
+        private final int varbitId;
+        private boolean satisfied;
+        private int evaluations;
+
+        VarbitLeaf(int varbitId, boolean satisfied) {
+            this.varbitId = varbitId;
+            this.satisfied = satisfied;
+        }
+
+        @Override
+        public boolean isSatisfied() {
+            evaluations++;
+            return satisfied;
+        }
+
+        @Override
+        public Set<Class<?>> getEventTypes() {
+            return Collections.singleton(VarbitChanged.class);
+        }
+
+        @Override
+        public Set<Object> getEventKeys(Class<?> eventType) {
+            return Collections.singleton(ConditionEventRouter.varbitKey(varbitId));
+        }
+
+        @Override
+        public void onVarbitChanged(VarbitChanged event) {
+            satisfied = event.getValue() == 1;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Varbit " + varbitId;
+        }
+
+        @Override
+        public String getDetailedDescription() {
+            return getDescription();
+        }
+
+        @Override
+        public ConditionType getType() {
+            return ConditionType.VARBIT;
+        }
+
+        @Override
+        public void reset(boolean randomize) {
+        }
+    }
+}
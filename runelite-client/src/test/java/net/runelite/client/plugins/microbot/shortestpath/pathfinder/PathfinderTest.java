@@ -0,0 +1,137 @@
+package net.runelite.client.plugins.microbot.shortestpath.pathfinder;
+
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.plugins.microbot.shortestpath.ShortestPathConfig;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(Parameterized.class)
+public class PathfinderTest {
+    private static final WorldPoint LUMBRIDGE = new WorldPoint(3222, 3218, 0);
+    private static final WorldPoint VARROCK = new WorldPoint(3213, 3424, 0);
+    private static final WorldPoint FALADOR = new WorldPoint(2965, 3380, 0);
+    // Inside a small walled-off area east of Lumbridge that no tile outside of it leads into
+    private static final WorldPoint WALLED_OFF = new WorldPoint(3251, 3189, 0);
+
+    // Keeps the flattened collision map out of the real RuneLite cache directory
+    @ClassRule
+    public static TemporaryFolder cacheFolder = new TemporaryFolder();
+
+    private static SplitFlagMap mapData;
+
+    @Parameterized.Parameter(0)
+    public boolean useHierarchicalPathfinding;
+    @Parameterized.Parameter(1)
+    public boolean useBidirectionalSearch;
+
+    private ShortestPathConfig config;
+    private PathfinderConfig pathfinderConfig;
+
+    @Parameterized.Parameters(name = "hierarchical={0}, bidirectional={1}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(new Object[][]{
+                {false, false},
+                {true, false},
+                {false, true},
+                {true, true},
+        });
+    }
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        mapData = SplitFlagMap.fromResources(new File(cacheFolder.newFolder("shortestpath"), "collision-map.dat"));
+    }
+
+    @Before
+    public void before() {
+        // Logged out, so only walking is searched
+        Client client = mock(Client.class);
+        when(client.getGameState()).thenReturn(GameState.LOGIN_SCREEN);
+        config = mock(ShortestPathConfig.class);
+        when(config.calculationCutoff()).thenReturn(50);
+        when(config.useHierarchicalPathfinding()).thenReturn(useHierarchicalPathfinding);
+        when(config.useBidirectionalSearch()).thenReturn(useBidirectionalSearch);
+
+        pathfinderConfig = new PathfinderConfig(mapData, new HashMap<>(), Collections.emptyList(),
+                client, config);
+        pathfinderConfig.refresh();
+    }
+
+    @Test
+    public void testWalkingPath() {
+        Pathfinder pathfinder = run(new Pathfinder(pathfinderConfig, LUMBRIDGE, FALADOR));
+        List<WorldPoint> path = pathfinder.getPath();
+
+        assertTrue(pathfinder.isDone());
+        assertEquals(LUMBRIDGE, path.get(0));
+        assertEquals(FALADOR, path.get(path.size() - 1));
+        // Without transports every step is to an adjacent tile
+        for (int i = 1; i < path.size(); i++) {
+            assertEquals(1, path.get(i - 1).distanceTo(path.get(i)));
+        }
+    }
+
+    @Test
+    public void testRepairFallbackAvoidsBlockedTiles() {
+        Pathfinder previous = run(new Pathfinder(pathfinderConfig, LUMBRIDGE, VARROCK));
+        assertTrue(previous.isDone());
+
+        // A tile the plain search from Falador walks through
+        List<WorldPoint> direct = run(new Pathfinder(pathfinderConfig, FALADOR, VARROCK)).getPath();
+        WorldPoint blocked = direct.get(direct.size() / 2);
+
+        // Falador is too far from the previous path to rejoin it, so the repair falls back to a full search
+        List<WorldPoint> repaired = run(Pathfinder.repair(previous, FALADOR, Set.of(blocked))).getPath();
+
+        assertEquals(FALADOR, repaired.get(0));
+        assertEquals(VARROCK, repaired.get(repaired.size() - 1));
+        assertFalse(repaired.contains(blocked));
+    }
+
+    @Test
+    public void testBidirectionalUnreachableTarget() {
+        // Nothing gets closer to the target after the first few thousand tiles, so a short cutoff ends both searches
+        when(config.calculationCutoff()).thenReturn(1);
+        when(config.useBidirectionalSearch()).thenReturn(false);
+        pathfinderConfig.refresh();
+        List<WorldPoint> oneSided = run(new Pathfinder(pathfinderConfig, LUMBRIDGE, WALLED_OFF)).getPath();
+
+        when(config.useBidirectionalSearch()).thenReturn(true);
+        pathfinderConfig.refresh();
+        Pathfinder bidirectional = run(new Pathfinder(pathfinderConfig, LUMBRIDGE, WALLED_OFF));
+        List<WorldPoint> path = bidirectional.getPath();
+
+        // The target side runs out of tiles at once, and the start side alone finds the same closest tile
+        assertTrue(bidirectional.isDone());
+        assertFalse(oneSided.contains(WALLED_OFF));
+        assertEquals(LUMBRIDGE, path.get(0));
+        assertEquals(oneSided.get(oneSided.size() - 1), path.get(path.size() - 1));
+    }
+
+    private static Pathfinder run(Pathfinder pathfinder) {
+        pathfinder.run();
+        return pathfinder;
+    }
+}
@@ -0,0 +1,89 @@
+package net.runelite.client.plugins.microbot.util.gameobject;
+
+import net.runelite.api.Client;
+import net.runelite.api.GameObject;
+import net.runelite.api.ObjectComposition;
+import net.runelite.api.Point;
+import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
+import net.runelite.api.coords.LocalPoint;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.plugins.microbot.Microbot;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class Rs2GameObjectTest {
+    private static final int BANK_BOOTH = 10355;
+    private static final int BANK_CHEST = 10562;
+    private static final int FURNACE = 16469;
+
+    private Client client;
+
+    @Before
+    public void before() {
+        // On the client thread, so compositions are read directly
+        client = mock(Client.class);
+        when(client.isClientThread()).thenReturn(true);
+        Microbot.setClient(client);
+        Microbot.setClientThread(new ClientThread());
+
+        SceneObjectIndex.clear();
+        composition(BANK_BOOTH, "Bank booth");
+        composition(BANK_CHEST, "Bank chest");
+        composition(FURNACE, "Furnace");
+    }
+
+    @Test
+    public void testNameMatchesObjectWithoutIndexedName() {
+        // Nothing named furnace has spawned, so the name is compared instead
+        assertTrue(Rs2GameObject.nameMatches("Furnace", true).test(object(FURNACE)));
+        assertTrue(Rs2GameObject.nameMatches("furn", false).test(object(FURNACE)));
+        assertFalse(Rs2GameObject.nameMatches("Furnace", true).test(object(BANK_BOOTH)));
+    }
+
+    @Test
+    public void testNameMatchesIndexedName() {
+        spawn(BANK_BOOTH, 50, 50);
+        spawn(BANK_CHEST, 52, 50);
+
+        assertTrue(Rs2GameObject.nameMatches("bank booth", true).test(object(BANK_BOOTH)));
+        assertFalse(Rs2GameObject.nameMatches("bank booth", true).test(object(BANK_CHEST)));
+        assertTrue(Rs2GameObject.nameMatches("bank", false).test(object(BANK_BOOTH)));
+        assertTrue(Rs2GameObject.nameMatches("bank", false).test(object(BANK_CHEST)));
+        assertFalse(Rs2GameObject.nameMatches("bank", false).test(object(FURNACE)));
+    }
+
+    private void composition(int id, String name) {
+        ObjectComposition composition = mock(ObjectComposition.class);
+        when(composition.getName()).thenReturn(name);
+        when(client.getObjectDefinition(id)).thenReturn(composition);
+    }
+
+    private static TileObject object(int id) {
+        TileObject object = mock(TileObject.class);
+        when(object.getId()).thenReturn(id);
+        return object;
+    }
+
+    private static void spawn(int id, int sceneX, int sceneY) {
+        Point sceneLocation = new Point(sceneX, sceneY);
+        Tile tile = mock(Tile.class);
+        when(tile.getSceneLocation()).thenReturn(sceneLocation);
+
+        GameObject gameObject = mock(GameObject.class);
+        when(gameObject.getId()).thenReturn(id);
+        when(gameObject.getSceneMinLocation()).thenReturn(sceneLocation);
+        when(gameObject.getLocalLocation()).thenReturn(LocalPoint.fromScene(sceneX, sceneY));
+
+        GameObjectSpawned event = new GameObjectSpawned();
+        event.setTile(tile);
+        event.setGameObject(gameObject);
+        SceneObjectIndex.onGameObjectSpawned(event);
+    }
+}
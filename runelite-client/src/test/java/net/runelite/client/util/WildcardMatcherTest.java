@@ -24,6 +24,8 @@
  */
 package net.runelite.client.util;
 
+import java.util.regex.Pattern;
+import static net.runelite.client.util.WildcardMatcher.compile;
 import static net.runelite.client.util.WildcardMatcher.matches;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -41,4 +43,14 @@ public class WildcardMatcherTest
 		assertTrue(matches("Abyssal whip", "Abyssal whip"));
 		assertTrue(matches("string $ with special character", "string $ with special character"));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testCompile()
+	{
+		Pattern pattern = compile("*rune*");
+		assertTrue(pattern.matcher("Nature rune").matches());
+		assertTrue(pattern.matcher("RUNE PLATEBODY").matches());
+		assertFalse(pattern.matcher("Abyssal whip").matches());
+		assertTrue(compile("string (with) [regex] chars").matcher("String (with) [regex] chars").matches());
+	}
+}
@@ -0,0 +1,154 @@
+package net.runelite.mvn;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Writes an index of the plugins in the compiled classes, so the client can load the plugin classes directly instead
+ * of loading every class in the plugin package to look for descriptors. The class files are read with ASM, without
+ * loading them.
+ * <p>
+ * Each line of the index is one plugin, with tab separated fields: class name, descriptor config name and descriptor
+ * loadInSafeMode, which are what the client needs before loading the class.
+ */
+@Mojo(
+	name = "build-plugin-index",
+	defaultPhase = LifecyclePhase.PROCESS_CLASSES
+)
+public class PluginIndexMojo extends AbstractMojo
+{
+	private static final String PLUGIN_PACKAGE = "net/runelite/client/plugins";
+	private static final String PLUGIN = PLUGIN_PACKAGE + "/Plugin";
+	private static final String PLUGIN_DESCRIPTOR = "L" + PLUGIN_PACKAGE + "/PluginDescriptor;";
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	@Parameter(required = true)
+	private File indexFile;
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException
+	{
+		Path pluginDirectory = classesDirectory.toPath().resolve(PLUGIN_PACKAGE);
+		List<IndexedPlugin> plugins = new ArrayList<>();
+
+		try (Stream<Path> files = Files.walk(pluginDirectory))
+		{
+			List<Path> classFiles = files
+				.filter(p -> p.toString().endsWith(".class") && !p.getFileName().toString().contains("$"))
+				.collect(Collectors.toList());
+
+			for (Path classFile : classFiles)
+			{
+				try (InputStream in = Files.newInputStream(classFile))
+				{
+					IndexedPlugin plugin = new IndexedPlugin();
+					new ClassReader(in).accept(plugin, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+					if (plugin.isPlugin())
+					{
+						plugins.add(plugin);
+					}
+				}
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error reading plugin classes", ex);
+		}
+
+		plugins.sort(Comparator.comparing(p -> p.className));
+
+		indexFile.getParentFile().mkdirs();
+		try (BufferedWriter out = Files.newBufferedWriter(indexFile.toPath(), StandardCharsets.UTF_8))
+		{
+			for (IndexedPlugin plugin : plugins)
+			{
+				out.write(String.join("\t",
+					plugin.className,
+					plugin.configName,
+					Boolean.toString(plugin.loadInSafeMode)));
+				out.newLine();
+			}
+		}
+		catch (IOException ex)
+		{
+			throw new MojoExecutionException("error writing plugin index", ex);
+		}
+
+		getLog().info("Indexed " + plugins.size() + " plugins");
+	}
+
+	private static class IndexedPlugin extends ClassVisitor
+	{
+		private String className;
+		private String superName;
+		private boolean hasDescriptor;
+		// Annotation attributes left at their default aren't in the class file
+		private String configName = "";
+		private boolean loadInSafeMode = true;
+
+		IndexedPlugin()
+		{
+			super(Opcodes.ASM9);
+		}
+
+		boolean isPlugin()
+		{
+			return hasDescriptor && PLUGIN.equals(superName);
+		}
+
+		@Override
+		public void visit(int version, int access, String name, String signature, String superName, String[] interfaces)
+		{
+			this.className = name.replace('/', '.');
+			this.superName = superName;
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible)
+		{
+			if (!PLUGIN_DESCRIPTOR.equals(descriptor))
+			{
+				return null;
+			}
+
+			hasDescriptor = true;
+			return new AnnotationVisitor(Opcodes.ASM9)
+			{
+				@Override
+				public void visit(String attribute, Object value)
+				{
+					if ("configName".equals(attribute))
+					{
+						configName = (String) value;
+					}
+					else if ("loadInSafeMode".equals(attribute))
+					{
+						loadInSafeMode = (Boolean) value;
+					}
+				}
+			};
+		}
+	}
+}